@@ -0,0 +1,59 @@
+package pt.ipp.isep.dei;
+
+import pt.ipp.isep.dei.controller.simulation.InSimulation.HeadlessSimulationController;
+import pt.ipp.isep.dei.domain.Simulation.Simulation;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Runs a saved simulation until its end without the graphical interface.
+ * <p>
+ * Usage: {@code HeadlessSimulationApp [--parallel] <simulation file> [output directory]}.
+ * With {@code --parallel}, the production events of each day are triggered in parallel.
+ * The yearly financial results and the final state of the simulation are written to the output directory
+ * ("data/Results/" by default) and the throughput is printed in simulated days per second.
+ * The process exits with status 1 if the run fails and 2 on a usage error, so scripts can detect a failed run.
+ * </p>
+ */
+public class HeadlessSimulationApp {
+
+    /** Default directory where the results are written. */
+    private static final String DEFAULT_OUTPUT_DIRECTORY = "data/Results/";
+
+    /**
+     * Main method to load the simulation, run it and write its results.
+     *
+     * @param args the optional parallel flag, the simulation file and, optionally, the output directory
+     */
+    public static void main(String[] args) {
+        boolean parallelProduction = args.length > 0 && args[0].equals("--parallel");
+        int firstArgument = parallelProduction ? 1 : 0;
+        if (args.length <= firstArgument) {
+            System.err.println("Usage: HeadlessSimulationApp [--parallel] <simulation file> [output directory]");
+            System.exit(2);
+        }
+        String simulationFile = args[firstArgument];
+        String outputDirectory = args.length > firstArgument + 1 ? args[firstArgument + 1] : DEFAULT_OUTPUT_DIRECTORY;
+
+        Bootstrap bootstrap = new Bootstrap();
+        bootstrap.run();
+
+        try {
+            Simulation simulation = HeadlessSimulationController.loadSimulation(simulationFile);
+            HeadlessSimulationController controller = new HeadlessSimulationController(simulation);
+            controller.setParallelProduction(parallelProduction);
+            controller.run();
+            controller.writeResults(outputDirectory);
+
+            System.out.println(String.format(Locale.US, "Simulated %d days in %.3f s (%.1f simulated days per second)",
+                    controller.getSimulatedDays(),
+                    controller.getElapsedNanos() / 1_000_000_000.0,
+                    controller.getSimulatedDaysPerSecond()));
+            System.out.println("Results written to " + outputDirectory);
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("Simulation run failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package pt.ipp.isep.dei.controller._MDISC_;
 
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.ConnectedComponents;
 import pt.ipp.isep.dei.ui.console.utils.Utils_MDISC;
 
 import java.util.*;
@@ -11,11 +12,21 @@ import java.util.*;
  */
 public class ConnectivityBetweenStationsController {
 
+    private static final String ALL_LINES = "All";
+    private static final String ELECTRIFIED_LINES = "Electrified";
+    private static final String NON_ELECTRIFIED_LINES = "Non-Electrified";
+
     private List<Station> stationList;
     private List<RailwayLine> allLines;
     private List<RailwayLine> availableLines;
     private String scenarioName;
     private String selectedTrainType;
+    private String lineFilter = ALL_LINES;
+    private final Map<String, ConnectedComponents> componentsByFilter = new HashMap<>();
+    private ConnectedComponents customComponents;
+    private ConnectedComponents connectivityComponents;
+    private char[] stationTypes;
+    private final Map<String, Boolean> connectivityByExcludedTypes = new HashMap<>();
 
     // ===============================
     // ========= Constructor =========
@@ -55,6 +66,9 @@ public class ConnectivityBetweenStationsController {
      */
     public void setStationList(List<Station> stationList) {
         this.stationList = stationList;
+        this.stationTypes = null;
+        componentsByFilter.clear();
+        customComponents = null;
     }
 
     /**
@@ -91,6 +105,7 @@ public class ConnectivityBetweenStationsController {
      */
     public void setAvailableLines(List<RailwayLine> availableLines) {
         this.availableLines = availableLines;
+        useCustomLines();
     }
 
     /**
@@ -134,8 +149,9 @@ public class ConnectivityBetweenStationsController {
     // ===============================
 
     /**
-     * Filters the available railway lines based on the selected train type.
+     * Filters the available railway lines based on the selected train type, in a single pass.
      * If the type is "All", no filtering is performed.
+     * The connected components are kept for each filter, so filtering does not drop the ones already found.
      *
      * @throws IllegalArgumentException if the selected train type is null.
      */
@@ -147,13 +163,14 @@ public class ConnectivityBetweenStationsController {
             return;
         }
 
-        List<RailwayLine> currentAvailableLines = new ArrayList<>(availableLines);
-        for (RailwayLine line : currentAvailableLines) {
-            String type = line.getTypeEnum().getType();
-            if ((!selectedTrainType.contains("Non") && type.contains("Non")) ||
-                    (selectedTrainType.contains("Non") && !type.contains("Non"))) {
-                removeLineFromAvailableLines(line);
-            }
+        boolean nonElectrified = selectedTrainType.contains("Non");
+        availableLines.removeIf(line -> line.getTypeEnum().getType().contains("Non") != nonElectrified);
+
+        String filter = nonElectrified ? NON_ELECTRIFIED_LINES : ELECTRIFIED_LINES;
+        if (ALL_LINES.equals(lineFilter) || filter.equals(lineFilter)) {
+            lineFilter = filter;
+        } else {
+            useCustomLines();
         }
     }
 
@@ -168,6 +185,7 @@ public class ConnectivityBetweenStationsController {
             throw new IllegalArgumentException("Line is not available");
         }
         availableLines.remove(line);
+        useCustomLines();
     }
 
     /**
@@ -219,29 +237,24 @@ public class ConnectivityBetweenStationsController {
 
     /**
      * Checks if all valid stations are connected to each other.
+     * The answer for each set of impossible station types is kept until the stations or the available lines change.
      *
      * @param impossibleStationType array of characters representing station types that are impossible to connect.
      * @return {@code true} if all valid stations are connected, {@code false} otherwise.
      */
     public boolean verifyConnectivity(char[] impossibleStationType) {
-        int stationCount = stationList.size();
-        boolean[] isImpossible = new boolean[stationCount];
-        int[][] transitiveClosureMatrix = getTransitiveClosureMatrix();
-        fillImpossibleStations(impossibleStationType, stationList, isImpossible);
-
-        for (int i = 0; i < stationCount; i++) {
-            if (isImpossible[i]) continue;
-
-            for (int j = 0; j < stationCount; j++) {
-                if (isImpossible[j]) continue;
-
-                if (transitiveClosureMatrix[i][j] == 0) {
-                    return false; // Valid stations i and j are not connected
-                }
+        ConnectedComponents components = getConnectedComponents();
+        char[] sortedTypes = impossibleStationType.clone();
+        Arrays.sort(sortedTypes);
+
+        return connectivityByExcludedTypes.computeIfAbsent(new String(sortedTypes), key -> {
+            char[] types = getStationTypes();
+            boolean[] isImpossible = new boolean[types.length];
+            for (int i = 0; i < types.length; i++) {
+                isImpossible[i] = key.indexOf(types[i]) != -1;
             }
-        }
-
-        return true; // All valid stations are connected
+            return components.isFullyConnected(isImpossible);
+        });
     }
 
     /**
@@ -265,25 +278,70 @@ public class ConnectivityBetweenStationsController {
 
     /**
      * Calculates the transitive closure matrix to determine connectivity between stations.
+     * The railway lines are undirected, so the closure is read from the connected components of the stations.
      *
      * @return transitive closure matrix (int[][]).
      */
     public int[][] getTransitiveClosureMatrix() {
-        int size = stationList.size();
-        int[][] closure = buildAdjacencyMatrix();
-
-        // Warshall's algorithm
-        for (int k = 0; k < size; k++) {
-            for (int i = 0; i < size; i++) {
-                for (int j = 0; j < size; j++) {
-                    closure[i][j] = (closure[i][j] == 1 || (closure[i][k] == 1 && closure[k][j] == 1)) ? 1 : 0;
-                }
+        ConnectedComponents components = getConnectedComponents();
+        int size = components.getVertexCount();
+        int[][] closure = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                closure[i][j] = components.isConnected(i, j) ? 1 : 0;
             }
         }
-
         return closure;
     }
 
+    /**
+     * Gets the connected components of the stations through the available railway lines.
+     * They are found once for each line filter (all, electrified or non-electrified lines), and again
+     * only when the stations change or the available lines are changed directly.
+     *
+     * @return connected components of the stations.
+     */
+    public ConnectedComponents getConnectedComponents() {
+        ConnectedComponents components = lineFilter == null ? customComponents : componentsByFilter.get(lineFilter);
+        if (components == null || components.getVertexCount() != stationList.size()) {
+            int[] edgeEnds = Utils_MDISC.getStationPositionsInList(stationList, availableLines);
+            components = new ConnectedComponents(stationList.size(), edgeEnds);
+            if (lineFilter == null) {
+                customComponents = components;
+            } else {
+                componentsByFilter.put(lineFilter, components);
+            }
+        }
+        if (components != connectivityComponents) {
+            connectivityByExcludedTypes.clear();
+            connectivityComponents = components;
+        }
+        return components;
+    }
+
+    /**
+     * Gets the type of each station, the first character of its name.
+     *
+     * @return station types, in the order of the station list.
+     */
+    private char[] getStationTypes() {
+        if (stationTypes == null || stationTypes.length != stationList.size()) {
+            stationTypes = new char[stationList.size()];
+            for (int i = 0; i < stationTypes.length; i++) {
+                stationTypes[i] = stationList.get(i).getName().charAt(0);
+            }
+        }
+        return stationTypes;
+    }
+
+    /**
+     * Marks the available lines as changed directly, so their connected components are no longer those of a line filter.
+     */
+    private void useCustomLines() {
+        lineFilter = null;
+        customComponents = null;
+    }
+
     /**
      * Checks if two stations are connected according to the transitive closure.
      *
@@ -293,7 +351,6 @@ public class ConnectivityBetweenStationsController {
      * @throws IllegalArgumentException if any station is not in the list.
      */
     public boolean isConnectedTransitive(Station origin, Station destination) {
-        int[][] closure = getTransitiveClosureMatrix();
         int originIndex = stationList.indexOf(origin);
         int destinationIndex = stationList.indexOf(destination);
 
@@ -301,6 +358,6 @@ public class ConnectivityBetweenStationsController {
             throw new IllegalArgumentException("Stations not found in the list");
         }
 
-        return closure[originIndex][destinationIndex] == 1;
+        return getConnectedComponents().isConnected(originIndex, destinationIndex);
     }
 }
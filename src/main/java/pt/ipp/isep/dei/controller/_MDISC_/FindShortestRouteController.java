@@ -2,13 +2,19 @@ package pt.ipp.isep.dei.controller._MDISC_;
 
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.DistanceTable;
+import pt.ipp.isep.dei.domain._Others_.ShortestPathTree;
+import pt.ipp.isep.dei.domain._Others_.SparseGraph;
 import pt.ipp.isep.dei.ui.console.utils.Utils_MDISC;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 /**
@@ -24,6 +30,10 @@ public class FindShortestRouteController {
     private List<Station> reachableStations = new ArrayList<>();
     private List<Station> intermediateStations = new ArrayList<>();
     private Integer[][] weightMatrix;
+    private SparseGraph routeGraph;
+    private DistanceTable distanceTable;
+    private Map<String, Integer> stationIndices;
+    private Map<Long, List<RailwayLine>> filteredLinesByPair;
     private String csvPath;
     private List<Station> path = new ArrayList<>();
     private int lengthOfPath;
@@ -61,6 +71,7 @@ public class FindShortestRouteController {
                 filteredLines.add(line);
             }
         }
+        filteredLinesByPair = null;
     }
 
     /**
@@ -206,13 +217,13 @@ public class FindShortestRouteController {
             Station from = orderedStations.get(i);
             Station to = orderedStations.get(i + 1);
 
-            List<Station> subPath = dijkstra(stationsList, filteredLines, from, to);
+            List<Station> subPath = dijkstra(from, to);
             if (subPath.isEmpty()) {
                 valid = false;
                 break;
             }
 
-            totalDistance += calculatePathDistance(subPath, filteredLines);
+            totalDistance += calculatePathDistance(subPath);
 
             if (i > 0) {
                 subPath.removeFirst();
@@ -231,138 +242,169 @@ public class FindShortestRouteController {
     }
 
     /**
-     * Sets the list of reachable stations from the start station.
+     * Sets the list of reachable stations from the start station, found with a single search of the route graph.
      */
     public void setReachableStations() {
+        Integer startIndex = getStationIndices().get(startStation.getName());
+        if (startIndex == null) {
+            return;
+        }
+        boolean[] reachable = getRouteGraph().findReachable(startIndex);
         for (Station actualStation : stationsList) {
-            List<Station> path = dijkstra(stationsList, filteredLines, startStation, actualStation);
-            if (!path.isEmpty()) {
+            Integer index = stationIndices.get(actualStation.getName());
+            if (index != null && reachable[index]) {
                 reachableStations.add(actualStation);
             }
         }
     }
 
     /**
-     * Calculates the total distance of a path.
+     * Calculates the total distance of a path, using the first filtered line between each pair of stations.
      *
-     * @param path  List of stations in the path.
-     * @param lines List of railway lines.
+     * @param path List of stations in the path.
      * @return Total distance.
      */
-    private int calculatePathDistance(List<Station> path, List<RailwayLine> lines) {
+    private int calculatePathDistance(List<Station> path) {
         int total = 0;
         for (int i = 0; i < path.size() - 1; i++) {
-            Station s1 = path.get(i);
-            Station s2 = path.get(i + 1);
-            for (RailwayLine line : lines) {
-                if ((line.getStation1().getName().equals(s1.getName()) &&
-                        line.getStation2().getName().equals(s2.getName())) ||
-                        (line.getStation1().getName().equals(s2.getName()) &&
-                                line.getStation2().getName().equals(s1.getName()))) {
-                    total += line.getDistance();
-                    break;
-                }
+            List<RailwayLine> lines = getFilteredLinesBetween(path.get(i), path.get(i + 1));
+            if (!lines.isEmpty()) {
+                total += lines.getFirst().getDistance();
             }
         }
         return total;
     }
 
     /**
-     * Creates the weight matrix representing distances between stations.
+     * Creates the weighted graph of the distances between stations, vertex i being station i of the stations list.
+     * A station name repeated in the list stands for its last station, and the distance of the last railway line
+     * between two stations is kept.
      */
     public void createWeightMatrix() {
-        int n = stationsList.size();
-        weightMatrix = new Integer[n][n];
-
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                weightMatrix[i][j] = null;
-            }
+        stationIndices = new HashMap<>(stationsList.size() * 2);
+        for (int i = 0; i < stationsList.size(); i++) {
+            stationIndices.put(stationsList.get(i).getName(), i);
         }
 
+        // One edge for each pair of stations, as in a weight matrix, so a later line overwrites the distance.
+        Map<Long, Integer> edgesByPair = new HashMap<>();
+        int[] edgeEnds = new int[railwayLinesList.size() * 2];
+        int[] edgeWeights = new int[railwayLinesList.size()];
+        int edgeCount = 0;
         for (RailwayLine line : railwayLinesList) {
-            int index1 = -1, index2 = -1;
-            for (int i = 0; i < n; i++) {
-                if (stationsList.get(i).getName().equals(line.getStation1().getName())) {
-                    index1 = i;
-                }
-                if (stationsList.get(i).getName().equals(line.getStation2().getName())) {
-                    index2 = i;
+            Integer index1 = stationIndices.get(line.getStation1().getName());
+            Integer index2 = stationIndices.get(line.getStation2().getName());
+            if (index1 != null && index2 != null) {
+                Integer edge = edgesByPair.putIfAbsent(pairKey(index1, index2), edgeCount);
+                if (edge == null) {
+                    edge = edgeCount++;
+                    edgeEnds[2 * edge] = index1;
+                    edgeEnds[2 * edge + 1] = index2;
                 }
-            }
-            if (index1 != -1 && index2 != -1) {
-                weightMatrix[index1][index2] = line.getDistance();
-                weightMatrix[index2][index1] = line.getDistance();
+                edgeWeights[edge] = line.getDistance();
             }
         }
+        routeGraph = new SparseGraph(stationsList.size(),
+                Arrays.copyOf(edgeEnds, 2 * edgeCount), Arrays.copyOf(edgeWeights, edgeCount));
+        weightMatrix = null;
+        distanceTable = null;
+        filteredLinesByPair = null;
     }
 
     /**
-     * Dijkstra's algorithm to find the shortest path between two stations.
+     * Creates the table of the shortest paths between every pair of stations, so the legs of later routes are read
+     * from it instead of searched. Worth it when the routes of many stop-stations files are found over the same network.
+     */
+    public void createDistanceTable() {
+        distanceTable = new DistanceTable(getRouteGraph());
+    }
+
+    /**
+     * Dijkstra's algorithm to find the shortest path between two stations, read from the distance table when it was created.
      *
-     * @param stations     List of stations.
-     * @param railwayLines List of railway lines.
-     * @param start        Start station.
-     * @param end          End station.
-     * @return List of stations representing the shortest path.
-     */
-    private List<Station> dijkstra(List<Station> stations, List<RailwayLine> railwayLines, Station start, Station end) {
-        int n = stations.size();
-        int[] dist = new int[n];
-        boolean[] visited = new boolean[n];
-        int[] prev = new int[n];
-
-        for (int i = 0; i < n; i++) {
-            dist[i] = Integer.MAX_VALUE;
-            visited[i] = false;
-            prev[i] = -1;
+     * @param start Start station.
+     * @param end   End station.
+     * @return List of stations representing the shortest path, or an empty list if there is none.
+     */
+    private List<Station> dijkstra(Station start, Station end) {
+        Integer startIndex = getStationIndices().get(start.getName());
+        Integer endIndex = stationIndices.get(end.getName());
+        List<Station> path = new ArrayList<>();
+        if (startIndex == null || endIndex == null) {
+            return path;
         }
 
-        int startIndex = -1, endIndex = -1;
-        for (int i = 0; i < n; i++) {
-            if (stations.get(i).getName().equals(start.getName())) startIndex = i;
-            if (stations.get(i).getName().equals(end.getName())) endIndex = i;
+        int[] indices;
+        if (distanceTable != null) {
+            indices = distanceTable.getPath(startIndex, endIndex);
+        } else {
+            ShortestPathTree tree = getRouteGraph().findShortestPaths(startIndex, endIndex);
+            indices = tree.getPath(endIndex);
         }
+        for (int index : indices) {
+            path.add(stationsList.get(index));
+        }
+        return path;
+    }
 
-        if (startIndex == -1 || endIndex == -1) return new ArrayList<>();
-
-        dist[startIndex] = 0;
-
-        while (true) {
-            int u = -1, minDist = Integer.MAX_VALUE;
-            for (int i = 0; i < n; i++) {
-                if (!visited[i] && dist[i] < minDist) {
-                    minDist = dist[i];
-                    u = i;
-                }
-            }
-            if (u == -1 || u == endIndex) break;
+    /**
+     * Gets the weighted graph of the distances between stations, creating it if it was not created yet.
+     *
+     * @return the route graph.
+     */
+    private SparseGraph getRouteGraph() {
+        if (routeGraph == null) {
+            createWeightMatrix();
+        }
+        return routeGraph;
+    }
 
-            visited[u] = true;
+    /**
+     * Gets the index of each station name in the stations list, creating the route graph if it was not created yet.
+     *
+     * @return map from station names to their indices.
+     */
+    private Map<String, Integer> getStationIndices() {
+        getRouteGraph();
+        return stationIndices;
+    }
 
-            for (int v = 0; v < n; v++) {
-                if (weightMatrix[u][v] != null && !visited[v]) {
-                    int alt = dist[u] + weightMatrix[u][v];
-                    if (alt < dist[v]) {
-                        dist[v] = alt;
-                        prev[v] = u;
-                    }
+    /**
+     * Gets the filtered railway lines between two stations of the stations list, in the order of the filtered lines.
+     *
+     * @param station1 The first station.
+     * @param station2 The second station.
+     * @return List of the railway lines connecting the stations.
+     */
+    private List<RailwayLine> getFilteredLinesBetween(Station station1, Station station2) {
+        Map<String, Integer> indices = getStationIndices();
+        if (filteredLinesByPair == null) {
+            filteredLinesByPair = new HashMap<>();
+            for (RailwayLine line : filteredLines) {
+                Integer index1 = indices.get(line.getStation1().getName());
+                Integer index2 = indices.get(line.getStation2().getName());
+                if (index1 != null && index2 != null) {
+                    filteredLinesByPair.computeIfAbsent(pairKey(index1, index2), key -> new ArrayList<>()).add(line);
                 }
             }
         }
-
-        List<Station> path = new ArrayList<>();
-        int cur = endIndex;
-        while (cur != -1) {
-            path.addFirst(stations.get(cur));
-            cur = prev[cur];
-        }
-
-        if (!path.isEmpty() && path.getFirst().getName().equals(start.getName())) {
-            return path;
-        } else {
+        Integer index1 = indices.get(station1.getName());
+        Integer index2 = indices.get(station2.getName());
+        if (index1 == null || index2 == null) {
             return new ArrayList<>();
         }
+        return filteredLinesByPair.getOrDefault(pairKey(index1, index2), new ArrayList<>());
+    }
+
+    /**
+     * Builds the key of a pair of station indices, the same in both directions.
+     *
+     * @param index1 The first index.
+     * @param index2 The second index.
+     * @return The key of the pair.
+     */
+    private static long pairKey(int index1, int index2) {
+        return ((long) Math.min(index1, index2) << 32) | Math.max(index1, index2);
     }
 
     /**
@@ -416,18 +458,7 @@ public class FindShortestRouteController {
         List<RailwayLine> usedLines = new ArrayList<>();
 
         for (int i = 0; i < path.size() - 1; i++) {
-            Station s1 = path.get(i);
-            Station s2 = path.get(i + 1);
-
-            for (RailwayLine line : filteredLines) {
-                boolean matches =
-                        (line.getStation1().getName().equals(s1.getName()) && line.getStation2().getName().equals(s2.getName())) ||
-                                (line.getStation1().getName().equals(s2.getName()) && line.getStation2().getName().equals(s1.getName()));
-
-                if (matches) {
-                    usedLines.add(line);
-                }
-            }
+            usedLines.addAll(getFilteredLinesBetween(path.get(i), path.get(i + 1)));
         }
         return usedLines;
     }
@@ -477,9 +508,10 @@ public class FindShortestRouteController {
     }
 
     /**
-     * Sets the start, intermediate, and final stations automatically from a CSV file.
+     * Sets the start, intermediate, and final stations automatically from a CSV file, replacing those of the previous file.
      */
     public void setAutomaticStations() {
+        intermediateStations.clear();
         List<String> stationsNames = convertArrayToList(readCSV());
         startStation = findStationByName(stationsNames.getFirst());
         finalStation = findStationByName(stationsNames.getLast());
@@ -544,11 +576,20 @@ public class FindShortestRouteController {
     }
 
     /**
-     * Gets the weight matrix.
+     * Gets the weight matrix, built from the route graph only when it is first asked for.
      *
-     * @return The weight matrix.
+     * @return The weight matrix, with null where stations are not connected, or null if the route graph was not created.
      */
     public Integer[][] getWeightMatrix() {
+        if (weightMatrix == null && routeGraph != null) {
+            int n = routeGraph.getVertexCount();
+            weightMatrix = new Integer[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int index = routeGraph.getFirstNeighbor(i); index < routeGraph.getFirstNeighbor(i + 1); index++) {
+                    weightMatrix[i][routeGraph.getNeighbor(index)] = routeGraph.getNeighborWeight(index);
+                }
+            }
+        }
         return weightMatrix;
     }
 
@@ -2,6 +2,7 @@ package pt.ipp.isep.dei.controller._MDISC_;
 
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.SparseGraph;
 import pt.ipp.isep.dei.ui.console.utils.Utils_MDISC;
 
 import java.io.IOException;
@@ -227,6 +228,13 @@ public class MaintenanceRailwayLineController {
         return Utils_MDISC.buildAdjacencyMatrix(stationList, availableLines);
     }
 
+    /**
+     * Builds and returns the sparse graph of the railway network, vertex i being station i of the station list.
+     */
+    public SparseGraph buildStationGraph() {
+        return Utils_MDISC.buildStationGraph(stationList, availableLines);
+    }
+
     /**
      * Returns the railway line connecting two stations, if it exists.
      */
@@ -345,26 +353,18 @@ public class MaintenanceRailwayLineController {
     }
 
     private void findStationsWithOddDegree() {
-        int[][] adjacencyMatrix = buildAdjacencyMatrix();
-        for (int i = 0; i < adjacencyMatrix.length; i++) {
-            int degree = 0;
-            for (int j = 0; j < adjacencyMatrix[i].length; j++) {
-                degree += adjacencyMatrix[i][j];
-            }
-            if (degree % 2 != 0) {
+        SparseGraph graph = buildStationGraph();
+        for (int i = 0; i < graph.getVertexCount(); i++) {
+            if (graph.getDegree(i) % 2 != 0) {
                 oddDegreeStations.add(stationList.get(i).getName());
             }
         }
     }
 
     public void calculateVertexDegrees() {
-        int[][] adjacencyMatrix = buildAdjacencyMatrix();
-        for (int i = 0; i < adjacencyMatrix.length; i++) {
-            int degree = 0;
-            for (int j = 0; j < adjacencyMatrix[i].length; j++) {
-                degree += adjacencyMatrix[i][j];
-            }
-            vertexDegrees.add(degree);
+        SparseGraph graph = buildStationGraph();
+        for (int i = 0; i < graph.getVertexCount(); i++) {
+            vertexDegrees.add(graph.getDegree(i));
         }
     }
 
@@ -187,7 +187,8 @@ public class ShowMapForGUIController {
 
     /**
      * Handles mouse click events on the map grid.
-     * Opens the appropriate details window for the clicked map element.
+     * Opens the appropriate details window for each map element occupying the clicked cell,
+     * found in the occupancy grid of the map.
      *
      * @param map the map instance
      * @param mapGrid the GridPane of the map
@@ -195,7 +196,7 @@ public class ShowMapForGUIController {
      * @param finalCol the column index of the clicked cell
      */
     private void handleMouseClick(Map map, GridPane mapGrid, int finalRow, int finalCol) {
-        for (MapElement element : map.getMapElementsUsed()) {
+        for (MapElement element : map.getElementsAt(finalCol, finalRow)) {
             Position position = element.getPosition();
             if (position.getX() == finalCol && position.getY() == finalRow) {
                 if (element instanceof PrimaryIndustry primaryIndustryMap) {
@@ -290,28 +291,24 @@ public class ShowMapForGUIController {
                 }
             }
             if (element instanceof RailwayLine railwayLine) {
-                for (Position position1 : railwayLine.getPositionsRailwayLine()) {
-                    if (position1.getX() == finalCol && position1.getY() == finalRow) {
-                        try {
-                            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/railwayLineRelated/ShowRailwayLine/ShowRailwayLineDetailsInMap.fxml"));
-                            Parent root = loader.load();
-                            ShowRailwayLineDetailsInMapGUI showRailwayLineDetailsInMapGUI = loader.getController();
-                            showRailwayLineDetailsInMapGUI.setRailwayLine(railwayLine, simulation);
-                            Stage stage = new Stage();
-                            stage.setAlwaysOnTop(true);
-                            stage.initOwner(mapGrid.getScene().getWindow());
-                            stage.initModality(Modality.NONE);
-                            stage.setResizable(false);
-                            stage.setTitle("MABEC - Railway Line Details");
-                            stage.setScene(new Scene(root));
-                            stage.show();
-                            javafx.animation.PauseTransition delay = new javafx.animation.PauseTransition(javafx.util.Duration.seconds(20));
-                            delay.setOnFinished(event1 -> stage.close());
-                            delay.play();
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    }
+                try {
+                    FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/railwayLineRelated/ShowRailwayLine/ShowRailwayLineDetailsInMap.fxml"));
+                    Parent root = loader.load();
+                    ShowRailwayLineDetailsInMapGUI showRailwayLineDetailsInMapGUI = loader.getController();
+                    showRailwayLineDetailsInMapGUI.setRailwayLine(railwayLine, simulation);
+                    Stage stage = new Stage();
+                    stage.setAlwaysOnTop(true);
+                    stage.initOwner(mapGrid.getScene().getWindow());
+                    stage.initModality(Modality.NONE);
+                    stage.setResizable(false);
+                    stage.setTitle("MABEC - Railway Line Details");
+                    stage.setScene(new Scene(root));
+                    stage.show();
+                    javafx.animation.PauseTransition delay = new javafx.animation.PauseTransition(javafx.util.Duration.seconds(20));
+                    delay.setOnFinished(event1 -> stage.close());
+                    delay.play();
+                } catch (IOException e) {
+                    e.printStackTrace();
                 }
             }
             if (element instanceof City) {
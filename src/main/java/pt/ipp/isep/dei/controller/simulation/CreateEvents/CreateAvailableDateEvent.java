@@ -8,7 +8,6 @@ import pt.ipp.isep.dei.domain.Train.Carriage;
 import pt.ipp.isep.dei.domain.Train.Locomotive;
 import pt.ipp.isep.dei.repository.CarriageRepository;
 import pt.ipp.isep.dei.repository.Repositories;
-import pt.ipp.isep.dei.ui.console.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +22,7 @@ public class CreateAvailableDateEvent {
     private CarriageRepository carriageRepository;
     private List<Locomotive> locomotivesList;
     private List<Event> dateEventsList = new ArrayList<>();
+    private final EventNameIndex eventNameIndex = new EventNameIndex();
 
     /**
      * Constructor that initializes the class with a simulation.
@@ -50,23 +50,22 @@ public class CreateAvailableDateEvent {
      * Each event represents the year when a locomotive or carriage becomes available.
      */
     public void addEventsToList() {
+        eventNameIndex.startPass(dateEventsList);
         for (Locomotive locomotive : locomotivesList) {
             int startYearOperation = locomotive.getStartYearOperation();
             String nameEventLocomotive = locomotive.getName() + " available in " + startYearOperation;
-            StartLocomotiveOperationEvent startLocomotiveOperationEvent = new StartLocomotiveOperationEvent(
-                    nameEventLocomotive, 0, startYearOperation, simulation, locomotive);
-            if (!Utils.eventExistsByName(nameEventLocomotive, dateEventsList)) {
-                dateEventsList.add(startLocomotiveOperationEvent);
+            if (eventNameIndex.visit(nameEventLocomotive)) {
+                dateEventsList.add(new StartLocomotiveOperationEvent(
+                        nameEventLocomotive, 0, startYearOperation, simulation, locomotive));
             }
         }
 
         for (Carriage carriage : carriageRepository.getCarriageList()) {
             int startYearOperation = carriage.getStartYearOperation();
             String nameEventCarriage = carriage.getName() + " available in " + startYearOperation;
-            StartCarriageOperationEvent startCarriageOperationEvent = new StartCarriageOperationEvent(
-                    nameEventCarriage, 0, startYearOperation, simulation, carriage);
-            if (!Utils.eventExistsByName(nameEventCarriage, dateEventsList)) {
-                dateEventsList.add(startCarriageOperationEvent);
+            if (eventNameIndex.visit(nameEventCarriage)) {
+                dateEventsList.add(new StartCarriageOperationEvent(
+                        nameEventCarriage, 0, startYearOperation, simulation, carriage));
             }
         }
     }
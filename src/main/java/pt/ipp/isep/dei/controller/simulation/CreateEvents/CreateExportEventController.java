@@ -9,7 +9,6 @@ import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
-import pt.ipp.isep.dei.ui.console.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +25,7 @@ public class CreateExportEventController {
     private Map actualMap;
     private int actualTime;
     private List<Event> exportEventList = new ArrayList<>();
+    private final EventNameIndex eventNameIndex = new EventNameIndex();
 
     /**
      * Constructs a controller that manages the creation of export events
@@ -47,6 +47,7 @@ public class CreateExportEventController {
      * to create and register new export events. Duplicate events are avoided based on their name.
      */
     public void addEventsToList() {
+        eventNameIndex.startPass(exportEventList);
         for (Station station : stationList) {
             station.assignGenerationPosts(scenario);
             List<StationAssociations> associations = station.getAllAssociations();
@@ -56,9 +57,8 @@ public class CreateExportEventController {
                     List<ResourcesType> exports = mixedIndustryScenario.getExportedResources();
                     for (ResourcesType export : exports) {
                         String nameExportEvent = "Export of " + export.getName() + " from " + mixedIndustryScenario.getName() + " in " + station.getName();
-                        ExportEvent exportEvent = new ExportEvent(nameExportEvent, 1, actualTime, export, association);
-                        if (!Utils.eventExistsByName(nameExportEvent, exportEventList)) {
-                            exportEventList.add(exportEvent);
+                        if (eventNameIndex.visit(nameExportEvent)) {
+                            exportEventList.add(new ExportEvent(nameExportEvent, 1, actualTime, export, association));
                         }
                     }
                 }
@@ -66,9 +66,8 @@ public class CreateExportEventController {
                     List<ResourcesType> exports = houseBlock.getConsumableResources();
                     for (ResourcesType export : exports) {
                         String nameExportEvent = "Export of " + export.getName() + " from " + houseBlock.getCityName() + " House Block in " + houseBlock.getPosition().toString();
-                        ExportEvent exportEvent = new ExportEvent(nameExportEvent, 1, actualTime, export, houseBlock);
-                        if (!Utils.eventExistsByName(nameExportEvent, exportEventList)) {
-                            exportEventList.add(exportEvent);
+                        if (eventNameIndex.visit(nameExportEvent)) {
+                            exportEventList.add(new ExportEvent(nameExportEvent, 1, actualTime, export, houseBlock));
                         }
                     }
                 }
@@ -76,6 +75,16 @@ public class CreateExportEventController {
         }
     }
 
+    /**
+     * Removes the export events that were not produced by the last call to {@link #addEventsToList()},
+     * because their station or industry no longer exists.
+     *
+     * @return the list of removed events
+     */
+    public List<Event> removeObsoleteEvents() {
+        return eventNameIndex.removeNotVisited(exportEventList);
+    }
+
     /**
      * Returns the list of export events created by this controller.
      *
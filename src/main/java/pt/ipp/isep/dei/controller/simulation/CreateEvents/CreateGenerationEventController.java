@@ -12,7 +12,6 @@ import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
-import pt.ipp.isep.dei.ui.console.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +40,9 @@ public class CreateGenerationEventController {
     /** List of generation events created by this controller. */
     private List<Event> generationEventList = new ArrayList<>();
 
+    /** Name index of the generation event list. */
+    private final EventNameIndex eventNameIndex = new EventNameIndex();
+
     /**
      * Constructs the controller for creating generation events using a scenario and a given time.
      *
@@ -56,9 +58,11 @@ public class CreateGenerationEventController {
 
     /**
      * Iterates through all stations and their associated elements (HouseBlocks, PrimaryIndustries, MixedIndustries)
-     * to generate corresponding {@link GenerationEvent}s. Ensures events are not duplicated by name.
+     * to generate corresponding {@link GenerationEvent}s. Ensures events are not duplicated by name,
+     * and only builds the events that do not exist yet.
      */
     public void addEventsToList() {
+        eventNameIndex.startPass(generationEventList);
         for (Station station : stationList) {
             station.assignGenerationPosts(scenario);
             List<StationAssociations> associations = station.getAllAssociations();
@@ -68,12 +72,11 @@ public class CreateGenerationEventController {
                 if (association instanceof HouseBlock) {
                     List<HouseBlockResource> productions = scenario.getHouseBlockResourceList();
                     for (ResourcesType production : productions) {
-                        Resource resource = new Resource(production, production.getQuantityProduced());
                         String eventName = "Generation of " + production.getName() + " in " + ((HouseBlock) association).getId() + "House Block" + " in " + station.getName();
-                        GenerationEvent generationEvent = new GenerationEvent(eventName, production.getIntervalBetweenResourceGeneration(), actualTime, resource, association);
 
-                        if (!Utils.eventExistsByName(eventName, generationEventList)) {
-                            generationEventList.add(generationEvent);
+                        if (eventNameIndex.visit(eventName)) {
+                            Resource resource = new Resource(production, production.getQuantityProduced());
+                            generationEventList.add(new GenerationEvent(eventName, production.getIntervalBetweenResourceGeneration(), actualTime, resource, association));
                         }
                     }
                 }
@@ -82,13 +85,12 @@ public class CreateGenerationEventController {
                 if (association instanceof PrimaryIndustry) {
                     PrimaryIndustry primaryIndustryScenario = ((PrimaryIndustry) association).getClonedPrimaryIndustry(scenario);
                     ResourcesType primaryResource = primaryIndustryScenario.getPrimaryResource();
-                    Resource resource = new Resource(primaryResource, primaryResource.getQuantityProduced());
 
                     String eventName = "Generation of " + primaryResource.getName() + " in " + primaryIndustryScenario.getName() + " in " + station.getName();
 
-                    GenerationEvent generationEvent = new GenerationEvent(eventName, primaryIndustryScenario.getIntervalBetweenResourceGeneration(), actualTime, resource, association);
-                    if (!Utils.eventExistsByName(eventName, generationEventList)) {
-                        generationEventList.add(generationEvent);
+                    if (eventNameIndex.visit(eventName)) {
+                        Resource resource = new Resource(primaryResource, primaryResource.getQuantityProduced());
+                        generationEventList.add(new GenerationEvent(eventName, primaryIndustryScenario.getIntervalBetweenResourceGeneration(), actualTime, resource, association));
                     }
                 }
 
@@ -98,13 +100,11 @@ public class CreateGenerationEventController {
                     List<ResourcesType> importations = mixedIndustryScenario.getImportedResources();
 
                     for (ResourcesType production : importations) {
-                        Resource resource = new Resource(production, production.getQuantityProduced());
                         String eventName = "Generation of " + production.getName() + " in " + mixedIndustryScenario.getName() + " in " + station.getName();
 
-                        GenerationEvent generationEvent = new GenerationEvent(eventName, production.getIntervalBetweenResourceGeneration(), actualTime, resource, association);
-
-                        if (!Utils.eventExistsByName(eventName, generationEventList)) {
-                            generationEventList.add(generationEvent);
+                        if (eventNameIndex.visit(eventName)) {
+                            Resource resource = new Resource(production, production.getQuantityProduced());
+                            generationEventList.add(new GenerationEvent(eventName, production.getIntervalBetweenResourceGeneration(), actualTime, resource, association));
                         }
                     }
                 }
@@ -112,6 +112,16 @@ public class CreateGenerationEventController {
         }
     }
 
+    /**
+     * Removes the generation events that were not produced by the last call to {@link #addEventsToList()},
+     * because their station or industry no longer exists.
+     *
+     * @return the list of removed events
+     */
+    public List<Event> removeObsoleteEvents() {
+        return eventNameIndex.removeNotVisited(generationEventList);
+    }
+
     /**
      * Returns the list of {@link GenerationEvent}s created by this controller.
      *
@@ -5,7 +5,6 @@ import pt.ipp.isep.dei.domain.Event.RouteEvent;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Simulation.Route;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
-import pt.ipp.isep.dei.ui.console.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +21,7 @@ public class CreateRouteEventController {
     private Scenario scenario;
     private List<Route> routeList;
     private List<Event> routeEventList = new ArrayList<>();
+    private final EventNameIndex eventNameIndex = new EventNameIndex();
 
     /**
      * Constructs a controller for creating route events.
@@ -51,23 +51,32 @@ public class CreateRouteEventController {
      * Ensures that events are not duplicated by name.
      */
     public void addRouteEventsToList() {
+        eventNameIndex.startPass(routeEventList);
         for (Route route : routeList) {
             String eventName = route.getName();
-            RouteEvent routeEvent = new RouteEvent(
-                    eventName,
-                    1,
-                    simulation.getCurrentTime(),
-                    route,
-                    simulation,
-                    scenario
-            );
-
-            if (!Utils.eventExistsByName(eventName, routeEventList)) {
-                routeEventList.add(routeEvent);
+            if (eventNameIndex.visit(eventName)) {
+                routeEventList.add(new RouteEvent(
+                        eventName,
+                        1,
+                        simulation.getCurrentTime(),
+                        route,
+                        simulation,
+                        scenario
+                ));
             }
         }
     }
 
+    /**
+     * Removes the route events that were not produced by the last call to {@link #addRouteEventsToList()},
+     * because their route no longer exists.
+     *
+     * @return the list of removed events
+     */
+    public List<Event> removeObsoleteEvents() {
+        return eventNameIndex.removeNotVisited(routeEventList);
+    }
+
     /**
      * Returns the list of {@link RouteEvent}s created by this controller.
      *
@@ -10,7 +10,6 @@ import pt.ipp.isep.dei.domain.Resource.TransformingResource;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
-import pt.ipp.isep.dei.ui.console.utils.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +29,7 @@ public class CreateTransformingEventController {
     private Map actualMap;
     private int actualTime;
     private List<Event> transformingEventList = new ArrayList<>();
+    private final EventNameIndex eventNameIndex = new EventNameIndex();
 
     /**
      * Constructs a controller to generate transformation events for a given scenario and simulation time.
@@ -52,6 +52,7 @@ public class CreateTransformingEventController {
      * Ensures that no duplicate events (by name) are added.
      */
     public void addEventsToList() {
+        eventNameIndex.startPass(transformingEventList);
         for (Station station : stationList) {
             station.assignGenerationPosts(scenario);
             List<StationAssociations> associations = station.getAllAssociations();
@@ -70,16 +71,14 @@ public class CreateTransformingEventController {
                             " in " + transformingIndustryScenario.getName() +
                             " in " + station.getName();
 
-                    TranformingEvent transformingEvent = new TranformingEvent(
-                            nameTransformingEvent,
-                            1,
-                            actualTime,
-                            transformingResource,
-                            (TransformingIndustry) association
-                    );
-
-                    if (!Utils.eventExistsByName(nameTransformingEvent, transformingEventList)) {
-                        transformingEventList.add(transformingEvent);
+                    if (eventNameIndex.visit(nameTransformingEvent)) {
+                        transformingEventList.add(new TranformingEvent(
+                                nameTransformingEvent,
+                                1,
+                                actualTime,
+                                transformingResource,
+                                (TransformingIndustry) association
+                        ));
                     }
                 }
 
@@ -95,16 +94,14 @@ public class CreateTransformingEventController {
                                 " in " + mixedIndustryScenario.getName() +
                                 " in " + station.getName();
 
-                        TranformingEvent transformingEvent = new TranformingEvent(
-                                nameTransformingEvent,
-                                1,
-                                actualTime,
-                                (TransformingResource) transformingResource,
-                                (MixedIndustry) association
-                        );
-
-                        if (!Utils.eventExistsByName(nameTransformingEvent, transformingEventList)) {
-                            transformingEventList.add(transformingEvent);
+                        if (eventNameIndex.visit(nameTransformingEvent)) {
+                            transformingEventList.add(new TranformingEvent(
+                                    nameTransformingEvent,
+                                    1,
+                                    actualTime,
+                                    (TransformingResource) transformingResource,
+                                    (MixedIndustry) association
+                            ));
                         }
                     }
                 }
@@ -112,6 +109,16 @@ public class CreateTransformingEventController {
         }
     }
 
+    /**
+     * Removes the transforming events that were not produced by the last call to {@link #addEventsToList()},
+     * because their station or industry no longer exists.
+     *
+     * @return the list of removed events
+     */
+    public List<Event> removeObsoleteEvents() {
+        return eventNameIndex.removeNotVisited(transformingEventList);
+    }
+
     /**
      * Returns the list of generated transformation events.
      *
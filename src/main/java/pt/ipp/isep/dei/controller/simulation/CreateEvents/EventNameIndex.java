@@ -0,0 +1,73 @@
+package pt.ipp.isep.dei.controller.simulation.CreateEvents;
+
+import pt.ipp.isep.dei.domain.Event.Event;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Name index of an event list, shared by the event creators.
+ * Allows checking in constant time if an event was already created and finding the events
+ * that were not produced again by the last pass (their station, industry or route no longer exists).
+ */
+class EventNameIndex {
+
+    /** Names of the events in the indexed list. */
+    private final Set<String> eventNames = new HashSet<>();
+
+    /** Names of the events produced during the current pass. */
+    private final Set<String> visitedEventNames = new HashSet<>();
+
+    /** The event list the names were taken from. */
+    private List<Event> indexedEvents;
+
+    /**
+     * Starts a new creation pass over the given event list.
+     * The index is rebuilt only if the list was replaced or changed outside the creator.
+     *
+     * @param events the event list of the creator
+     */
+    void startPass(List<Event> events) {
+        if (events != indexedEvents || eventNames.size() != events.size()) {
+            indexedEvents = events;
+            eventNames.clear();
+            for (Event event : events) {
+                eventNames.add(event.getName());
+            }
+        }
+        visitedEventNames.clear();
+    }
+
+    /**
+     * Marks an event name as produced during the current pass.
+     *
+     * @param eventName the name of the event
+     * @return true if no event with this name exists yet and it must be created, false otherwise
+     */
+    boolean visit(String eventName) {
+        visitedEventNames.add(eventName);
+        return eventNames.add(eventName);
+    }
+
+    /**
+     * Removes from the event list every event that was not produced during the current pass.
+     *
+     * @param events the event list of the creator
+     * @return the list of removed events
+     */
+    List<Event> removeNotVisited(List<Event> events) {
+        List<Event> removedEvents = new ArrayList<>();
+        for (Event event : events) {
+            if (!visitedEventNames.contains(event.getName())) {
+                removedEvents.add(event);
+            }
+        }
+        if (!removedEvents.isEmpty()) {
+            events.removeIf(event -> !visitedEventNames.contains(event.getName()));
+            eventNames.retainAll(visitedEventNames);
+        }
+        return removedEvents;
+    }
+}
@@ -0,0 +1,177 @@
+package pt.ipp.isep.dei.controller.simulation.InSimulation;
+
+import pt.ipp.isep.dei.controller.simulation.SimulationRelated.SaveSimulationController;
+import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
+import pt.ipp.isep.dei.domain.Simulation.Simulation;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Controller responsible for running a simulation without the graphical interface.
+ * Runs the same daily sequence as the simulation window, but without waiting between days,
+ * and measures how many simulated days are processed per second.
+ */
+public class HeadlessSimulationController {
+
+    /** Header of the financial results file. */
+    private static final String FINANCIAL_RESULTS_HEADER = "year,earnings,track maintenance,train maintenance,fuel cost,total expenses,revenue";
+
+    /** Suffix of the financial results file name. */
+    private static final String FINANCIAL_RESULTS_SUFFIX = "-financial-results.csv";
+
+    /** The simulation being run. */
+    private final Simulation simulation;
+
+    /** Controller that runs the daily sequence of the simulation. */
+    private final RunSimulationController runSimulationController;
+
+    /** Number of days simulated by the last run. */
+    private int simulatedDays;
+
+    /** Duration of the last run in nanoseconds. */
+    private long elapsedNanos;
+
+    /**
+     * Constructs a headless controller for the given simulation.
+     *
+     * @param simulation the simulation to run
+     * @throws IllegalArgumentException if the simulation is null
+     */
+    public HeadlessSimulationController(Simulation simulation) {
+        if (simulation == null) {
+            throw new IllegalArgumentException("Simulation cannot be null");
+        }
+        this.simulation = simulation;
+        this.runSimulationController = new RunSimulationController();
+        runSimulationController.setSimulation(simulation);
+    }
+
+    /**
+     * Loads a saved simulation from a file.
+     *
+     * @param filePath the path of the simulation file
+     * @return the loaded simulation
+     * @throws IOException            if the file cannot be read
+     * @throws ClassNotFoundException if the file does not contain a simulation
+     */
+    public static Simulation loadSimulation(String filePath) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(filePath))) {
+            return (Simulation) in.readObject();
+        }
+    }
+
+    /**
+     * Runs the simulation from its current day until its end, without pauses between days.
+     */
+    public void run() {
+        long start = System.nanoTime();
+        int firstDay = simulation.getCurrentTime();
+
+        runSimulationController.startSimulation();
+        while (runSimulationController.getCurrentTime() < runSimulationController.getMaxTime()) {
+            runSimulationController.simulateDay();
+            runSimulationController.setCurrentTime(runSimulationController.getCurrentTime() + 1);
+        }
+
+        simulatedDays = simulation.getCurrentTime() - firstDay;
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Sets whether production events are triggered in parallel.
+     * The results are the same as in a serial run.
+     *
+     * @param parallelProduction true to trigger production events in parallel, false to trigger them serially
+     */
+    public void setParallelProduction(boolean parallelProduction) {
+        runSimulationController.setParallelProduction(parallelProduction);
+    }
+
+    /**
+     * Gets the number of days simulated by the last run.
+     *
+     * @return the number of simulated days
+     */
+    public int getSimulatedDays() {
+        return simulatedDays;
+    }
+
+    /**
+     * Gets the duration of the last run in nanoseconds.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the throughput of the last run.
+     *
+     * @return the number of simulated days per second
+     */
+    public double getSimulatedDaysPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return simulatedDays / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Gets the financial results of the simulation as CSV lines, one per year, preceded by a header.
+     *
+     * @return the CSV lines
+     */
+    public List<String> getFinancialResultLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(FINANCIAL_RESULTS_HEADER);
+        for (YearFinancialResult result : simulation.getFinancialResults()) {
+            lines.add(String.format(Locale.US, "%d,%d,%d,%d,%d,%d,%d",
+                    result.getYear(),
+                    result.getEarning(),
+                    result.getTrackMaintenance(),
+                    result.getTrainMaintenance(),
+                    result.getFuelCost(),
+                    result.getTotalExpenses(),
+                    result.getRevenue()));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the financial results and the final state of the simulation to the given directory.
+     * The financial results are written to "simulation-scenario-financial-results.csv" and the final state
+     * to "simulation-scenario.ser", which can be loaded like any saved simulation.
+     *
+     * @param directory the output directory, created if it does not exist
+     * @throws IOException if the financial results cannot be written
+     */
+    public void writeResults(String directory) throws IOException {
+        Path directoryPath = Paths.get(directory);
+        Files.createDirectories(directoryPath);
+
+        String baseName = simulation.getName() + "-" + simulation.getScenarioName();
+        Files.write(directoryPath.resolve(baseName + FINANCIAL_RESULTS_SUFFIX), getFinancialResultLines());
+
+        SaveSimulationController saveSimulationController = new SaveSimulationController();
+        saveSimulationController.setActualSimulation(simulation);
+        saveSimulationController.saveSimulation(directoryPath + "/");
+    }
+
+    /**
+     * Gets the simulation being run.
+     *
+     * @return the simulation
+     */
+    public Simulation getSimulation() {
+        return simulation;
+    }
+}
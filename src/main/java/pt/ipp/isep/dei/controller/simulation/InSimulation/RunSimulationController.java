@@ -6,22 +6,29 @@ import pt.ipp.isep.dei.controller.simulation.CreateEvents.*;
 import pt.ipp.isep.dei.domain.City.HouseBlock;
 import pt.ipp.isep.dei.domain.Event.*;
 import pt.ipp.isep.dei.domain.FinancialResult.Demand;
-import pt.ipp.isep.dei.domain.FinancialResult.UnloadCargoLogs;
+import pt.ipp.isep.dei.domain.FinancialResult.DeliveredCargoCounter;
+import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
 import pt.ipp.isep.dei.domain.Industry.Industry;
+import pt.ipp.isep.dei.domain.Log.LogCategory;
+import pt.ipp.isep.dei.domain.Log.LogRecord;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
+import pt.ipp.isep.dei.domain.Log.SimulationLog;
 import pt.ipp.isep.dei.domain.Map.Map;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Resource.Resource;
-import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 import pt.ipp.isep.dei.domain.Simulation.TimeDate;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
 import pt.ipp.isep.dei.domain.Train.Train;
-import pt.ipp.isep.dei.ui.console.utils.Utils;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Controller responsible for managing the simulation run.
@@ -34,10 +41,18 @@ public class RunSimulationController {
     private static final int NUMBER_OF_CARGO_TO_UPGRADE_DEMAND = 10;
     private static final int MAX_NUMBER_LOGS = 400;
 
+    private static final int DATE_EVENTS_LANE = 0;
+    private static final int GENERATION_EVENTS_LANE = 1;
+    private static final int TRANSFORMING_EVENTS_LANE = 2;
+    private static final int EXPORT_EVENTS_LANE = 3;
+    private static final int ROUTE_EVENTS_LANE = 4;
+
     private Simulation simulation;
     private Scenario actualScenario;
     private Map actualMap;
     private List<Event> events = new ArrayList<>();
+    private final EventScheduler eventScheduler = new EventScheduler();
+    private int registeredModificationCount = -1;
     private int maxTime;
 
     private final double[] allowedSpeeds = {0.1, 0.5, 1, 2, 3, 5, 10, 20};
@@ -45,17 +60,19 @@ public class RunSimulationController {
 
     private List<Station> stationsList = new ArrayList<>();
     private List<RailwayLine> railwayLinesList = new ArrayList<>();
+    private List<Event> dateEventList = new ArrayList<>();
     private List<Event> generationEventList = new ArrayList<>();
     private List<Event> transformingEventList = new ArrayList<>();
     private List<Event> exportEventList = new ArrayList<>();
     private List<Event> routeEventList = new ArrayList<>();
-    private List<String> logs = new ArrayList<>();
+    private final SimulationLog logs = new SimulationLog(MAX_NUMBER_LOGS);
 
     private boolean dateAlertLogs = true;
     private boolean exportAlertLogs = true;
     private boolean generationAlertLogs = true;
     private boolean transformingAlertLogs = true;
     private boolean routeAlertLogs = true;
+    private boolean parallelProduction = false;
 
     /**
      * Default constructor.
@@ -118,7 +135,7 @@ public class RunSimulationController {
      * @return the current {@link TimeDate}
      */
     public TimeDate getActualDate() {
-        return Utils.convertToDate(simulation.getCurrentTime());
+        return simulation.getCurrentDate();
     }
 
     /**
@@ -150,60 +167,153 @@ public class RunSimulationController {
 
     /**
      * Checks and triggers events scheduled for the current simulation time.
+     * Only the events due today are taken from the scheduler; events that move their
+     * next generation date while triggering are re-queued by the scheduler itself.
+     * In parallel production mode, the production events are triggered by {@link #triggerProductionInParallel(List, LogRecordList)}.
+     * The records of the day are only created for the categories shown, and are added to the log with the day header.
      */
     public void checkEvents() {
-        List<String> newLogs = new ArrayList<>();
-        for (Event event : events) {
-            if (simulation.getCurrentTime() == event.getNextGenerationDate()) {
-                newLogs.addAll(filterLogs(event.trigger(), event));
+        int day = simulation.getCurrentTime();
+        LogRecordList dayLogs = new LogRecordList(day, getRecordedCategories(), true);
+        List<Event> dueEvents = eventScheduler.pollDueEvents(day);
+        if (parallelProduction) {
+            // Consecutive production events are triggered together; the other events keep their serial order
+            List<Event> productionEvents = new ArrayList<>();
+            for (Event event : dueEvents) {
+                if (getProductionAssociation(event) != null) {
+                    productionEvents.add(event);
+                } else {
+                    if (!productionEvents.isEmpty()) {
+                        triggerProductionInParallel(productionEvents, dayLogs);
+                        productionEvents.clear();
+                    }
+                    event.trigger(dayLogs);
+                }
             }
+            triggerProductionInParallel(productionEvents, dayLogs);
+        } else {
+            for (Event event : dueEvents) {
+                event.trigger(dayLogs);
+            }
+        }
+        if (!dayLogs.isEmpty()) {
+            logs.add(new LogRecord(LogTemplate.DAY_SEPARATOR, day, null, null, 0));
+            logs.add(new LogRecord(LogTemplate.DAY_TITLE, day, null, null, 0));
+            logs.add(new LogRecord(LogTemplate.DAY_SEPARATOR, day, null, null, 0));
+            logs.addAll(dayLogs.getRecords());
+            logs.add(new LogRecord(LogTemplate.DAY_END, day, null, null, 0));
+        }
+    }
+
+    /**
+     * Triggers production events (generation, transformation and export) on the common fork-join pool.
+     * The events are partitioned by the industry or house block they change, and each partition is triggered
+     * on a single thread in the given order, so every inventory ends in the same state as in a serial run.
+     * Every event records to its own list, and the lists are merged into the day records in the given order,
+     * so the log is identical to the log of a serial run.
+     *
+     * @param productionEvents the production events due today, in trigger order
+     * @param dayLogs          the records of the day
+     */
+    private void triggerProductionInParallel(List<Event> productionEvents, LogRecordList dayLogs) {
+        if (productionEvents.isEmpty()) {
+            return;
         }
-        if (!newLogs.isEmpty()) {
-            newLogs.addFirst("==========================================");
-            newLogs.addFirst(" 🕒 Simulation Day " + getActualDate());
-            newLogs.addFirst("==========================================");
-            newLogs.add(" ");
+
+        IdentityHashMap<StationAssociations, List<Integer>> partitions = new IdentityHashMap<>();
+        for (int i = 0; i < productionEvents.size(); i++) {
+            partitions.computeIfAbsent(getProductionAssociation(productionEvents.get(i)), association -> new ArrayList<>()).add(i);
+        }
+
+        int day = simulation.getCurrentTime();
+        Set<LogCategory> recordedCategories = getRecordedCategories();
+        List<LogRecordList> eventLogs = new ArrayList<>(productionEvents.size());
+        for (int i = 0; i < productionEvents.size(); i++) {
+            eventLogs.add(new LogRecordList(day, recordedCategories, false));
         }
-        logs.addAll(newLogs);
-        while (logs.size() > MAX_NUMBER_LOGS) {
-            logs.removeFirst();
+        partitions.values().parallelStream().forEach(partition -> {
+            for (int index : partition) {
+                productionEvents.get(index).trigger(eventLogs.get(index));
+            }
+        });
+
+        for (LogRecordList logsOfEvent : eventLogs) {
+            dayLogs.addAll(logsOfEvent);
         }
     }
 
     /**
-     * Filters logs based on event type and alert flags.
+     * Gets the industry or house block whose inventory is changed by a production event.
      *
-     * @param logs  the logs to filter
-     * @param event the event that generated the logs
-     * @return a filtered list of logs
+     * @param event the event
+     * @return the changed industry or house block, or null if the event is not a production event
      */
-    public List<String> filterLogs(List<String> logs, Event event) {
-        if ((event instanceof StartCarriageOperationEvent || event instanceof StartLocomotiveOperationEvent) && dateAlertLogs) {
-            return logs;
+    private StationAssociations getProductionAssociation(Event event) {
+        if (event instanceof GenerationEvent generationEvent) {
+            return generationEvent.getStationAssociation();
         }
-        if (event instanceof ExportEvent && exportAlertLogs) {
-            return logs;
+        if (event instanceof TranformingEvent tranformingEvent) {
+            return tranformingEvent.getIndustry();
         }
-        if (event instanceof GenerationEvent && generationAlertLogs) {
-            return logs;
+        if (event instanceof ExportEvent exportEvent) {
+            return exportEvent.getAssociation();
         }
-        if (event instanceof TranformingEvent && transformingAlertLogs) {
-            return logs;
+        return null;
+    }
+
+    /**
+     * Checks if production events are triggered in parallel.
+     *
+     * @return true if production events are triggered in parallel, false otherwise
+     */
+    public boolean isParallelProduction() {
+        return parallelProduction;
+    }
+
+    /**
+     * Sets whether production events are triggered in parallel.
+     *
+     * @param parallelProduction true to trigger production events in parallel, false to trigger them serially
+     */
+    public void setParallelProduction(boolean parallelProduction) {
+        this.parallelProduction = parallelProduction;
+    }
+
+    /**
+     * Gets the log categories shown, according to the alert flags.
+     * Day headers and reports are always shown.
+     *
+     * @return the set of shown categories
+     */
+    private Set<LogCategory> getRecordedCategories() {
+        Set<LogCategory> categories = EnumSet.of(LogCategory.DAY, LogCategory.REPORT);
+        if (dateAlertLogs) {
+            categories.add(LogCategory.DATE);
         }
-        if (event instanceof RouteEvent && routeAlertLogs) {
-            return logs;
+        if (exportAlertLogs) {
+            categories.add(LogCategory.EXPORT);
         }
-        return new ArrayList<>();
+        if (generationAlertLogs) {
+            categories.add(LogCategory.GENERATION);
+        }
+        if (transformingAlertLogs) {
+            categories.add(LogCategory.TRANSFORMING);
+        }
+        if (routeAlertLogs) {
+            categories.add(LogCategory.ROUTE);
+        }
+        return categories;
     }
 
     /**
-     * Returns the list of logs generated during the simulation.
+     * Returns the text of the logs kept from the simulation.
      *
      * @return a list of log messages
      */
     public List<String> getLogs() {
         List<String> safeLogs = new ArrayList<>();
-        for (String log : logs) {
+        for (LogRecord record : logs.getRecordsFrom(logs.getFirstSequence())) {
+            String log = record.render();
             if (log != null && !log.isEmpty()) {
                 safeLogs.add(log);
             }
@@ -211,6 +321,15 @@ public class RunSimulationController {
         return safeLogs;
     }
 
+    /**
+     * Returns the log of the simulation, whose records are rendered only when shown.
+     *
+     * @return the simulation log
+     */
+    public SimulationLog getSimulationLog() {
+        return logs;
+    }
+
     /**
      * Returns the ID of the map associated with the current scenario.
      *
@@ -248,12 +367,17 @@ public class RunSimulationController {
     }
 
     /**
-     * Sets the list of events for the simulation.
+     * Sets the list of events for the simulation and reschedules them.
      *
      * @param events the list of events to set
      */
     public void setEvents(List<Event> events) {
         this.events = events;
+        eventScheduler.clear();
+        registeredModificationCount = -1;
+        for (Event event : events) {
+            eventScheduler.schedule(event, DATE_EVENTS_LANE);
+        }
     }
 
     /**
@@ -308,146 +432,241 @@ public class RunSimulationController {
     }
 
     /**
-     * Refreshes and rebuilds the list of events for the simulation.
+     * Prepares the simulation to run, placing the stations and railway lines on the map and creating the events.
+     */
+    public void startSimulation() {
+        initializeMapModifications();
+        refreshEvents();
+    }
+
+    /**
+     * Simulates the current day: starts a new financial year on the 1st of January, charges the train and
+     * railway line maintenance, triggers the events due today and refreshes the events.
+     * The current time is not advanced.
+     *
+     * @return true if a new financial year was started, false otherwise
+     */
+    public boolean simulateDay() {
+        TimeDate actualDate = getActualDate();
+        boolean newYear = actualDate.getDay() == 1 && actualDate.getMonth() == 1;
+        if (newYear) {
+            createNewYearFinancialResult();
+            updateDemand();
+        }
+
+        if (!simulation.getTrainList().isEmpty()) {
+            trainMaintenanceCost();
+        }
+
+        if (!simulation.getRailwayLines().isEmpty()) {
+            railwayLineMaintenanceCost();
+        }
+
+        checkEvents();
+        refreshEvents();
+        setAllUpdateInventoryFalse();
+        return newYear;
+    }
+
+    /**
+     * Creates a new year financial result and logs the previous year's report.
+     */
+    public void createNewYearFinancialResult() {
+        List<YearFinancialResult> yearFinancialResultList = simulation.getFinancialResults();
+        yearFinancialResultList.add(new YearFinancialResult(getActualDate().getYear()));
+
+        if (yearFinancialResultList.size() > 1) {
+            YearFinancialResult oldYear = yearFinancialResultList.get(yearFinancialResultList.size() - 2);
+
+            addReport(LogTemplate.YEAR_REPORT_SEPARATOR);
+            addReport(LogTemplate.YEAR_REPORT_TITLE);
+            addReport(LogTemplate.YEAR_REPORT_SEPARATOR);
+            addReport(LogTemplate.YEAR_REPORT_YEAR, null, null, oldYear.getYear());
+            addReport(LogTemplate.YEAR_REPORT_DIVIDER);
+            addReport(LogTemplate.YEAR_REPORT_EARNINGS, null, null, oldYear.getEarning());
+            addReport(LogTemplate.YEAR_REPORT_TRACK_MAINTENANCE, null, null, oldYear.getTrackMaintenance());
+            addReport(LogTemplate.YEAR_REPORT_TRAIN_MAINTENANCE, null, null, oldYear.getTrainMaintenance());
+            addReport(LogTemplate.YEAR_REPORT_FUEL_COST, null, null, oldYear.getFuelCost());
+            addReport(LogTemplate.YEAR_REPORT_DIVIDER);
+            addReport(LogTemplate.YEAR_REPORT_TOTAL_EXPENSES, null, null, oldYear.getTotalExpenses());
+            addReport(LogTemplate.YEAR_REPORT_REVENUE, null, null, oldYear.getRevenue());
+            addReport(LogTemplate.YEAR_REPORT_END);
+        }
+    }
+
+    /**
+     * Refreshes the list of events for the simulation.
+     * The events are only rebuilt when the stations or routes of the simulation have changed since the
+     * last refresh; the events of removed stations, industries and routes are dropped from the scheduler.
      */
     public void refreshEvents() {
+        if (registeredModificationCount == simulation.getModificationCount()) {
+            return;
+        }
+        registeredModificationCount = simulation.getModificationCount();
         events.clear();
 
         CreateAvailableDateEvent createAvailableDateEvent = new CreateAvailableDateEvent(simulation);
+        createAvailableDateEvent.setDateEventsList(dateEventList);
         createAvailableDateEvent.addEventsToList();
-        List<Event> dateEventsList = new ArrayList<>(createAvailableDateEvent.getDateEventsList());
-        events.addAll(dateEventsList);
+        dateEventList = createAvailableDateEvent.getDateEventsList();
+        events.addAll(dateEventList);
+        scheduleEvents(dateEventList, DATE_EVENTS_LANE);
 
         CreateGenerationEventController createGenerationEventController = new CreateGenerationEventController(actualScenario, simulation.getCurrentTime());
         createGenerationEventController.setGenerationEventList(generationEventList);
         createGenerationEventController.addEventsToList();
-        generationEventList = new ArrayList<>(createGenerationEventController.getGenerationEventList());
+        unscheduleEvents(createGenerationEventController.removeObsoleteEvents());
+        generationEventList = createGenerationEventController.getGenerationEventList();
         events.addAll(generationEventList);
+        scheduleEvents(generationEventList, GENERATION_EVENTS_LANE);
 
         CreateTransformingEventController createTransformingEventController = new CreateTransformingEventController(actualScenario, simulation.getCurrentTime());
         createTransformingEventController.setTransformingEventList(transformingEventList);
         createTransformingEventController.addEventsToList();
-        transformingEventList = new ArrayList<>(createTransformingEventController.getTransformingEventList());
+        unscheduleEvents(createTransformingEventController.removeObsoleteEvents());
+        transformingEventList = createTransformingEventController.getTransformingEventList();
         events.addAll(transformingEventList);
+        scheduleEvents(transformingEventList, TRANSFORMING_EVENTS_LANE);
 
         CreateExportEventController createExportEventController = new CreateExportEventController(actualScenario, simulation.getCurrentTime());
         createExportEventController.setExportEventList(exportEventList);
         createExportEventController.addEventsToList();
-        exportEventList = new ArrayList<>(createExportEventController.getExportEventList());
+        unscheduleEvents(createExportEventController.removeObsoleteEvents());
+        exportEventList = createExportEventController.getExportEventList();
         events.addAll(exportEventList);
+        scheduleEvents(exportEventList, EXPORT_EVENTS_LANE);
 
         CreateRouteEventController createRouteEventController = new CreateRouteEventController(simulation, actualScenario);
         createRouteEventController.setRouteEventList(routeEventList);
         createRouteEventController.addRouteEventsToList();
-        routeEventList = new ArrayList<>(createRouteEventController.getRouteEventList());
+        unscheduleEvents(createRouteEventController.removeObsoleteEvents());
+        routeEventList = createRouteEventController.getRouteEventList();
         events.addAll(routeEventList);
+        scheduleEvents(routeEventList, ROUTE_EVENTS_LANE);
+    }
+
+    /**
+     * Registers the events of a lane in the scheduler. Events that are already scheduled are kept as they are.
+     *
+     * @param laneEvents the event list of the lane
+     * @param lane       the scheduler lane of the events
+     */
+    private void scheduleEvents(List<Event> laneEvents, int lane) {
+        for (Event event : laneEvents) {
+            eventScheduler.schedule(event, lane);
+        }
+    }
+
+    /**
+     * Removes events from the scheduler.
+     *
+     * @param removedEvents the events to remove
+     */
+    private void unscheduleEvents(List<Event> removedEvents) {
+        for (Event event : removedEvents) {
+            eventScheduler.unschedule(event);
+        }
     }
 
     /**
-     * Adds a log entry to the logs list.
+     * Adds a report line to the simulation log.
      *
-     * @param s the log message to add
+     * @param template the template of the line
+     * @param subject  the train or station name of the line, or null
+     * @param resource the second station name of the line, or null
+     * @param quantity the amount of the line
      */
-    public void addLogs(String s) {
-        logs.add(s);
+    private void addReport(LogTemplate template, String subject, String resource, int quantity) {
+        logs.add(new LogRecord(template, simulation.getCurrentTime(), subject, resource, quantity));
+    }
+
+    /**
+     * Adds a report line without values to the simulation log.
+     *
+     * @param template the template of the line
+     */
+    private void addReport(LogTemplate template) {
+        addReport(template, null, null, 0);
     }
 
     /**
      * Calculates and applies train maintenance costs for the current simulation day.
+     * Only the trains acquired on this day of a previous year are charged, as given by the maintenance schedule.
      * Updates the simulation's budget and logs the maintenance actions.
      */
     public void trainMaintenanceCost() {
-        int maintenanceCount = 0;
+        List<Train> dueTrains = simulation.getMaintenanceSchedule().getTrainsDueOn(simulation.getCurrentDate());
+        if (dueTrains.isEmpty()) {
+            return;
+        }
+        int[] costs = new int[dueTrains.size()];
         int totalCost = 0;
 
-        for (Train train : simulation.getTrainList()) {
-            if (train.getAcquisitionDate().getMonth() == Utils.convertToDate(simulation.getCurrentTime()).getMonth() &&
-                    train.getAcquisitionDate().getDay() == Utils.convertToDate(simulation.getCurrentTime()).getDay() &&
-                    train.getAcquisitionDate().getYear() != Utils.convertToDate(simulation.getCurrentTime()).getYear()) {
-
-                int cost = train.getLocomotive().getMaintenanceCost();
-                simulation.setActualMoney(simulation.getActualMoney() - cost);
-
-                maintenanceCount++;
-                totalCost += cost;
-            }
+        for (int i = 0; i < dueTrains.size(); i++) {
+            costs[i] = dueTrains.get(i).getLocomotive().getMaintenanceCost();
+            simulation.setActualMoney(simulation.getActualMoney() - costs[i]);
+            totalCost += costs[i];
         }
 
         simulation.getActualFinancialResult().setTrainMaintenance(simulation.getActualFinancialResult().getTrainMaintenance() - totalCost);
 
         if (totalCost != 0) {
-            addLogs("===============================================");
-            addLogs("             🚂 Train Maintenance Day           ");
-            addLogs("===============================================");
-
-            for (Train train : simulation.getTrainList()) {
-                if (train.getAcquisitionDate().getMonth() == Utils.convertToDate(simulation.getCurrentTime()).getMonth() &&
-                        train.getAcquisitionDate().getDay() == Utils.convertToDate(simulation.getCurrentTime()).getDay()) {
-
-                    int cost = train.getLocomotive().getMaintenanceCost();
+            addReport(LogTemplate.MAINTENANCE_SEPARATOR);
+            addReport(LogTemplate.TRAIN_MAINTENANCE_TITLE);
+            addReport(LogTemplate.MAINTENANCE_SEPARATOR);
 
-                    addLogs("Train Name: " + train.getLocomotive().getName() +
-                            " | Maintenance Cost: 💰 " + cost);
-                }
+            for (int i = 0; i < dueTrains.size(); i++) {
+                addReport(LogTemplate.TRAIN_MAINTENANCE, dueTrains.get(i).getLocomotive().getName(), null, costs[i]);
             }
-            addLogs("-----------------------------------------------");
-            addLogs(" Total Trains Maintained: " + maintenanceCount);
-            addLogs(" Total Maintenance Cost:  💰 " + totalCost);
-            addLogs(" Remaining Budget:        💰 " + simulation.getActualMoney());
-            addLogs("===============================================");
-            addLogs("");
+            addReport(LogTemplate.MAINTENANCE_DIVIDER);
+            addReport(LogTemplate.TRAIN_MAINTENANCE_COUNT, null, null, dueTrains.size());
+            addReport(LogTemplate.TRAIN_MAINTENANCE_TOTAL, null, null, totalCost);
+            addReport(LogTemplate.TRAIN_MAINTENANCE_BUDGET, null, null, simulation.getActualMoney());
+            addReport(LogTemplate.MAINTENANCE_SEPARATOR);
+            addReport(LogTemplate.REPORT_SPACER);
         }
     }
 
     /**
      * Calculates and applies railway line maintenance costs for the current simulation day.
+     * Only the railway lines built on this day of a previous year are charged, as given by the maintenance schedule.
      * Updates the simulation's budget and logs the maintenance actions.
      */
     public void railwayLineMaintenanceCost() {
-        int maintenanceCount = 0;
+        List<RailwayLine> dueRailwayLines = simulation.getMaintenanceSchedule().getRailwayLinesDueOn(simulation.getCurrentDate());
+        if (dueRailwayLines.isEmpty()) {
+            return;
+        }
+        int[] costs = new int[dueRailwayLines.size()];
         int totalCost = 0;
 
-        for (RailwayLine railwayLine : simulation.getRailwayLines()) {
-            if (railwayLine.getConstructionDate().getMonth() == Utils.convertToDate(simulation.getCurrentTime()).getMonth() &&
-                    railwayLine.getConstructionDate().getDay() == Utils.convertToDate(simulation.getCurrentTime()).getDay() &&
-                    railwayLine.getConstructionDate().getYear() != Utils.convertToDate(simulation.getCurrentTime()).getYear()) {
-
-                int cost = railwayLine.getRailwayType().getMaintenanceCost() * railwayLine.getPositionsRailwayLine().size();
-                simulation.setActualMoney(simulation.getActualMoney() - cost);
-
-                maintenanceCount++;
-                totalCost += cost;
-            }
+        for (int i = 0; i < dueRailwayLines.size(); i++) {
+            RailwayLine railwayLine = dueRailwayLines.get(i);
+            costs[i] = railwayLine.getRailwayType().getMaintenanceCost() * railwayLine.getPositionsRailwayLine().size();
+            simulation.setActualMoney(simulation.getActualMoney() - costs[i]);
+            totalCost += costs[i];
         }
 
         simulation.getActualFinancialResult().setTrackMaintenance(simulation.getActualFinancialResult().getTrackMaintenance() - totalCost);
 
         if (totalCost != 0) {
-            addLogs("===============================================");
-            addLogs("         🛤 Railway Maintenance Day            ");
-            addLogs("===============================================");
-
-            for (RailwayLine railwayLine : simulation.getRailwayLines()) {
-                if (totalCost != 0) {
-                    addLogs("");
-                }
-                if (railwayLine.getConstructionDate().getMonth() == Utils.convertToDate(simulation.getCurrentTime()).getMonth() &&
-                        railwayLine.getConstructionDate().getDay() == Utils.convertToDate(simulation.getCurrentTime()).getDay() &&
-                        railwayLine.getConstructionDate().getYear() != Utils.convertToDate(simulation.getCurrentTime()).getYear()) {
-
-                    int cost = railwayLine.getRailwayType().getMaintenanceCost() * railwayLine.getPositionsRailwayLine().size();
-
-                    addLogs("Railway Line: \n" + railwayLine.getStation1().getName() + " \uD83D\uDD01 " + railwayLine.getStation2().getName() +
-                            "\nMaintenance Cost: 💰 " + cost);
-                }
+            addReport(LogTemplate.MAINTENANCE_SEPARATOR);
+            addReport(LogTemplate.RAILWAY_MAINTENANCE_TITLE);
+            addReport(LogTemplate.MAINTENANCE_SEPARATOR);
+
+            for (int i = 0; i < dueRailwayLines.size(); i++) {
+                RailwayLine railwayLine = dueRailwayLines.get(i);
+                addReport(LogTemplate.REPORT_SPACER);
+                addReport(LogTemplate.RAILWAY_LINE_MAINTENANCE, railwayLine.getStation1().getName(), railwayLine.getStation2().getName(), costs[i]);
             }
 
-            addLogs("-----------------------------------------------");
-            addLogs(" Total Railway Lines Maintained: " + maintenanceCount);
-            addLogs(" Total Maintenance Cost:         💰 " + totalCost);
-            addLogs(" Remaining Budget:               💰 " + simulation.getActualMoney());
-            addLogs("===============================================");
-            addLogs("");
+            addReport(LogTemplate.MAINTENANCE_DIVIDER);
+            addReport(LogTemplate.RAILWAY_MAINTENANCE_COUNT, null, null, dueRailwayLines.size());
+            addReport(LogTemplate.RAILWAY_MAINTENANCE_TOTAL, null, null, totalCost);
+            addReport(LogTemplate.RAILWAY_MAINTENANCE_BUDGET, null, null, simulation.getActualMoney());
+            addReport(LogTemplate.MAINTENANCE_SEPARATOR);
+            addReport(LogTemplate.REPORT_SPACER);
         }
     }
 
@@ -456,87 +675,27 @@ public class RunSimulationController {
     // ############################################
 
     /**
-     * Updates the demand for each station based on the resources delivered.
-     * Clears the unload cargo logs at the end of each year.
+     * Updates the demand for each station based on the resources delivered during the year,
+     * read from the delivered cargo counters in a single pass over the stations and their demands.
+     * Clears the counters and the unload cargo logs at the end of each year.
      */
     public void updateDemand() {
-        List<Resource> resourcesFromStation;
+        DeliveredCargoCounter deliveredCargo = simulation.getDeliveredCargo();
 
         for (Station station : simulation.getStations()) {
-            resourcesFromStation = findResourcesForStation(station);
-            updateInStationDemand(station, resourcesFromStation);
-            resourcesFromStation.clear();
-        }
-
-        // Clear the list at the end of each year to avoid issues in the following year
-        simulation.getUnloadCargoLogsList().clear();
-    }
-
-    /**
-     * Updates the demand grade for a station based on the quantity of resources delivered.
-     *
-     * @param station              the station to update
-     * @param resourcesFromStation the list of resources delivered to the station
-     */
-    private void updateInStationDemand(Station station, List<Resource> resourcesFromStation) {
-        List<ResourcesType> resourcesTypeList = new ArrayList<>();
-
-        for (Demand demand : station.getDemandList()) {
-            resourcesTypeList.add(demand.getResourcesType());
-        }
-
-        for (ResourcesType resourcesType : resourcesTypeList) {
-            int quantity = findQuantityOfResource(resourcesType, resourcesFromStation);
-
-            if (quantity >= NUMBER_OF_CARGO_TO_DOWNGRADE_DEMAND) {
-                for (Demand demand : station.getDemandList()) {
-                    if (demand.getResourcesType().getName().equals(resourcesType.getName())) {
-                        demand.downGradeDemandGrade();
-                    }
-                }
-            } else if (quantity <= NUMBER_OF_CARGO_TO_UPGRADE_DEMAND) {
-                for (Demand demand : station.getDemandList()) {
-                    if (demand.getResourcesType().getName().equals(resourcesType.getName())) {
-                        demand.evolveDemandGrade();
-                    }
+            for (Demand demand : station.getDemandList()) {
+                int quantity = deliveredCargo.getDeliveredQuantity(station, demand.getResourcesType());
+                if (quantity >= NUMBER_OF_CARGO_TO_DOWNGRADE_DEMAND) {
+                    demand.downGradeDemandGrade();
+                } else if (quantity <= NUMBER_OF_CARGO_TO_UPGRADE_DEMAND) {
+                    demand.evolveDemandGrade();
                 }
             }
         }
-    }
 
-    /**
-     * Finds the total quantity of a specific resource type in a list of resources.
-     *
-     * @param resourcesType         the resource type to search for
-     * @param resourcesFromStation  the list of resources
-     * @return the total quantity found
-     */
-    private int findQuantityOfResource(ResourcesType resourcesType, List<Resource> resourcesFromStation) {
-        int quantity = 0;
-        for (Resource resource : resourcesFromStation) {
-            if (resource.getResourceType().getName().equals(resourcesType.getName())) {
-                quantity += resource.getQuantity();
-            }
-        }
-        return quantity;
-    }
-
-    /**
-     * Finds all resources delivered to a specific station.
-     *
-     * @param station the station to search for
-     * @return a list of resources delivered to the station
-     */
-    private List<Resource> findResourcesForStation(Station station) {
-        List<Resource> resourceList = new ArrayList<>();
-        for (UnloadCargoLogs logs : simulation.getUnloadCargoLogsList()) {
-            if (logs.getStation().equals(station)) {
-                for (Resource resource : logs.getUnloadedResources()) {
-                    resourceList.add(resource);
-                }
-            }
-        }
-        return resourceList;
+        // Clear the counters at the end of each year to avoid issues in the following year
+        deliveredCargo.clear();
+        simulation.getUnloadCargoLogsList().clear();
     }
 
     /**
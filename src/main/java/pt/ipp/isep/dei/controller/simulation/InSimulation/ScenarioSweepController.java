@@ -0,0 +1,202 @@
+package pt.ipp.isep.dei.controller.simulation.InSimulation;
+
+import pt.ipp.isep.dei.domain.Simulation.ScenarioVariant;
+import pt.ipp.isep.dei.domain.Simulation.ScenarioVariantResult;
+import pt.ipp.isep.dei.domain.Simulation.Simulation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Controller responsible for comparing strategy variants of the same simulation.
+ * Every variant runs on its own copy of the simulation, until the end of the simulation and without
+ * the graphical interface, and the variants are run in parallel on a bounded number of threads.
+ * The base simulation is expected in its saved state, as loaded from a simulation file, and is never modified.
+ */
+public class ScenarioSweepController {
+
+    /** The simulation every variant is copied from. */
+    private final Simulation baseSimulation;
+
+    /** The variants to run. */
+    private final List<ScenarioVariant> variants = new ArrayList<>();
+
+    /** Maximum number of variants run at the same time. */
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructs a sweep controller for the given base simulation.
+     *
+     * @param baseSimulation the simulation every variant is copied from
+     * @throws IllegalArgumentException if the simulation is null
+     */
+    public ScenarioSweepController(Simulation baseSimulation) {
+        if (baseSimulation == null) {
+            throw new IllegalArgumentException("Simulation cannot be null");
+        }
+        this.baseSimulation = baseSimulation;
+    }
+
+    /**
+     * Adds a variant to the sweep.
+     *
+     * @param variant the variant to add
+     * @throws IllegalArgumentException if the variant is null
+     */
+    public void addVariant(ScenarioVariant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("Variant cannot be null");
+        }
+        variants.add(variant);
+    }
+
+    /**
+     * Gets the variants of the sweep.
+     *
+     * @return the list of variants
+     */
+    public List<ScenarioVariant> getVariants() {
+        return variants;
+    }
+
+    /**
+     * Sets the maximum number of variants run at the same time.
+     *
+     * @param threadCount the number of threads
+     * @throws IllegalArgumentException if the number of threads is lower than 1
+     */
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Gets the maximum number of variants run at the same time.
+     *
+     * @return the number of threads
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Runs every variant until the end of the simulation and ranks them by final money.
+     *
+     * @return the results of the variants, from the highest to the lowest final money
+     * @throws IllegalStateException if a variant fails or the sweep is interrupted
+     */
+    public List<ScenarioVariantResult> run() {
+        byte[] serializedSimulation = serialize(baseSimulation);
+        List<Callable<ScenarioVariantResult>> tasks = new ArrayList<>();
+        for (ScenarioVariant variant : variants) {
+            tasks.add(() -> runVariant(variant, deserialize(serializedSimulation)));
+        }
+
+        List<ScenarioVariantResult> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, Math.max(1, tasks.size())));
+        try {
+            for (Future<ScenarioVariantResult> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Scenario sweep interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scenario variant failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return rankByFinalMoney(results);
+    }
+
+    /**
+     * Ranks results from the highest to the lowest final money.
+     *
+     * @param results the results to rank
+     * @return a new list with the ranked results
+     */
+    public static List<ScenarioVariantResult> rankByFinalMoney(List<ScenarioVariantResult> results) {
+        List<ScenarioVariantResult> ranked = new ArrayList<>(results);
+        ranked.sort(ScenarioVariantResult.BY_FINAL_MONEY);
+        return ranked;
+    }
+
+    /**
+     * Ranks results from the highest to the lowest total revenue of the yearly financial results.
+     *
+     * @param results the results to rank
+     * @return a new list with the ranked results
+     */
+    public static List<ScenarioVariantResult> rankByTotalRevenue(List<ScenarioVariantResult> results) {
+        List<ScenarioVariantResult> ranked = new ArrayList<>(results);
+        ranked.sort(ScenarioVariantResult.BY_TOTAL_REVENUE);
+        return ranked;
+    }
+
+    /**
+     * Creates an independent copy of a simulation, sharing no state with the original.
+     *
+     * @param simulation the simulation to copy
+     * @return the copy of the simulation
+     * @throws IllegalStateException if the simulation cannot be copied
+     */
+    public static Simulation copySimulation(Simulation simulation) {
+        return deserialize(serialize(simulation));
+    }
+
+    /**
+     * Applies a variant to its copy of the simulation and runs it until the end.
+     *
+     * @param variant    the variant to run
+     * @param simulation the copy of the simulation of the variant
+     * @return the result of the variant
+     */
+    private ScenarioVariantResult runVariant(ScenarioVariant variant, Simulation simulation) {
+        variant.apply(simulation);
+        HeadlessSimulationController controller = new HeadlessSimulationController(simulation);
+        controller.run();
+        return new ScenarioVariantResult(variant, simulation);
+    }
+
+    /**
+     * Serializes a simulation to a byte array.
+     *
+     * @param simulation the simulation to serialize
+     * @return the serialized simulation
+     */
+    private static byte[] serialize(Simulation simulation) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(simulation);
+        } catch (IOException e) {
+            throw new IllegalStateException("Simulation cannot be copied", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a simulation from a byte array.
+     *
+     * @param serializedSimulation the serialized simulation
+     * @return the simulation
+     */
+    private static Simulation deserialize(byte[] serializedSimulation) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serializedSimulation))) {
+            return (Simulation) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Simulation cannot be copied", e);
+        }
+    }
+}
@@ -99,7 +99,7 @@ public class UpgradeConfirmationPopController {
      * deducting the upgrade cost from the simulation's available money.
      */
     public void modifyRailwayLineType() {
-        railwayLine.setTypeEnum(newRailwayLineType);
+        simulation.changeRailwayLineType(railwayLine, newRailwayLineType);
         simulation.setActualMoney(simulation.getActualMoney() - upgradeCost);
     }
 }
\ No newline at end of file
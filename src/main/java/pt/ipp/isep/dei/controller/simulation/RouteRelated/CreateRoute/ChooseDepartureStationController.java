@@ -6,6 +6,7 @@ import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Simulation.PointOfRoute;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
+import pt.ipp.isep.dei.domain.Simulation.StationNetwork;
 import pt.ipp.isep.dei.domain.Simulation.TypeOfCargoMode;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationType;
@@ -127,22 +128,12 @@ public class ChooseDepartureStationController {
      * @return observable list of available stations
      */
     public ObservableList<Station> getAvailableStations() {
-
-        List<RailwayLine> availableRailwayLineList = findAvailableRailwayLines();
+        StationNetwork network = simulation.getStationNetwork();
         List<Station> availableStations = new ArrayList<>();
-        availableStations.addAll(simulation.getStations());
-        boolean isConnected ;
 
         for (Station station : simulation.getStations()){
-            isConnected = false;
-            for (RailwayLine railwayLine: availableRailwayLineList){
-                if (railwayLine.getStation1().equals(station) || railwayLine.getStation2().equals(station)){
-                    isConnected = true;
-                    break;
-                }
-            }
-            if (!isConnected){
-                availableStations.remove(station);
+            if (network.isConnected(station, railwayTypeAvailableFlag)){
+                availableStations.add(station);
             }
         }
         return FXCollections.observableArrayList(availableStations);
@@ -6,9 +6,12 @@ import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Simulation.PointOfRoute;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
+import pt.ipp.isep.dei.domain.Simulation.StationGraph;
+import pt.ipp.isep.dei.domain.Simulation.StationNetwork;
 import pt.ipp.isep.dei.domain.Simulation.TypeOfCargoMode;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationType;
+import pt.ipp.isep.dei.domain._Others_.ShortestPathTree;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -68,6 +71,10 @@ public class CreatePointOfRouteController {
     private List<Station> stationPath;
     /** List of stations representing the Dijkstra path. */
     private List<Station> DjikstraPath;
+    /** Shortest paths from the last point of route to every available station, or null if not found yet. */
+    private ShortestPathTree shortestPaths;
+    /** Graph of the available railway lines the shortest paths were found over. */
+    private StationGraph shortestPathsGraph;
 
     /**
      * Default constructor. Initializes the pointOfRouteList and stationPath.
@@ -205,22 +212,12 @@ public class CreatePointOfRouteController {
      * @return observable list of available stations
      */
     public ObservableList<Station> getAvailableStations(Station stationToRemove) {
-
-        List<RailwayLine> availableRailwayLineList = findAvailableRailwayLines();
+        StationNetwork network = simulation.getStationNetwork();
         List<Station> availableStations = new ArrayList<>();
-        availableStations.addAll(simulation.getStations());
-        boolean isConnected ;
 
         for (Station station : simulation.getStations()){
-            isConnected = false;
-            for (RailwayLine railwayLine: availableRailwayLineList){
-                if (railwayLine.getStation1().equals(station) || railwayLine.getStation2().equals(station)){
-                    isConnected = true;
-                    break;
-                }
-            }
-            if (!isConnected){
-                availableStations.remove(station);
+            if (network.isConnected(station, railwayTypeAvailableFlag)){
+                availableStations.add(station);
             }
         }
         availableStations.remove(stationToRemove);
@@ -242,84 +239,58 @@ public class CreatePointOfRouteController {
 
     /**
      * Finds the Dijkstra path from the last point of route to the selected station.
+     * Reuses the distances from the last point when they were already found for every station.
      * @param selectedStation the destination station
      * @return list of stations representing the path
      */
     public List<Station> findDjikstraPath(Station selectedStation) {
         Station startStation = pointOfRouteList.getLast().getStation();
-        List<RailwayLine> railways = findAvailableRailwayLines();
-
-        List<Station> stations = new ArrayList<>();
-        List<Integer> distances = new ArrayList<>();
-        List<Station> previous = new ArrayList<>();
-        List<Station> visited = new ArrayList<>();
-
-        for (RailwayLine line : railways) {
-            if (!stations.contains(line.getStation1())) {
-                stations.add(line.getStation1());
-                distances.add(line.getStation1().equals(startStation) ? 0 : Integer.MAX_VALUE);
-                previous.add(null);
-            }
-            if (!stations.contains(line.getStation2())) {
-                stations.add(line.getStation2());
-                distances.add(line.getStation2().equals(startStation) ? 0 : Integer.MAX_VALUE);
-                previous.add(null);
-            }
+        StationNetwork network = simulation.getStationNetwork();
+        if (!network.isSameComponent(startStation, selectedStation, railwayTypeAvailableFlag)) {
+            return new ArrayList<>(); // Caminho não encontrado
         }
-
-        while (true) {
-            int minIndex = -1;
-            int minDistance = Integer.MAX_VALUE;
-            for (int i = 0; i < stations.size(); i++) {
-                Station station = stations.get(i);
-                if (!visited.contains(station) && distances.get(i) < minDistance) {
-                    minDistance = distances.get(i);
-                    minIndex = i;
-                }
-            }
-
-            if (minIndex == -1 || stations.get(minIndex).equals(selectedStation)) {
-                break;
-            }
-
-            Station current = stations.get(minIndex);
-            visited.add(current);
-
-            for (RailwayLine line : railways) {
-                Station neighbor = null;
-                if (line.getStation1().equals(current)) {
-                    neighbor = line.getStation2();
-                } else if (line.getStation2().equals(current)) {
-                    neighbor = line.getStation1();
-                }
-
-                if (neighbor != null && !visited.contains(neighbor)) {
-                    int currentIndex = stations.indexOf(current);
-                    int neighborIndex = stations.indexOf(neighbor);
-                    int newDist = distances.get(currentIndex) + line.getDistance();
-                    if (newDist < distances.get(neighborIndex)) {
-                        distances.set(neighborIndex, newDist);
-                        previous.set(neighborIndex, current);
-                    }
-                }
-            }
+        StationGraph graph = network.getGraph(railwayTypeAvailableFlag);
+        int start = graph.indexOf(startStation);
+        int target = graph.indexOf(selectedStation);
+        if (start == -1 || target == -1) {
+            return new ArrayList<>();
         }
 
-        // Reconstruir caminho
-        List<Station> path = new ArrayList<>();
-        Station step = selectedStation;
-        while (step != null) {
-            path.add(0, step);
-            int index = stations.indexOf(step);
-            step = previous.get(index);
+        ShortestPathTree paths = isShortestPathsFrom(start, graph)
+                ? shortestPaths
+                : graph.getGraph().findShortestPaths(start, target);
+        return graph.getStations(paths.getPath(target));
+    }
+
+    /**
+     * Gets the distance from the last point of route to a station, finding the shortest paths from the last point
+     * to every available station in a single search the first time, so the distance to each candidate next stop can be shown.
+     * @param station the station
+     * @return the length of the shortest path to the station, or -1 if it cannot be reached
+     */
+    public int findDistanceFromLastPoint(Station station) {
+        StationGraph graph = simulation.getStationNetwork().getGraph(railwayTypeAvailableFlag);
+        int start = graph.indexOf(pointOfRouteList.getLast().getStation());
+        int target = graph.indexOf(station);
+        if (start == -1 || target == -1) {
+            return -1;
         }
 
-        // Verifica se o caminho começa na estação de origem
-        if (!path.isEmpty() && !path.get(0).equals(startStation)) {
-            return new ArrayList<>(); // Caminho não encontrado
+        if (!isShortestPathsFrom(start, graph)) {
+            shortestPaths = graph.getGraph().findShortestPaths(start);
+            shortestPathsGraph = graph;
         }
+        return shortestPaths.getDistance(target);
+    }
 
-        return path;
+    /**
+     * Checks if the shortest paths kept were found from the given station over the given graph.
+     * @param start the index of the station the paths start at
+     * @param graph the graph of the available railway lines
+     * @return true if the kept shortest paths can be reused, false otherwise
+     */
+    private boolean isShortestPathsFrom(int start, StationGraph graph) {
+        return shortestPaths != null && shortestPathsGraph == graph && shortestPaths.getSource() == start;
     }
 
     /**
@@ -328,29 +299,19 @@ public class CreatePointOfRouteController {
      * @return list of railway lines used in the path
      */
     public List<RailwayLine> findUsedRailwaysInPath(List<Station> path){
-        List<RailwayLine> availableRailways = findAvailableRailwayLines();
-        List<RailwayLine> usedRailwayLine = new ArrayList<>();
-
-        if (path.isEmpty() || path == null){
+        if (path == null || path.isEmpty()){
             return null;
         }
 
-        List<Station> modifiedPath = new ArrayList<>();
-        for (Station station: path){
-            if (station != path.getFirst()){
-                modifiedPath.add(station);
-            }
-        }
+        StationNetwork network = simulation.getStationNetwork();
+        List<RailwayLine> usedRailwayLine = new ArrayList<>();
 
         Station actualStation = path.getFirst();
-        for (Station nextStation: modifiedPath ){
-            for (RailwayLine railway : availableRailways){
-                if (railway.getStation1() == actualStation && railway.getStation2() == nextStation ||
-                        railway.getStation2() == actualStation && railway.getStation1() == nextStation ){
-                    usedRailwayLine.add(railway);
-                }
+        for (Station nextStation: path){
+            if (nextStation != path.getFirst()){
+                usedRailwayLine.addAll(network.getRailwayLinesBetween(actualStation, nextStation, railwayTypeAvailableFlag));
+                actualStation = nextStation;
             }
-            actualStation = nextStation;
         }
         return usedRailwayLine;
     }
@@ -507,12 +468,6 @@ public class CreatePointOfRouteController {
      * @return the railway line between the two stations, or null if not found
      */
     public RailwayLine getRailwayLineBetween(Station s1, Station s2) {
-        for (RailwayLine line : findAvailableRailwayLines()) {
-            if ((line.getStation1().equals(s1) && line.getStation2().equals(s2)) ||
-                    (line.getStation1().equals(s2) && line.getStation2().equals(s1))) {
-                return line;
-            }
-        }
-        return null;
+        return simulation.getStationNetwork().getRailwayLineBetween(s1, s2, railwayTypeAvailableFlag);
     }
 }
@@ -86,5 +86,8 @@ public class ConfirmRouteActivationPopController {
         route.setActiveFlag(true);
         selectedTrain.setActiveFlag(true);
         route.setAssignedTrain(selectedTrain);
+        if (simulation != null) {
+            simulation.markModified();
+        }
     }
 }
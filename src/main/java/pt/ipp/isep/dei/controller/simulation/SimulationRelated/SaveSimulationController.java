@@ -70,6 +70,17 @@ public class SaveSimulationController {
      * If the simulation contains house blocks or industries, their inventories are copied before saving.
      */
     public void saveSimulation() {
+        saveSimulation(NAME_DIRECTORY);
+    }
+
+    /**
+     * Saves the current simulation to a file in the given directory, serializing its state and cleaning up
+     * map modifications and inventories.
+     * If the simulation contains house blocks or industries, their inventories are copied before saving.
+     *
+     * @param directory the directory where the simulation file is written, ending with a separator
+     */
+    public void saveSimulation(String directory) {
         List<HouseBlock> houseBlockList = new ArrayList<>();
         for (HouseBlock houseBlock : actualSimulation.getMap().getHouseBlockList()) {
             HouseBlock newHouseBlock = new HouseBlock(houseBlock.getPosition(), houseBlock.getCityName());
@@ -90,7 +101,7 @@ public class SaveSimulationController {
         actualSimulation.setIndustries(industryList);
         clearMapModifications();
         try {
-            FileOutputStream fileOut = new FileOutputStream(NAME_DIRECTORY + nameSimulation + "-" + nameScenario + EXTENSION);
+            FileOutputStream fileOut = new FileOutputStream(directory + nameSimulation + "-" + nameScenario + EXTENSION);
             ObjectOutputStream outStream = new ObjectOutputStream(fileOut);
             outStream.writeObject(actualSimulation);
             outStream.close();
@@ -154,12 +165,12 @@ public class SaveSimulationController {
         Map map = actualSimulation.getMap();
         List<Industry> industryList = map.getIndustriesList();
         for (Industry industry : industryList) {
-            industry.getInventory().getAllResources().clear();
+            industry.getInventory().clear();
         }
 
         List<HouseBlock> houseBlockList = map.getHouseBlockList();
         for (HouseBlock houseBlock : houseBlockList) {
-            houseBlock.getInventory().getAllResources().clear();
+            houseBlock.getInventory().clear();
         }
     }
 
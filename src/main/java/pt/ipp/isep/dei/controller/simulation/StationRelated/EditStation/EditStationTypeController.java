@@ -8,6 +8,8 @@ import pt.ipp.isep.dei.domain.Station.StationType;
  * Controller responsible for editing the type and direction of a station in a simulation.
  * Provides methods to set and retrieve the simulation, station, and station type,
  * as well as to check station type, calculate evolution costs, and update station properties.
+ * Changing the type or direction of the station marks the simulation as modified, so its events are refreshed
+ * for the industries and house blocks the station now serves.
  */
 public class EditStationTypeController {
 
@@ -128,6 +130,7 @@ public class EditStationTypeController {
     public void setStationTypeToTerminal() {
         station.setStationType(TERMINAL_NAME);
         station.assignGenerationPosts(simulation.getScenario());
+        simulation.markModified();
     }
 
     /**
@@ -136,6 +139,7 @@ public class EditStationTypeController {
     public void setStationTypeToStation() {
         station.setStationType(STATION_NAME);
         station.assignGenerationPosts(simulation.getScenario());
+        simulation.markModified();
     }
 
     /**
@@ -144,6 +148,7 @@ public class EditStationTypeController {
      */
     public void stationDirection(String direction) {
         station.setDirection(direction);
+        simulation.markModified();
     }
 
     /**
@@ -152,5 +157,6 @@ public class EditStationTypeController {
     public void setStationTypeDefault() {
         station.setStationType(stationType);
         station.assignGenerationPosts(simulation.getScenario());
+        simulation.markModified();
     }
 }
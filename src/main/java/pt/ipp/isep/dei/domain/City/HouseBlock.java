@@ -13,6 +13,7 @@ import pt.ipp.isep.dei.repository.TransformingResourceRepository;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a block of houses in the system.
@@ -37,7 +38,7 @@ public class HouseBlock implements StationAssociations, Serializable {
     private int id;
 
     /** Static counter to generate unique IDs for each house block. */
-    private static int idCounter = 0;
+    private static final AtomicInteger idCounter = new AtomicInteger();
 
     /** The inventory of the house block. */
     private Inventory inventory = new Inventory();
@@ -62,8 +63,7 @@ public class HouseBlock implements StationAssociations, Serializable {
         this.position = position;
         this.cityName = cityName;
         this.assignedStation = null;
-        idCounter++;
-        this.id = idCounter;
+        this.id = idCounter.incrementAndGet();
         initializeTransformingResourceRepository();
         consumableResources = List.of(
                 transformingResourceRepository.getTransformingTypeByName("Food"),
@@ -89,12 +89,29 @@ public class HouseBlock implements StationAssociations, Serializable {
     /**
      * Gets the list of consumable resource types for this house block.
      *
-     * @return the list of consumable resource types
+     * @return the unmodifiable list of consumable resource types
      */
     public List<ResourcesType> getConsumableResources() {
         return consumableResources;
     }
 
+    /**
+     * Checks if a resource type is consumed by this house block.
+     * The consumable resource types are compared by their interned ids when asked, so a renamed type is matched by its new name.
+     *
+     * @param resourcesType the resource type to check
+     * @return true if the resource type is consumable, false otherwise
+     */
+    public boolean consumesResource(ResourcesType resourcesType) {
+        int id = resourcesType.getId();
+        for (ResourcesType consumable : consumableResources) {
+            if (consumable.getId() == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the position of the house block.
      *
@@ -136,6 +153,7 @@ public class HouseBlock implements StationAssociations, Serializable {
      *
      * @param assignedStation the station to assign
      */
+    @Override
     public void setAssignedStation(Station assignedStation) {
         this.assignedStation = assignedStation;
     }
@@ -188,7 +206,7 @@ public class HouseBlock implements StationAssociations, Serializable {
      */
     @Override
     public int getResourceQuantity(ResourcesType resourceType) {
-        return inventory.getResourceQuantity(resourceType.getName());
+        return inventory.getResourceQuantity(resourceType);
     }
 
     /**
@@ -199,12 +217,7 @@ public class HouseBlock implements StationAssociations, Serializable {
      */
     @Override
     public boolean existsResourceInInventory(ResourcesType resource) {
-        for (Resource res : inventory.getAllResources()) {
-            if (res.getResourceType().getName().equals(resource.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return inventory.existsResourceInInventory(resource);
     }
 
     /**
@@ -1,7 +1,9 @@
 package pt.ipp.isep.dei.domain.Event;
 
+import pt.ipp.isep.dei.domain.Log.LogRecorder;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
+
 import java.io.Serializable;
-import java.util.List;
 
 /**
  * Represents a recurring event with a name, interval, and next generation date.
@@ -18,6 +20,9 @@ public class Event implements Serializable {
     /** The next generation date of the event. */
     private int nextGenerationDate;
 
+    /** The scheduler this event is registered in, notified when the next generation date changes. */
+    private transient EventScheduler scheduler;
+
     /**
      * Constructs an Event with the specified name, interval, and actual date.
      * The next generation date is calculated as actualDate + interval.
@@ -84,16 +89,28 @@ public class Event implements Serializable {
      */
     public void setNextGenerationDate(int nextGenerationDate) {
         this.nextGenerationDate = nextGenerationDate;
+        if (scheduler != null) {
+            scheduler.reschedule(this);
+        }
+    }
+
+    /**
+     * Sets the scheduler this event is registered in.
+     *
+     * @param scheduler the scheduler to notify when the next generation date changes
+     */
+    void setScheduler(EventScheduler scheduler) {
+        this.scheduler = scheduler;
     }
 
     /**
      * Triggers the event.
      * This method should contain the event trigger logic.
      *
-     * @return a list with a message indicating the event was triggered
+     * @param recorder the recorder of the log lines of the event
      */
-    public List<String> trigger() {
+    public void trigger(LogRecorder recorder) {
         // Event trigger logic goes here
-        return List.of("Event " + name + " triggered at date: " + nextGenerationDate);
+        recorder.record(LogTemplate.EVENT_TRIGGERED, name, null, nextGenerationDate);
     }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package pt.ipp.isep.dei.domain.Event;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Time-ordered scheduler for simulation events.
+ * Events are kept in a priority queue keyed by their next generation date, so each simulated day
+ * only the events that are due are looked at. Events that change their own next generation date
+ * (for example inside {@link Event#trigger()}) are re-queued automatically, also when events are
+ * triggered from several threads.
+ */
+public class EventScheduler {
+
+    /** Queue of scheduled entries ordered by date, lane and registration order. */
+    private final PriorityQueue<ScheduledEvent> queue = new PriorityQueue<>();
+
+    /** The most recent entry of every registered event. Older entries in the queue are stale. */
+    private final IdentityHashMap<Event, ScheduledEvent> scheduledEvents = new IdentityHashMap<>();
+
+    /** Registration counter, used to keep the registration order between events due on the same day. */
+    private long sequence;
+
+    /**
+     * Registers an event in the scheduler.
+     * Events due on the same day are triggered by lane and then by registration order.
+     * Registering an event that is already scheduled has no effect.
+     *
+     * @param event the event to schedule
+     * @param lane  the lane of the event (lower lanes are triggered first on the same day)
+     */
+    public synchronized void schedule(Event event, int lane) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        if (scheduledEvents.containsKey(event)) {
+            return;
+        }
+        ScheduledEvent entry = new ScheduledEvent(event.getNextGenerationDate(), lane, sequence++, event);
+        scheduledEvents.put(event, entry);
+        queue.add(entry);
+        event.setScheduler(this);
+    }
+
+    /**
+     * Re-queues an event after its next generation date has changed.
+     * Called by {@link Event#setNextGenerationDate(int)}.
+     *
+     * @param event the event whose date has changed
+     */
+    synchronized void reschedule(Event event) {
+        ScheduledEvent current = scheduledEvents.get(event);
+        if (current == null || current.date == event.getNextGenerationDate()) {
+            return;
+        }
+        ScheduledEvent entry = new ScheduledEvent(event.getNextGenerationDate(), current.lane, current.sequence, event);
+        scheduledEvents.put(event, entry);
+        queue.add(entry);
+    }
+
+    /**
+     * Removes an event from the scheduler. Its remaining queue entries become stale and are discarded.
+     *
+     * @param event the event to remove
+     */
+    public synchronized void unschedule(Event event) {
+        if (scheduledEvents.remove(event) != null) {
+            event.setScheduler(null);
+        }
+    }
+
+    /**
+     * Checks if an event is registered in the scheduler.
+     *
+     * @param event the event to check
+     * @return true if the event is registered, false otherwise
+     */
+    public synchronized boolean isScheduled(Event event) {
+        return scheduledEvents.containsKey(event);
+    }
+
+    /**
+     * Removes every event from the scheduler.
+     */
+    public synchronized void clear() {
+        for (Event event : scheduledEvents.keySet()) {
+            event.setScheduler(null);
+        }
+        scheduledEvents.clear();
+        queue.clear();
+        sequence = 0;
+    }
+
+    /**
+     * Gets the number of events registered in the scheduler.
+     *
+     * @return the number of registered events
+     */
+    public synchronized int size() {
+        return scheduledEvents.size();
+    }
+
+    /**
+     * Removes from the queue and returns every event due on the given date, in trigger order.
+     * Entries for past dates can never be triggered again and are discarded on the way.
+     *
+     * @param currentTime the current simulation date
+     * @return the list of events due on the given date
+     */
+    public synchronized List<Event> pollDueEvents(int currentTime) {
+        List<Event> dueEvents = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().date <= currentTime) {
+            ScheduledEvent entry = queue.poll();
+            if (entry.date == currentTime && scheduledEvents.get(entry.event) == entry) {
+                dueEvents.add(entry.event);
+            }
+        }
+        return dueEvents;
+    }
+
+    /**
+     * Entry of the scheduler queue.
+     */
+    private static class ScheduledEvent implements Comparable<ScheduledEvent> {
+
+        private final int date;
+        private final int lane;
+        private final long sequence;
+        private final Event event;
+
+        private ScheduledEvent(int date, int lane, long sequence, Event event) {
+            this.date = date;
+            this.lane = lane;
+            this.sequence = sequence;
+            this.event = event;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            if (date != other.date) {
+                return Integer.compare(date, other.date);
+            }
+            if (lane != other.lane) {
+                return Integer.compare(lane, other.lane);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
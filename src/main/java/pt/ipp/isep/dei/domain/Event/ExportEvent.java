@@ -1,12 +1,11 @@
 package pt.ipp.isep.dei.domain.Event;
 
+import pt.ipp.isep.dei.domain.Log.LogRecorder;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Represents an export event that removes a specific type of resource from a station's inventory at regular intervals.
  */
@@ -18,9 +17,6 @@ public class ExportEvent extends Event {
     /** The type of resource to be exported. */
     private ResourcesType resourceType;
 
-    /** Flag to indicate if the export menu should be printed first. */
-    private static boolean printFirstMenu;
-
     /**
      * Constructs an ExportEvent with the specified parameters.
      *
@@ -34,32 +30,24 @@ public class ExportEvent extends Event {
         super(name, interval, actualDate);
         this.resourceType = resourceType;
         this.association = association;
-        printFirstMenu = true;
     }
 
     /**
      * Triggers the export event, removing the specified resource from the association's inventory if it exists.
-     * Also prints export information to the console and updates the next generation date.
+     * Also records the export and updates the next generation date.
      *
-     * @return a list of log messages generated by the export event
+     * @param recorder the recorder of the log lines of the event
      */
     @Override
-    public List<String> trigger() {
-        List<String> newLogs = new ArrayList<>();
+    public void trigger(LogRecorder recorder) {
         int quantity = association.getResourceQuantity(resourceType);
         if (quantity == 0) {
-            return newLogs; // No resource to export
+            return; // No resource to export
         }
         association.removeResourceFromInventory(new Resource(resourceType, quantity));
-        if (printFirstMenu) {
-            newLogs.add(" ");
-            newLogs.add("📦  Export:");
-            printFirstMenu = false;
-        }
-        newLogs.add(String.format("   ➜  %-4d × %-12s", quantity, resourceType.getName()));
+        recorder.record(LogTemplate.EXPORT, null, resourceType.getName(), quantity);
         association.setUpdatedInventory(true);
         this.setNextGenerationDate(getNextGenerationDate() + getInterval());
-        return newLogs;
     }
 
     /**
@@ -97,22 +85,4 @@ public class ExportEvent extends Event {
     public void setResourceType(ResourcesType resourceType) {
         this.resourceType = resourceType;
     }
-
-    /**
-     * Checks if the export menu should be printed first.
-     *
-     * @return true if the menu should be printed, false otherwise
-     */
-    public static boolean isPrintFirstMenu() {
-        return printFirstMenu;
-    }
-
-    /**
-     * Sets whether the export menu should be printed first.
-     *
-     * @param printFirstMenu the value to set
-     */
-    public static void setPrintFirstMenu(boolean printFirstMenu) {
-        ExportEvent.printFirstMenu = printFirstMenu;
-    }
 }
\ No newline at end of file
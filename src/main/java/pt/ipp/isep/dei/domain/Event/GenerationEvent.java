@@ -2,12 +2,11 @@ package pt.ipp.isep.dei.domain.Event;
 
 import pt.ipp.isep.dei.domain.City.HouseBlock;
 import pt.ipp.isep.dei.domain.Industry.Industry;
+import pt.ipp.isep.dei.domain.Log.LogRecorder;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Represents a generation event that adds a specific resource to a station's inventory at regular intervals.
  */
@@ -19,9 +18,6 @@ public class GenerationEvent extends Event {
     /** The resource to be generated. */
     private Resource resource;
 
-    /** Flag to control if the production menu should be printed first. */
-    private static boolean printFirstMenu;
-
     /**
      * Constructs a GenerationEvent with the specified parameters.
      *
@@ -35,49 +31,31 @@ public class GenerationEvent extends Event {
         super(name, interval, actualDate);
         this.resource = resource;
         this.stationAssociation = stationAssociation;
-        printFirstMenu = true;
     }
 
     /**
      * Triggers the generation event, adding the specified resource to the station's inventory if possible.
-     * Also prints production information and updates the next generation date.
+     * Also records the production and updates the next generation date.
      *
-     * @return a list of log messages generated by the event
+     * @param recorder the recorder of the log lines of the event
      */
     @Override
-    public List<String> trigger() {
-        List<String> newLogs = new ArrayList<>();
+    public void trigger(LogRecorder recorder) {
         if (stationAssociation instanceof Industry industry) {
             int quantityAdded = industry.addResourceToInventory(resource);
             if (quantityAdded != -1) {
-                printFirstMenu(newLogs);
-                newLogs.add(String.format("   • %-4d × %-12s @ %s", quantityAdded, resource.getResourceType().getName(), industry.getName()));
+                recorder.record(LogTemplate.INDUSTRY_PRODUCTION, industry.getName(), resource.getResourceType().getName(), quantityAdded);
                 industry.setUpdatedInventory(true);
             }
         } else {
             HouseBlock houseBlock = (HouseBlock) this.stationAssociation;
             int quantityAdded = houseBlock.addResourceToInventory(resource);
             if (quantityAdded != -1) {
-                printFirstMenu(newLogs);
-                newLogs.add(String.format("   • %-4d × %-12s @ House Block (%s)", quantityAdded, resource.getResourceType().getName(), houseBlock.getCityName()));
+                recorder.record(LogTemplate.HOUSE_BLOCK_PRODUCTION, houseBlock.getCityName(), resource.getResourceType().getName(), quantityAdded);
                 houseBlock.setUpdatedInventory(true);
             }
         }
         this.setNextGenerationDate(getNextGenerationDate() + getInterval());
-        return newLogs;
-    }
-
-    /**
-     * Prints the production menu if it is the first time.
-     *
-     * @param newLogs the list of log messages to add the menu to
-     */
-    private void printFirstMenu(List<String> newLogs) {
-        if (printFirstMenu) {
-            newLogs.add(" ");
-            newLogs.add("\uD83C\uDFED  Production:");
-            printFirstMenu = false;
-        }
     }
 
     /**
@@ -133,22 +111,4 @@ public class GenerationEvent extends Event {
     public void setStationAssociation(StationAssociations stationAssociation) {
         this.stationAssociation = stationAssociation;
     }
-
-    /**
-     * Checks if the production menu should be printed first.
-     *
-     * @return true if the menu should be printed, false otherwise
-     */
-    public static boolean isPrintFirstMenu() {
-        return printFirstMenu;
-    }
-
-    /**
-     * Sets whether the production menu should be printed first.
-     *
-     * @param printFirstMenu the value to set
-     */
-    public static void setPrintFirstMenu(boolean printFirstMenu) {
-        GenerationEvent.printFirstMenu = printFirstMenu;
-    }
 }
\ No newline at end of file
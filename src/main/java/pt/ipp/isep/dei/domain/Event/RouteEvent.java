@@ -2,25 +2,25 @@ package pt.ipp.isep.dei.domain.Event;
 
 import pt.ipp.isep.dei.domain.City.HouseBlock;
 import pt.ipp.isep.dei.domain.FinancialResult.Demand;
-import pt.ipp.isep.dei.domain.FinancialResult.UnloadCargoLogs;
 import pt.ipp.isep.dei.domain.Industry.MixedIndustry;
 import pt.ipp.isep.dei.domain.Industry.TransformingIndustry;
-import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.Log.LogRecorder;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Resource.TransformingResource;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Simulation.PointOfRoute;
 import pt.ipp.isep.dei.domain.Simulation.Route;
+import pt.ipp.isep.dei.domain.Simulation.RouteLeg;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 import pt.ipp.isep.dei.domain.Simulation.TypeOfCargoMode;
-import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
 import pt.ipp.isep.dei.domain.Train.FuelType;
+import pt.ipp.isep.dei.domain.Train.Locomotive;
 import pt.ipp.isep.dei.domain.Train.Train;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -36,12 +36,6 @@ public class RouteEvent extends Event {
     /** Cost per km for steam fuel. */
     private final double STEAM_FUEL_COST = 0.4;
 
-    /** Maximum hours of service per day for a train. */
-    private final int MAX_HOURS_OF_SERVICE = 14;
-    /** Speed debuff per carriage in percentage points. */
-    private final int DEBUFF_SPEED_PER_CARRIAGE = 5;
-    /** Maximum total speed debuff allowed. */
-    private final int MAX_SPEED_DEEBUF = 70;
     /** Resource transfer price per unit. */
     private final int RESOURCE_TRANSFER_PRICE = 1;
 
@@ -53,8 +47,18 @@ public class RouteEvent extends Event {
     private boolean activeStatus;
     /** The route associated with this event. */
     private Route route;
-    /** The complete path of the route, as a list of station and railway line identifiers. */
-    private List<String> completePath;
+    /** Legs of the route the travel days and fuel costs were computed for. */
+    private transient RouteLeg[] timetableLegs;
+    /** Train the travel days and fuel costs were computed for. */
+    private transient Train timetableTrain;
+    /** Locomotive of the train when the travel days and fuel costs were computed. */
+    private transient Locomotive timetableLocomotive;
+    /** Daily range of the train when the travel days and fuel costs were computed. */
+    private transient int timetableDailyRange;
+    /** Days needed by the assigned train to travel each leg of the route. */
+    private transient int[] legTravelDays;
+    /** Fuel cost of the assigned train for each leg of the route. */
+    private transient int[] legFuelCosts;
 
     /**
      * Constructs a RouteEvent with the specified parameters.
@@ -72,63 +76,6 @@ public class RouteEvent extends Event {
         this.scenario = scenario;
         this.activeStatus = false;
         this.route = route;
-        this.completePath = findCompletePath();
-    }
-
-    /**
-     * Builds the complete path of the route, alternating between stations and railway lines.
-     *
-     * @return a list of string identifiers representing the path
-     */
-    private List<String> findCompletePath() {
-        List<String> completeList = new ArrayList<>();
-        List<Station> pointOfRouteStations = new LinkedList<>(route.getPointOfRouteList().stream().map(PointOfRoute::getStation).toList());
-        List<RailwayLine> usedRailwayLines = new LinkedList<>(route.getPath());
-
-        if (pointOfRouteStations.isEmpty()) return completeList;
-
-        Station oldStation = pointOfRouteStations.remove(0);
-        addItemToPathList(oldStation, completeList);
-
-        for (Station station : pointOfRouteStations) {
-            while (!usedRailwayLines.isEmpty()) {
-                RailwayLine railwayLine = usedRailwayLines.remove(0);
-                addItemToPathList(railwayLine, completeList);
-
-                if (railwayLine.getStation1().equals(station) || railwayLine.getStation2().equals(station)) {
-                    addItemToPathList(station, completeList);
-                    break;
-                }
-            }
-        }
-
-        for (RailwayLine remainingLine : usedRailwayLines) {
-            addItemToPathList(remainingLine, completeList);
-        }
-
-        addItemToPathList(oldStation, completeList);
-        return completeList;
-    }
-
-    /**
-     * Adds a station or railway line to the path list with a unique identifier.
-     *
-     * @param item the station or railway line to add
-     * @param completeList the list to add the identifier to
-     */
-    private void addItemToPathList(Object item, List<String> completeList) {
-        int counter = 0;
-        if (item instanceof Station) {
-            for (String string : completeList) {
-                if (string.charAt(0) == 'S') counter++;
-            }
-            completeList.add("S" + counter);
-        } else if (item instanceof RailwayLine) {
-            for (String string : completeList) {
-                if (string.charAt(0) == 'R') counter++;
-            }
-            completeList.add("R" + counter);
-        }
     }
 
     /**
@@ -208,38 +155,19 @@ public class RouteEvent extends Event {
         this.route = route;
     }
 
-    /**
-     * Gets the complete path of the route.
-     *
-     * @return the complete path as a list of string identifiers
-     */
-    public List<String> getCompletePath() {
-        return completePath;
-    }
-
-    /**
-     * Sets the complete path of the route.
-     *
-     * @param completePath the complete path to set
-     */
-    public void setCompletePath(List<String> completePath) {
-        this.completePath = completePath;
-    }
-
     /**
      * Triggers the route event, managing loading/unloading and advancing the simulation.
      *
-     * @return a list of log messages generated during the event
+     * @param recorder the recorder of the log lines of the event
      */
     @Override
-    public List<String> trigger() {
-        List<String> newLogs = new ArrayList<>();
+    public void trigger(LogRecorder recorder) {
         if (!route.getActiveFlag()) {
             super.setNextGenerationDate(simulation.getCurrentTime() + 1);
-            return newLogs;
+            return;
         }
-        newLogs.add(" ");
-        newLogs.add("🚂 Route Event Triggered: " + route.getName());
+        recorder.record(LogTemplate.ROUTE_SPACER);
+        recorder.record(LogTemplate.ROUTE_TRIGGERED, route.getName(), null, 0);
 
         PointOfRoute actualPointOfRoute = route.getPointOfRouteList().get(route.getPointPathPosition());
         actualPointOfRoute.getStation().setResourcesTypeRequested(scenario);
@@ -247,23 +175,23 @@ public class RouteEvent extends Event {
         Train train = route.getAssignedTrain();
         String stationName = actualPointOfRoute.getStation().getName();
 
-        newLogs.add("🔄 Starting route event at point: " + stationName);
+        recorder.record(LogTemplate.ROUTE_START, stationName, null, 0);
 
         List<Resource> unloadedResources = new ArrayList<>();
         // Unload resources
         if (route.getOldStatus()){
             unloadedResources = unloadResources(actualPointOfRoute);
             if (!unloadedResources.isEmpty()) {
-                newLogs.add("📦 Resources unloaded from the train:");
+                recorder.record(LogTemplate.ROUTE_UNLOADED);
                 for (Resource r : unloadedResources) {
-                    newLogs.add("   ↪️ " + r.getQuantity() + "x " + r.getResourceType().getName());
+                    recorder.record(LogTemplate.ROUTE_UNLOADED_RESOURCE, null, r.getResourceType().getName(), r.getQuantity());
                 }
             } else {
-                newLogs.add("📭 No resources to loaded.");
+                recorder.record(LogTemplate.ROUTE_NOTHING_UNLOADED);
             }
         }
 
-        simulation.getUnloadCargoLogsList().add(new UnloadCargoLogs(unloadedResources, actualPointOfRoute.getStation()));
+        simulation.recordUnloadedCargo(actualPointOfRoute.getStation(), unloadedResources);
 
         // Load resources
         loadResources(actualPointOfRoute);
@@ -271,18 +199,18 @@ public class RouteEvent extends Event {
         // Cargo mode check
         if (actualPointOfRoute.getCargoMode() == TypeOfCargoMode.FULL &&
                 train.getInventorySpaceOcupied() != train.getMaxInventorySpace()) {
-            newLogs.add("⏳ Waiting for train to fill up completely to continue (FULL mode)");
-            newLogs.add(" ");
+            recorder.record(LogTemplate.ROUTE_WAITING_FULL);
+            recorder.record(LogTemplate.ROUTE_SPACER);
             super.setNextGenerationDate(simulation.getCurrentTime() + 1);
             route.setOldStatus(false);
-            return newLogs;
+            return;
         } else if (actualPointOfRoute.getCargoMode() == TypeOfCargoMode.HALF &&
                 train.getInventorySpaceOcupied() < train.getMaxInventorySpace() / 2) {
-            newLogs.add("⏳ Waiting for train to reach half load (HALF mode)");
-            newLogs.add(" ");
+            recorder.record(LogTemplate.ROUTE_WAITING_HALF);
+            recorder.record(LogTemplate.ROUTE_SPACER);
             super.setNextGenerationDate(simulation.getCurrentTime() + 1);
             route.setOldStatus(false);
-            return newLogs;
+            return;
         }
 
         // Update route position and simulation timing
@@ -291,11 +219,7 @@ public class RouteEvent extends Event {
         route.nextPointPathPosition();
         route.setOldStatus(true);
 
-        String days = " days";
-        if (travelTime == 1){
-            days = " day";
-        }
-        newLogs.add("🛤 Train departing for the next stop! ⏱ Estimated time: " + travelTime + days);
+        recorder.record(LogTemplate.ROUTE_DEPARTURE, null, null, travelTime);
 
         // Add money from resources
         int moneyBefore = simulation.getActualMoney();
@@ -304,15 +228,13 @@ public class RouteEvent extends Event {
 
         simulation.getActualFinancialResult().setEarning(simulation.getActualFinancialResult().getEarning() + earnedMoney);
 
-        newLogs.add("💰 Revenue obtained from delivery: " + earnedMoney);
+        recorder.record(LogTemplate.ROUTE_REVENUE, null, null, earnedMoney);
 
         // Expenses
         int fuelExpenses = removeFuelCost();
         simulation.getActualFinancialResult().setFuelCost(simulation.getActualFinancialResult().getFuelCost() - fuelExpenses);
 
-        newLogs.add("💸 Fuel cost deducted: " + fuelExpenses);
-
-        return newLogs;
+        recorder.record(LogTemplate.ROUTE_FUEL_COST, null, null, fuelExpenses);
     }
 
     // ##############################
@@ -320,11 +242,24 @@ public class RouteEvent extends Event {
     // ##############################
 
     /**
-     * Removes the fuel cost from the simulation's money based on the train's fuel type and distance.
+     * Removes the fuel cost of the leg starting at the current point from the simulation's money.
      *
      * @return the final cost deducted
      */
     private int removeFuelCost(){
+        int finalCost = getLegFuelCost(route.getPointPathPosition());
+
+        simulation.setActualMoney(simulation.getActualMoney()-finalCost);
+        return finalCost;
+    }
+
+    /**
+     * Calculates the fuel cost of travelling a distance, based on the train's fuel type.
+     *
+     * @param distance the distance travelled
+     * @return the fuel cost
+     */
+    private int calculateFuelCost(int distance) {
         double fuelCostPerKM = 1;
         if (route.getAssignedTrain().getLocomotive().getFuelType().equals(FuelType.ELECTRICITY)){
             fuelCostPerKM = ELECTRIC_FUEL_COST;
@@ -334,10 +269,7 @@ public class RouteEvent extends Event {
             fuelCostPerKM = STEAM_FUEL_COST;
         }
 
-        int finalCost = (int) (fuelCostPerKM * findDistanceToNextPoint());
-
-        simulation.setActualMoney(simulation.getActualMoney()-finalCost);
-        return finalCost;
+        return (int) (fuelCostPerKM * distance);
     }
 
     // ##############################
@@ -382,8 +314,9 @@ public class RouteEvent extends Event {
      * @return the multiplier
      */
     private double findMultiplyer(Resource resource, PointOfRoute pointOfRoute) {
+        int resourceTypeId = resource.getResourceType().getId();
         for (Demand demand : pointOfRoute.getStation().getDemandList()){
-            if (demand.getResourcesType().getName().equals(resource.getResourceType().getName())){
+            if (demand.getResourcesType().getId() == resourceTypeId){
                 return demand.getBooster();
             }
         }
@@ -438,36 +371,24 @@ public class RouteEvent extends Event {
      * @return true if needed, false otherwise
      */
     private boolean associationsNeedResource(StationAssociations association, Resource resourceToLoad) {
+        ResourcesType resourceTypeToLoad = resourceToLoad.getResourceType();
         if (association instanceof HouseBlock){
-            for (ResourcesType resourcesType : ((HouseBlock) association).getConsumableResources()){
-                if (resourcesType.getName().equals(resourceToLoad.getResourceType().getName())){
-                    return true;
-                }
-            }
-            return false;
+            return ((HouseBlock) association).consumesResource(resourceTypeToLoad);
         }
 
         if (association instanceof TransformingIndustry){
-            for (ResourcesType resourcesType : ((TransformingIndustry) association).getClonedTransformingIndustry(scenario).getPrimaryResources()){
-                if (resourcesType.getName().equals(resourceToLoad.getResourceType().getName())){
-                    return true;
-                }
+            if (containsResourceType(((TransformingIndustry) association).getClonedTransformingIndustry(scenario).getPrimaryResources(), resourceTypeToLoad)){
+                return true;
             }
         }
 
         if (association instanceof MixedIndustry){
-            List<ResourcesType> usedResourceTypes = new ArrayList<>();
-
-            usedResourceTypes.addAll(((MixedIndustry) association).getClonedMixedIndustry(scenario).getExportedResources());
-            List<ResourcesType> transformedResources = ((MixedIndustry) association).getClonedMixedIndustry(scenario).getTransformedResources();
-
-            for (ResourcesType resourcesType: transformedResources){
-                TransformingResource resource = (TransformingResource) resourcesType;
-                usedResourceTypes.addAll(resource.getNeededResources());
+            MixedIndustry clonedIndustry = ((MixedIndustry) association).getClonedMixedIndustry(scenario);
+            if (containsResourceType(clonedIndustry.getExportedResources(), resourceTypeToLoad)){
+                return true;
             }
-
-            for (ResourcesType resourcesType : usedResourceTypes){
-                if (resourcesType.getName().equals(resourceToLoad.getResourceType().getName())){
+            for (ResourcesType resourcesType : clonedIndustry.getTransformedResources()){
+                if (containsResourceType(((TransformingResource) resourcesType).getNeededResources(), resourceTypeToLoad)){
                     return true;
                 }
             }
@@ -476,6 +397,23 @@ public class RouteEvent extends Event {
         return false;
     }
 
+    /**
+     * Checks if a list of resource types has a resource type with the same id.
+     *
+     * @param resourcesTypes the resource types
+     * @param resourcesType the resource type to find
+     * @return true if found, false otherwise
+     */
+    private boolean containsResourceType(List<? extends ResourcesType> resourcesTypes, ResourcesType resourcesType) {
+        int id = resourcesType.getId();
+        for (ResourcesType candidate : resourcesTypes){
+            if (candidate.getId() == id){
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Adds a resource to the inventory of a station association.
      *
@@ -483,11 +421,9 @@ public class RouteEvent extends Event {
      * @param resourceToLoad the resource to add
      */
     private void addResourceToInvAssociation(StationAssociations associations, Resource resourceToLoad) {
-        for (Resource resource : associations.getInventory().getResources()){
-            if (resource.getResourceType().getName().equals(resourceToLoad.getResourceType().getName())){
-                associations.getInventory().addResource(resourceToLoad);
-                return;
-            }
+        if (associations.getInventory().existsResourceInInventory(resourceToLoad.getResourceType())){
+            associations.getInventory().addResource(resourceToLoad);
+            return;
         }
 
         if (associations instanceof TransformingIndustry){
@@ -577,12 +513,6 @@ public class RouteEvent extends Event {
      * @param cargoToPick the type of resource
      */
     private void addResourceToInvOfTrain(Train train, int quantityOfResource, ResourcesType cargoToPick) {
-        for (Resource resource : train.getInventory().getResources()) {
-            if (resource.getResourceType().equals(cargoToPick)) {
-                train.getInventory().addResource(resource);
-                return;
-            }
-        }
         train.getInventory().addResource(new Resource(cargoToPick, quantityOfResource));
     }
 
@@ -594,12 +524,7 @@ public class RouteEvent extends Event {
      * @return true if available, false otherwise
      */
     private boolean associationHasResource(StationAssociations stationAssociation, ResourcesType cargoToPick) {
-        for (Resource resource : stationAssociation.getInventory().getAllResources()) {
-            if (resource.getResourceType().getName().equals(cargoToPick.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return stationAssociation.getInventory().existsResourceInInventory(cargoToPick);
     }
 
     /**
@@ -610,12 +535,7 @@ public class RouteEvent extends Event {
      * @return the quantity available
      */
     private int associationGetResourceQuantity(StationAssociations stationAssociation, ResourcesType cargoToPick) {
-        for (Resource resource : stationAssociation.getInventory().getAllResources()) {
-            if (resource.getResourceType().getName().equals(cargoToPick.getName())) {
-                return resource.getQuantity();
-            }
-        }
-        return 0;
+        return stationAssociation.getInventory().getResourceQuantity(cargoToPick);
     }
 
     // ##############################
@@ -628,9 +548,17 @@ public class RouteEvent extends Event {
      * @return the number of days required
      */
     private int calculateTimeForThePath() {
-        int distance = findDistanceToNextPoint();
-        int maxDistancePerDay = debuffSpeedByCarriage(findMaxDistanceTravelledByDay());
+        return getLegTravelDays(route.getPointPathPosition());
+    }
 
+    /**
+     * Calculates the time required to travel a distance with the assigned train.
+     *
+     * @param distance the distance to travel
+     * @param maxDistancePerDay the max distance the train travels per day
+     * @return the number of days required
+     */
+    private int calculateTravelDays(int distance, int maxDistancePerDay) {
         int totalDays = distance / maxDistancePerDay;
         if (distance % maxDistancePerDay != 0) {
             totalDays += 1;
@@ -640,89 +568,61 @@ public class RouteEvent extends Event {
     }
 
     /**
-     * Applies speed debuff based on the number of carriages.
+     * Finds the maximum distance the assigned train's locomotive can travel in a day.
      *
-     * @param maxDistanceTravelledByDay the max distance per day without debuff
-     * @return the debuffed max distance per day
+     * @return the max distance per day
      */
-    private int debuffSpeedByCarriage(int maxDistanceTravelledByDay) {
-        int carriageNumber = route.getAssignedTrain().getCarriages().size();
-        int debuffPercentage = carriageNumber * DEBUFF_SPEED_PER_CARRIAGE;
-
-        if (debuffPercentage > MAX_SPEED_DEEBUF) {
-            debuffPercentage = MAX_SPEED_DEEBUF;
-        }
-
-        double debuffedDistance = maxDistanceTravelledByDay * (1 - debuffPercentage / 100.0);
-        return (int) debuffedDistance;
+    public int findMaxDistanceTravelledByDay() {
+        return route.getAssignedTrain().findMaxDistanceTravelledByDay();
     }
 
     /**
-     * Finds the maximum distance a train can travel in a day.
+     * Gets the days the assigned train needs to travel the leg starting at a point of the route.
      *
-     * @return the max distance per day
+     * @param pointPathPosition the position of the point in the route
+     * @return the number of days required
      */
-    public int findMaxDistanceTravelledByDay() {
-        double acceleration = route.getAssignedTrain().getLocomotive().getAcceleration();
-        double topSpeed = route.getAssignedTrain().getLocomotive().getTopSpeed();
-
-        if (acceleration <= 0 || topSpeed <= 0) return 0;
-
-        double timeToTopSpeed = topSpeed / acceleration;
-
-        if (timeToTopSpeed >= MAX_HOURS_OF_SERVICE) {
-            return (int) Math.floor(0.5 * acceleration * MAX_HOURS_OF_SERVICE);
-        }
-
-        double distanceAccelerating = 0.5 * acceleration * timeToTopSpeed * timeToTopSpeed;
-        double distanceAtTopSpeed = topSpeed * (MAX_HOURS_OF_SERVICE - timeToTopSpeed);
-
-        return (int) Math.floor(distanceAccelerating + distanceAtTopSpeed);
+    private int getLegTravelDays(int pointPathPosition) {
+        updateTimetable();
+        return pointPathPosition >= 0 && pointPathPosition < legTravelDays.length ? legTravelDays[pointPathPosition] : 0;
     }
 
     /**
-     * Finds the distance to the next point in the route.
+     * Gets the fuel cost of the assigned train for the leg starting at a point of the route.
      *
-     * @return the distance in units
+     * @param pointPathPosition the position of the point in the route
+     * @return the fuel cost
      */
-    private int findDistanceToNextPoint() {
-        int pointPathPosition = route.getPointPathPosition();
-        int totalDistance = 0;
-
-        for (RailwayLine railwayLine : getUsedRailways(pointPathPosition)) {
-            totalDistance += railwayLine.getPositionsRailwayLine().size();
-        }
-
-        return totalDistance;
+    private int getLegFuelCost(int pointPathPosition) {
+        updateTimetable();
+        return pointPathPosition >= 0 && pointPathPosition < legFuelCosts.length ? legFuelCosts[pointPathPosition] : 0;
     }
 
     /**
-     * Gets the list of railway lines used between two points in the route.
-     *
-     * @param pointPathPosition the current point position
-     * @return the list of railway lines used
+     * Computes the travel days and fuel cost of every leg of the route for the assigned train,
+     * unless they were already computed for the same legs and train.
      */
-    private List<RailwayLine> getUsedRailways(int pointPathPosition) {
-        List<RailwayLine> result = new ArrayList<>();
-        String fromStation = "S" + pointPathPosition;
-        String toStation = "S" + (pointPathPosition + 1);
-        boolean collecting = false;
-
-        for (String entry : completePath) {
-            if (entry.equals(fromStation)) {
-                collecting = true;
-                continue;
-            }
-            if (entry.equals(toStation)) break;
+    private void updateTimetable() {
+        RouteLeg[] legs = route.getLegs();
+        Train train = route.getAssignedTrain();
+        int maxDistancePerDay = train.getDailyRange();
+        if (legTravelDays != null && timetableLegs == legs && timetableTrain == train
+                && timetableLocomotive == train.getLocomotive() && timetableDailyRange == maxDistancePerDay) {
+            return;
+        }
 
-            if (collecting && entry.startsWith("R")) {
-                int index = Integer.parseInt(entry.substring(1));
-                if (index >= 0 && index < route.getPath().size()) {
-                    result.add(route.getPath().get(index));
-                }
-            }
+        int[] travelDays = new int[legs.length];
+        int[] fuelCosts = new int[legs.length];
+        for (int i = 0; i < legs.length; i++) {
+            travelDays[i] = calculateTravelDays(legs[i].getLength(), maxDistancePerDay);
+            fuelCosts[i] = calculateFuelCost(legs[i].getLength());
         }
 
-        return result;
+        legTravelDays = travelDays;
+        legFuelCosts = fuelCosts;
+        timetableLegs = legs;
+        timetableTrain = train;
+        timetableLocomotive = train.getLocomotive();
+        timetableDailyRange = maxDistancePerDay;
     }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package pt.ipp.isep.dei.domain.Event;
 
+import pt.ipp.isep.dei.domain.Log.LogCategory;
+import pt.ipp.isep.dei.domain.Log.LogRecorder;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 import pt.ipp.isep.dei.domain.Simulation.TimeDate;
 import pt.ipp.isep.dei.domain.Train.Locomotive;
@@ -49,18 +52,18 @@ public class StartLocomotiveOperationEvent extends Event {
     }
 
     /**
-     * Triggers the event, making the locomotive available and returning a random alert message.
+     * Triggers the event, making the locomotive available and recording a random alert message.
      *
-     * @return a list containing a single alert message
+     * @param recorder the recorder of the log lines of the event
      */
     @Override
-    public List<String> trigger() {
-        List<String> newLogs = new ArrayList<>();
-        newLogs.add(" ");
+    public void trigger(LogRecorder recorder) {
+        recorder.record(LogTemplate.DATE_SPACER);
         simulation.addAvailableDateLocomotive(locomotive);
-        Random random = new Random();
-        newLogs.add(alertMessages.get(random.nextInt(alertMessages.size())));
-        return newLogs;
+        if (recorder.isRecording(LogCategory.DATE)) {
+            Random random = new Random();
+            recorder.record(LogTemplate.DATE_ALERT, alertMessages.get(random.nextInt(alertMessages.size())), null, 0);
+        }
     }
 
     /**
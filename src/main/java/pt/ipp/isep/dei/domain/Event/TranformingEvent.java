@@ -1,13 +1,13 @@
 package pt.ipp.isep.dei.domain.Event;
 
 import pt.ipp.isep.dei.domain.Industry.Industry;
+import pt.ipp.isep.dei.domain.Log.LogCategory;
+import pt.ipp.isep.dei.domain.Log.LogRecorder;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Resource.TransformingResource;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Represents an event that transforms resources at a specific industry.
  * This event checks if the required resources are available in the industry's inventory,
@@ -21,9 +21,6 @@ public class TranformingEvent extends Event {
     /** The resource to be transformed. */
     private TransformingResource transformingResource;
 
-    /** Flag to indicate if the first menu should be printed. */
-    private static boolean printFirstMenu;
-
     /**
      * Constructs a new TransformingEvent.
      *
@@ -37,19 +34,17 @@ public class TranformingEvent extends Event {
         super(name, interval, actualDate);
         this.transformingResource = transformingResource;
         this.industry = industry;
-        printFirstMenu = true;
     }
 
     /**
      * Triggers the transforming event.
      * Checks if all needed resources are available at the industry,
-     * removes them, adds the transformed resource, and logs the operation.
+     * removes them, adds the transformed resource, and records the operation.
      *
-     * @return a list of log messages generated by the event
+     * @param recorder the recorder of the log lines of the event
      */
     @Override
-    public List<String> trigger() {
-        List<String> newLogs = new ArrayList<>();
+    public void trigger(LogRecorder recorder) {
         boolean validOperation = true;
 
         // Check if all required resources are available in the industry inventory
@@ -66,17 +61,13 @@ public class TranformingEvent extends Event {
                 industry.removeResourceFromInventory(new Resource(neededResource, 1));
             }
             industry.addResourceToInventory(new Resource(transformingResource, 1));
-            if (printFirstMenu) {
-                newLogs.add(" ");
-                newLogs.add("⚙ Manufacturing:");
-                printFirstMenu = false;
+            if (recorder.isRecording(LogCategory.TRANSFORMING)) {
+                recorder.record(LogTemplate.TRANSFORMATION, industry.getName(), transformingResource.getTransformation(), 1);
             }
-            newLogs.add(String.format("   • %-4s × %-22s @ %s", 1, transformingResource.getTransformation(), industry.getName()));
             industry.setUpdatedInventory(true);
         }
 
         this.setNextGenerationDate(getNextGenerationDate() + getInterval());
-        return newLogs;
     }
 
     /**
@@ -114,22 +105,4 @@ public class TranformingEvent extends Event {
     public void setTransformingResource(TransformingResource transformingResource) {
         this.transformingResource = transformingResource;
     }
-
-    /**
-     * Checks if the first menu should be printed.
-     *
-     * @return true if the first menu should be printed, false otherwise
-     */
-    public static boolean isPrintFirstMenu() {
-        return printFirstMenu;
-    }
-
-    /**
-     * Sets whether the first menu should be printed.
-     *
-     * @param printFirstMenu true to print the first menu, false otherwise
-     */
-    public static void setPrintFirstMenu(boolean printFirstMenu) {
-        TranformingEvent.printFirstMenu = printFirstMenu;
-    }
 }
\ No newline at end of file
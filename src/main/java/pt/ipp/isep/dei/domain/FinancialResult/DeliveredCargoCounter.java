@@ -0,0 +1,125 @@
+package pt.ipp.isep.dei.domain.FinancialResult;
+
+import pt.ipp.isep.dei.domain.Resource.Resource;
+import pt.ipp.isep.dei.domain.Resource.ResourcesType;
+import pt.ipp.isep.dei.domain.Resource.ResourcesTypeRegistry;
+import pt.ipp.isep.dei.domain.Station.Station;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the cargo delivered to each station during the current year, per resource type.
+ * The counters are incremented as trains unload, so the yearly demand update reads them directly.
+ * Each station keeps its quantities in an array indexed by the interned id of each resource type.
+ */
+public class DeliveredCargoCounter implements Serializable {
+
+    /** Delivered quantities of each station, indexed by resource type id. */
+    private transient HashMap<Station, int[]> deliveredQuantities = new HashMap<>();
+
+    /** Resource type delivered for each id, the first one delivered with that name. */
+    private transient ResourcesType[] types = new ResourcesType[0];
+
+    /**
+     * Adds the resources unloaded at a station to its counters.
+     *
+     * @param station   the station where the resources were unloaded
+     * @param resources the unloaded resources
+     */
+    public void addDelivery(Station station, List<Resource> resources) {
+        if (resources.isEmpty()) {
+            return;
+        }
+        int[] stationQuantities = deliveredQuantities.get(station);
+        for (Resource resource : resources) {
+            ResourcesType resourcesType = resource.getResourceType();
+            int id = resourcesType.getId();
+            if (id >= types.length) {
+                types = Arrays.copyOf(types, Math.max(id + 1, ResourcesTypeRegistry.size()));
+            }
+            if (types[id] == null) {
+                types[id] = resourcesType;
+            }
+            if (stationQuantities == null || id >= stationQuantities.length) {
+                stationQuantities = stationQuantities == null
+                        ? new int[types.length]
+                        : Arrays.copyOf(stationQuantities, types.length);
+                deliveredQuantities.put(station, stationQuantities);
+            }
+            stationQuantities[id] += resource.getQuantity();
+        }
+    }
+
+    /**
+     * Gets the quantity of a resource type delivered to a station.
+     *
+     * @param station       the station
+     * @param resourcesType the resource type
+     * @return the delivered quantity
+     */
+    public int getDeliveredQuantity(Station station, ResourcesType resourcesType) {
+        int[] stationQuantities = deliveredQuantities.get(station);
+        if (stationQuantities == null) {
+            return 0;
+        }
+        int id = resourcesType.getId();
+        return id < stationQuantities.length ? stationQuantities[id] : 0;
+    }
+
+    /**
+     * Resets every counter, at the end of a year.
+     */
+    public void clear() {
+        deliveredQuantities.clear();
+    }
+
+    /**
+     * Saves the counters as the resources delivered to each station, since resource type ids are not kept between runs.
+     *
+     * @param out the output stream
+     * @throws IOException if the counters cannot be written
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        HashMap<Station, List<Resource>> deliveries = new HashMap<>();
+        for (Map.Entry<Station, int[]> entry : deliveredQuantities.entrySet()) {
+            int[] stationQuantities = entry.getValue();
+            List<Resource> resources = new ArrayList<>();
+            for (int id = 0; id < stationQuantities.length; id++) {
+                if (stationQuantities[id] != 0) {
+                    resources.add(new Resource(types[id], stationQuantities[id]));
+                }
+            }
+            deliveries.put(entry.getKey(), resources);
+        }
+        out.writeObject(deliveries);
+    }
+
+    /**
+     * Restores the counters from the resources delivered to each station.
+     *
+     * @param in the input stream
+     * @throws IOException            if the counters cannot be read
+     * @throws ClassNotFoundException if a class of the counters cannot be found
+     */
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        deliveredQuantities = new HashMap<>();
+        types = new ResourcesType[0];
+        for (Map.Entry<Station, List<Resource>> entry : ((HashMap<Station, List<Resource>>) in.readObject()).entrySet()) {
+            addDelivery(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -123,6 +123,7 @@ public class Industry extends MapElement implements StationAssociations, Seriali
      *
      * @param assignedStation the station to associate with this industry
      */
+    @Override
     public void setAssignedStation(Station assignedStation) {
         this.assignedStation = assignedStation;
     }
@@ -166,7 +167,7 @@ public class Industry extends MapElement implements StationAssociations, Seriali
      */
     @Override
     public int getResourceQuantity(ResourcesType resourceType) {
-        return inventory.getResourceQuantity(resourceType.getName());
+        return inventory.getResourceQuantity(resourceType);
     }
 
     /**
@@ -177,12 +178,7 @@ public class Industry extends MapElement implements StationAssociations, Seriali
      */
     @Override
     public boolean existsResourceInInventory(ResourcesType resource) {
-        for (Resource res : inventory.getAllResources()) {
-            if (res.getResourceType().getName().equals(resource.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return inventory.existsResourceInInventory(resource);
     }
 
     /**
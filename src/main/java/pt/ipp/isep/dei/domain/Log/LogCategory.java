@@ -0,0 +1,67 @@
+package pt.ipp.isep.dei.domain.Log;
+
+import java.util.List;
+
+/**
+ * Enum representing the category of a simulation log record.
+ * Each category can be shown or hidden in the simulation window.
+ * <ul>
+ *     <li>DAY - The header of a simulation day.</li>
+ *     <li>REPORT - Yearly financial reports and maintenance days.</li>
+ *     <li>DATE - New locomotives and carriages becoming available.</li>
+ *     <li>GENERATION - Resources produced by industries and house blocks.</li>
+ *     <li>TRANSFORMING - Resources manufactured by transforming industries.</li>
+ *     <li>EXPORT - Resources exported by ports.</li>
+ *     <li>ROUTE - Trains moving along their routes.</li>
+ * </ul>
+ */
+public enum LogCategory {
+    /**
+     * The header of a simulation day.
+     */
+    DAY,
+
+    /**
+     * Yearly financial reports and maintenance days.
+     */
+    REPORT,
+
+    /**
+     * New locomotives and carriages becoming available.
+     */
+    DATE,
+
+    /**
+     * Resources produced by industries and house blocks.
+     */
+    GENERATION,
+
+    /**
+     * Resources manufactured by transforming industries.
+     */
+    TRANSFORMING,
+
+    /**
+     * Resources exported by ports.
+     */
+    EXPORT,
+
+    /**
+     * Trains moving along their routes.
+     */
+    ROUTE;
+
+    /**
+     * Gets the menu shown before the first record of this category in a simulation day.
+     *
+     * @return the templates of the menu lines, empty if the category has no menu
+     */
+    public List<LogTemplate> getMenu() {
+        return switch (this) {
+            case GENERATION -> List.of(LogTemplate.PRODUCTION_SPACER, LogTemplate.PRODUCTION_MENU);
+            case TRANSFORMING -> List.of(LogTemplate.MANUFACTURING_SPACER, LogTemplate.MANUFACTURING_MENU);
+            case EXPORT -> List.of(LogTemplate.EXPORT_SPACER, LogTemplate.EXPORT_MENU);
+            default -> List.of();
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package pt.ipp.isep.dei.domain.Log;
+
+/**
+ * Record of one line of the simulation log.
+ * Keeps the template and the values of the line; the text is only built by {@link #render()}.
+ */
+public class LogRecord {
+
+    /** The template of the line. */
+    private final LogTemplate template;
+
+    /** The simulation day of the line. */
+    private final int day;
+
+    /** The station, industry, route or message of the line. */
+    private final String subject;
+
+    /** The resource name of the line. */
+    private final String resource;
+
+    /** The quantity of the line. */
+    private final int quantity;
+
+    /**
+     * Constructs a log record.
+     *
+     * @param template the template of the line
+     * @param day      the simulation day of the line
+     * @param subject  the station, industry, route or message of the line, or null
+     * @param resource the resource name of the line, or null
+     * @param quantity the quantity of the line
+     * @throws IllegalArgumentException if the template is null
+     */
+    public LogRecord(LogTemplate template, int day, String subject, String resource, int quantity) {
+        if (template == null) {
+            throw new IllegalArgumentException("Log template cannot be null");
+        }
+        this.template = template;
+        this.day = day;
+        this.subject = subject;
+        this.resource = resource;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Builds the text of the line.
+     *
+     * @return the text of the line
+     */
+    public String render() {
+        return template.render(day, subject, resource, quantity);
+    }
+
+    /**
+     * Gets the template of the line.
+     *
+     * @return the template
+     */
+    public LogTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Gets the category of the line.
+     *
+     * @return the category
+     */
+    public LogCategory getCategory() {
+        return template.getCategory();
+    }
+
+    /**
+     * Gets the simulation day of the line.
+     *
+     * @return the day
+     */
+    public int getDay() {
+        return day;
+    }
+
+    /**
+     * Gets the station, industry, route or message of the line.
+     *
+     * @return the subject, or null
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the resource name of the line.
+     *
+     * @return the resource name, or null
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Gets the quantity of the line.
+     *
+     * @return the quantity
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
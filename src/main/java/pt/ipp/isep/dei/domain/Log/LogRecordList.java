@@ -0,0 +1,111 @@
+package pt.ipp.isep.dei.domain.Log;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Log recorder that keeps the records of a single simulation day in a list.
+ * When menus are enabled, the menu of a category is recorded before its first line.
+ */
+public class LogRecordList implements LogRecorder {
+
+    /** The simulation day of the records. */
+    private final int day;
+
+    /** The recorded categories. */
+    private final Set<LogCategory> recordedCategories;
+
+    /** Whether the menu of a category is recorded before its first line. */
+    private final boolean menus;
+
+    /** The categories whose menu was already recorded. */
+    private final Set<LogCategory> printedMenus = EnumSet.noneOf(LogCategory.class);
+
+    /** The records, in order. */
+    private final List<LogRecord> records = new ArrayList<>();
+
+    /**
+     * Constructs a list that records every category, without menus.
+     *
+     * @param day the simulation day of the records
+     */
+    public LogRecordList(int day) {
+        this(day, EnumSet.allOf(LogCategory.class), false);
+    }
+
+    /**
+     * Constructs a list that records the given categories.
+     *
+     * @param day                the simulation day of the records
+     * @param recordedCategories the recorded categories
+     * @param menus              true to record the menu of a category before its first line
+     */
+    public LogRecordList(int day, Set<LogCategory> recordedCategories, boolean menus) {
+        this.day = day;
+        this.recordedCategories = recordedCategories;
+        this.menus = menus;
+    }
+
+    @Override
+    public boolean isRecording(LogCategory category) {
+        return recordedCategories.contains(category);
+    }
+
+    @Override
+    public void record(LogTemplate template, String subject, String resource, int quantity) {
+        LogCategory category = template.getCategory();
+        if (!recordedCategories.contains(category)) {
+            return;
+        }
+        if (menus && printedMenus.add(category)) {
+            for (LogTemplate menuLine : category.getMenu()) {
+                records.add(new LogRecord(menuLine, day, null, null, 0));
+            }
+        }
+        records.add(new LogRecord(template, day, subject, resource, quantity));
+    }
+
+    /**
+     * Records the records of another list, in order, as if they were recorded in this list.
+     *
+     * @param other the list to copy the records from
+     */
+    public void addAll(LogRecordList other) {
+        for (LogRecord record : other.records) {
+            record(record.getTemplate(), record.getSubject(), record.getResource(), record.getQuantity());
+        }
+    }
+
+    /**
+     * Gets the recorded records, in order.
+     *
+     * @return the records
+     */
+    public List<LogRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * Checks if no record was recorded.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * Builds the text of every record, in order.
+     *
+     * @return the lines of the records
+     */
+    public List<String> render() {
+        List<String> lines = new ArrayList<>(records.size());
+        for (LogRecord record : records) {
+            lines.add(record.render());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,36 @@
+package pt.ipp.isep.dei.domain.Log;
+
+/**
+ * Destination of the log lines produced by simulation events.
+ * Lines of hidden categories are dropped before a record is created.
+ */
+public interface LogRecorder {
+
+    /**
+     * Checks if lines of a category are recorded.
+     * Events can use it to skip work that is only needed for the log.
+     *
+     * @param category the category
+     * @return true if lines of the category are recorded, false otherwise
+     */
+    boolean isRecording(LogCategory category);
+
+    /**
+     * Records a line, if its category is recorded.
+     *
+     * @param template the template of the line
+     * @param subject  the station, industry, route or message of the line, or null
+     * @param resource the resource name of the line, or null
+     * @param quantity the quantity of the line
+     */
+    void record(LogTemplate template, String subject, String resource, int quantity);
+
+    /**
+     * Records a line without values, if its category is recorded.
+     *
+     * @param template the template of the line
+     */
+    default void record(LogTemplate template) {
+        record(template, null, null, 0);
+    }
+}
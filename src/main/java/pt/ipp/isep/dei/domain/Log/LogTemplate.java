@@ -0,0 +1,350 @@
+package pt.ipp.isep.dei.domain.Log;
+
+import pt.ipp.isep.dei.domain.Simulation.TimeDate;
+
+/**
+ * Enum representing the line templates of the simulation log.
+ * A log record only keeps its template and values; the text of the line is built by the template
+ * when the record is shown. A railway line maintenance line keeps the names of its two stations as its
+ * subject and resource.
+ */
+public enum LogTemplate {
+    DAY_SEPARATOR(LogCategory.DAY) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "==========================================";
+        }
+    },
+    DAY_TITLE(LogCategory.DAY) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " 🕒 Simulation Day " + TimeDate.fromTotalDays(day + 1);
+        }
+    },
+    DAY_END(LogCategory.DAY) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " ";
+        }
+    },
+    REPORT_SPACER(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "";
+        }
+    },
+    YEAR_REPORT_SEPARATOR(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "========================================";
+        }
+    },
+    YEAR_REPORT_DIVIDER(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "----------------------------------------";
+        }
+    },
+    YEAR_REPORT_TITLE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "        📊 Year Financial Report        ";
+        }
+    },
+    YEAR_REPORT_YEAR(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Year:               " + quantity;
+        }
+    },
+    YEAR_REPORT_EARNINGS(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Year Earnings:      💰 " + quantity;
+        }
+    },
+    YEAR_REPORT_TRACK_MAINTENANCE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Track Maintenance:  💰 " + quantity;
+        }
+    },
+    YEAR_REPORT_TRAIN_MAINTENANCE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Train Maintenance:  💰 " + quantity;
+        }
+    },
+    YEAR_REPORT_FUEL_COST(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Fuel Cost:          💰 " + quantity;
+        }
+    },
+    YEAR_REPORT_TOTAL_EXPENSES(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Total Expenses:     💰 " + quantity;
+        }
+    },
+    YEAR_REPORT_REVENUE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Revenue Result:     💰 " + quantity;
+        }
+    },
+    YEAR_REPORT_END(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "========================================\n";
+        }
+    },
+    MAINTENANCE_SEPARATOR(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "===============================================";
+        }
+    },
+    MAINTENANCE_DIVIDER(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "-----------------------------------------------";
+        }
+    },
+    TRAIN_MAINTENANCE_TITLE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "             🚂 Train Maintenance Day           ";
+        }
+    },
+    TRAIN_MAINTENANCE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "Train Name: " + subject + " | Maintenance Cost: 💰 " + quantity;
+        }
+    },
+    TRAIN_MAINTENANCE_COUNT(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Total Trains Maintained: " + quantity;
+        }
+    },
+    TRAIN_MAINTENANCE_TOTAL(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Total Maintenance Cost:  💰 " + quantity;
+        }
+    },
+    TRAIN_MAINTENANCE_BUDGET(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Remaining Budget:        💰 " + quantity;
+        }
+    },
+    RAILWAY_MAINTENANCE_TITLE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "         🛤 Railway Maintenance Day            ";
+        }
+    },
+    RAILWAY_LINE_MAINTENANCE(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "Railway Line: \n" + subject + " \uD83D\uDD01 " + resource + "\nMaintenance Cost: 💰 " + quantity;
+        }
+    },
+    RAILWAY_MAINTENANCE_COUNT(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Total Railway Lines Maintained: " + quantity;
+        }
+    },
+    RAILWAY_MAINTENANCE_TOTAL(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Total Maintenance Cost:         💰 " + quantity;
+        }
+    },
+    RAILWAY_MAINTENANCE_BUDGET(LogCategory.REPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " Remaining Budget:               💰 " + quantity;
+        }
+    },
+    DATE_SPACER(LogCategory.DATE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " ";
+        }
+    },
+    DATE_ALERT(LogCategory.DATE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return subject;
+        }
+    },
+    PRODUCTION_SPACER(LogCategory.GENERATION) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " ";
+        }
+    },
+    PRODUCTION_MENU(LogCategory.GENERATION) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "🏭  Production:";
+        }
+    },
+    INDUSTRY_PRODUCTION(LogCategory.GENERATION) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return String.format("   • %-4d × %-12s @ %s", quantity, resource, subject);
+        }
+    },
+    HOUSE_BLOCK_PRODUCTION(LogCategory.GENERATION) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return String.format("   • %-4d × %-12s @ House Block (%s)", quantity, resource, subject);
+        }
+    },
+    MANUFACTURING_SPACER(LogCategory.TRANSFORMING) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " ";
+        }
+    },
+    MANUFACTURING_MENU(LogCategory.TRANSFORMING) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "⚙ Manufacturing:";
+        }
+    },
+    TRANSFORMATION(LogCategory.TRANSFORMING) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return String.format("   • %-4s × %-22s @ %s", quantity, resource, subject);
+        }
+    },
+    EXPORT_SPACER(LogCategory.EXPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " ";
+        }
+    },
+    EXPORT_MENU(LogCategory.EXPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "📦  Export:";
+        }
+    },
+    EXPORT(LogCategory.EXPORT) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return String.format("   ➜  %-4d × %-12s", quantity, resource);
+        }
+    },
+    ROUTE_SPACER(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return " ";
+        }
+    },
+    ROUTE_TRIGGERED(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "🚂 Route Event Triggered: " + subject;
+        }
+    },
+    ROUTE_START(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "🔄 Starting route event at point: " + subject;
+        }
+    },
+    ROUTE_UNLOADED(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "📦 Resources unloaded from the train:";
+        }
+    },
+    ROUTE_UNLOADED_RESOURCE(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "   ↪️ " + quantity + "x " + resource;
+        }
+    },
+    ROUTE_NOTHING_UNLOADED(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "📭 No resources to loaded.";
+        }
+    },
+    ROUTE_WAITING_FULL(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "⏳ Waiting for train to fill up completely to continue (FULL mode)";
+        }
+    },
+    ROUTE_WAITING_HALF(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "⏳ Waiting for train to reach half load (HALF mode)";
+        }
+    },
+    ROUTE_DEPARTURE(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "🛤 Train departing for the next stop! ⏱ Estimated time: " + quantity + (quantity == 1 ? " day" : " days");
+        }
+    },
+    ROUTE_REVENUE(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "💰 Revenue obtained from delivery: " + quantity;
+        }
+    },
+    ROUTE_FUEL_COST(LogCategory.ROUTE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "💸 Fuel cost deducted: " + quantity;
+        }
+    },
+    EVENT_TRIGGERED(LogCategory.DATE) {
+        @Override
+        public String render(int day, String subject, String resource, int quantity) {
+            return "Event " + subject + " triggered at date: " + quantity;
+        }
+    };
+
+    /** The category of the lines of this template. */
+    private final LogCategory category;
+
+    /**
+     * Constructs a template of the given category.
+     *
+     * @param category the category of the lines
+     */
+    LogTemplate(LogCategory category) {
+        this.category = category;
+    }
+
+    /**
+     * Gets the category of the lines of this template.
+     *
+     * @return the category
+     */
+    public LogCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Builds the text of a line of this template.
+     *
+     * @param day      the simulation day of the line
+     * @param subject  the station, industry, route or message of the line
+     * @param resource the resource name of the line
+     * @param quantity the quantity of the line
+     * @return the text of the line
+     */
+    public abstract String render(int day, String subject, String resource, int quantity);
+}
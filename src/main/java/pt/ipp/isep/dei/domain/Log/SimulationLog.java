@@ -0,0 +1,135 @@
+package pt.ipp.isep.dei.domain.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity log of a simulation run.
+ * Records are kept in a ring buffer, so adding a record to a full log replaces the oldest one in constant time.
+ * Every record gets a sequence number, so a view can ask only for the records it has not shown yet,
+ * also from another thread while the simulation is adding records.
+ */
+public class SimulationLog {
+
+    /** The ring buffer of records. */
+    private final LogRecord[] records;
+
+    /** Number of records ever added to the log. */
+    private long addedRecords;
+
+    /**
+     * Constructs a log that keeps the given number of most recent records.
+     *
+     * @param capacity the maximum number of records kept
+     * @throws IllegalArgumentException if the capacity is lower than 1
+     */
+    public SimulationLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Log capacity must be at least 1");
+        }
+        this.records = new LogRecord[capacity];
+    }
+
+    /**
+     * Adds a record to the log, replacing the oldest record if the log is full.
+     *
+     * @param record the record to add
+     * @throws IllegalArgumentException if the record is null
+     */
+    public synchronized void add(LogRecord record) {
+        if (record == null) {
+            throw new IllegalArgumentException("Log record cannot be null");
+        }
+        records[(int) (addedRecords % records.length)] = record;
+        addedRecords++;
+    }
+
+    /**
+     * Adds records to the log, in order.
+     *
+     * @param newRecords the records to add
+     */
+    public synchronized void addAll(List<LogRecord> newRecords) {
+        for (LogRecord record : newRecords) {
+            add(record);
+        }
+    }
+
+    /**
+     * Gets the number of records kept in the log.
+     *
+     * @return the number of records
+     */
+    public synchronized int size() {
+        return (int) Math.min(addedRecords, records.length);
+    }
+
+    /**
+     * Gets the maximum number of records kept in the log.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return records.length;
+    }
+
+    /**
+     * Gets the sequence number of the oldest record kept in the log.
+     *
+     * @return the sequence number of the oldest record
+     */
+    public synchronized long getFirstSequence() {
+        return addedRecords - size();
+    }
+
+    /**
+     * Gets the sequence number the next added record will get.
+     *
+     * @return the sequence number after the newest record
+     */
+    public synchronized long getNextSequence() {
+        return addedRecords;
+    }
+
+    /**
+     * Gets the record with the given sequence number.
+     *
+     * @param sequence the sequence number of the record
+     * @return the record
+     * @throws IndexOutOfBoundsException if the record is no longer, or not yet, in the log
+     */
+    public synchronized LogRecord get(long sequence) {
+        if (sequence < getFirstSequence() || sequence >= addedRecords) {
+            throw new IndexOutOfBoundsException("Log record " + sequence + " is not in the log");
+        }
+        return records[(int) (sequence % records.length)];
+    }
+
+    /**
+     * Gets the records from the given sequence number to the newest, starting at the oldest record kept
+     * if the given one is no longer in the log.
+     *
+     * @param fromSequence the sequence number of the first record
+     * @return the records, from the oldest to the newest
+     */
+    public synchronized List<LogRecord> getRecordsFrom(long fromSequence) {
+        return getRecords(fromSequence, addedRecords);
+    }
+
+    /**
+     * Gets the records between two sequence numbers, starting at the oldest record kept
+     * if the first one is no longer in the log.
+     *
+     * @param fromSequence the sequence number of the first record
+     * @param toSequence   the sequence number after the last record
+     * @return the records, from the oldest to the newest
+     */
+    public synchronized List<LogRecord> getRecords(long fromSequence, long toSequence) {
+        List<LogRecord> result = new ArrayList<>();
+        long end = Math.min(toSequence, addedRecords);
+        for (long sequence = Math.max(fromSequence, getFirstSequence()); sequence < end; sequence++) {
+            result.add(records[(int) (sequence % records.length)]);
+        }
+        return result;
+    }
+}
@@ -5,8 +5,10 @@ import pt.ipp.isep.dei.domain.City.HouseBlock;
 import pt.ipp.isep.dei.domain.Industry.Industry;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.RailwayLine.TrackRouter;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain.Station.StationAssociationIndex;
 import pt.ipp.isep.dei.domain._Others_.Position;
 import pt.ipp.isep.dei.domain._Others_.Size;
 import pt.ipp.isep.dei.repository.*;
@@ -40,6 +42,11 @@ public class Map implements Serializable {
     private Size pixelSize;
     private Size kmSize;
     private String savedFileName;
+    private transient StationAssociationIndex stationAssociationIndex;
+    private transient OccupancyGrid occupancyGrid;
+    private transient int occupancyGridElementCount;
+    private transient int modificationCount;
+    private transient TrackRouter trackRouter;
 
     /**
      * Constructs a Map with a specified name and pixel size.
@@ -175,6 +182,7 @@ public class Map implements Serializable {
             throw new IllegalArgumentException("Size cannot be null");
         }
         this.pixelSize = pixelSize;
+        modificationCount++;
         setKmSize();
     }
 
@@ -259,20 +267,45 @@ public class Map implements Serializable {
         return houseBlockRepository.getAllHouseBlocks();
     }
 
+    /**
+     * Gets the grid index of the given industries and of the house blocks of the map, used to find station associations.
+     * The index is kept until cities or industries are added or removed, and rebuilt when the lists change.
+     *
+     * @param industries the industries to index, usually the industries of the map
+     * @return the station association index
+     */
+    public StationAssociationIndex getStationAssociationIndex(List<Industry> industries) {
+        List<HouseBlock> houseBlocks = getHouseBlockList();
+        if (stationAssociationIndex == null || !stationAssociationIndex.isBuiltFrom(industries, houseBlocks)) {
+            stationAssociationIndex = new StationAssociationIndex(industries, houseBlocks);
+        }
+        return stationAssociationIndex;
+    }
+
     /**
      * Gets the list of occupied positions in the map.
      *
      * @return A list of occupied positions.
      */
     public List<Position> getOccupiedPositions() {
-        listAllOccupiedPositions();
+        collectOccupiedPositions();
         return new ArrayList<>(occupiedPositions);
     }
 
     /**
-     * Updates the list of all occupied positions in the map.
+     * Updates the list of all occupied positions in the map and rebuilds the occupancy grid,
+     * for when the positions of elements already in the map changed.
      */
     public void listAllOccupiedPositions() {
+        collectOccupiedPositions();
+        occupancyGrid = null;
+        modificationCount++;
+    }
+
+    /**
+     * Collects the positions occupied by every element of the map into the list of occupied positions.
+     */
+    private void collectOccupiedPositions() {
         occupiedPositions.clear();
         for (MapElement elem : mapElementsUsed) {
             List<Position> occupiedByElement = elem.getOccupiedPositions();
@@ -280,6 +313,65 @@ public class Map implements Serializable {
         }
     }
 
+    /**
+     * Gets the occupancy grid of the map, built from its elements the first time it is needed
+     * and then updated as elements are added and removed. The grid is rebuilt if the list of elements
+     * was changed directly.
+     *
+     * @return The occupancy grid.
+     */
+    public OccupancyGrid getOccupancyGrid() {
+        if (occupancyGrid == null || occupancyGridElementCount != mapElementsUsed.size()) {
+            occupancyGrid = new OccupancyGrid(pixelSize.getWidth(), pixelSize.getHeight(), mapElementsUsed);
+            occupancyGridElementCount = mapElementsUsed.size();
+            modificationCount++;
+        }
+        return occupancyGrid;
+    }
+
+    /**
+     * Gets the number of times the occupied cells of the map changed, so results computed from them can be cached
+     * until it changes. The count is only meaningful while the application runs.
+     *
+     * @return The modification count.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Gets the router that finds the tracks of new railway lines on the map.
+     *
+     * @return The track router.
+     */
+    public TrackRouter getTrackRouter() {
+        if (trackRouter == null) {
+            trackRouter = new TrackRouter(this);
+        }
+        return trackRouter;
+    }
+
+    /**
+     * Checks if a position is occupied by any element of the map.
+     *
+     * @param position The position to check.
+     * @return True if the position is occupied, false otherwise.
+     */
+    public boolean isPositionOccupied(Position position) {
+        return getOccupancyGrid().isOccupied(position);
+    }
+
+    /**
+     * Gets the elements occupying a cell of the map.
+     *
+     * @param x The x coordinate of the cell.
+     * @param y The y coordinate of the cell.
+     * @return The elements occupying the cell, in the order they were added.
+     */
+    public List<MapElement> getElementsAt(int x, int y) {
+        return getOccupancyGrid().getElementsAt(x, y);
+    }
+
     /**
      * Checks if a list of positions is occupied.
      *
@@ -290,14 +382,7 @@ public class Map implements Serializable {
         if (positionsToCheck.isEmpty()) {
             return true;
         }
-        for (Position p1 : positionsToCheck) {
-            for (Position p2 : occupiedPositions) {
-                if (p1.equalsPosition(p2)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return getOccupancyGrid().isAnyOccupied(positionsToCheck);
     }
 
     /**
@@ -308,11 +393,9 @@ public class Map implements Serializable {
      */
     public boolean addElement(MapElement element) {
         element.setPosition(new Position(element.getPosition().getX(), element.getPosition().getY()));
-        listAllOccupiedPositions();
         if (element instanceof RailwayLine) {
             if (railwayLineRepository.addRailwayLine((RailwayLine) element)) {
-                mapElementsUsed.add(element);
-                listAllOccupiedPositions();
+                addElementUsed(element);
                 return true;
             }
             return false;
@@ -325,20 +408,19 @@ public class Map implements Serializable {
                 for (HouseBlock houseBlock : ((City) element).getHouseBlocks()) {
                     houseBlockRepository.addHouseBlock(houseBlock);
                 }
-                mapElementsUsed.add(element);
-                listAllOccupiedPositions();
+                stationAssociationIndex = null;
+                addElementUsed(element);
                 return true;
             }
         } else if (element instanceof Industry) {
             if (industryRepository.addIndustry((Industry) element)) {
-                mapElementsUsed.add(element);
-                listAllOccupiedPositions();
+                stationAssociationIndex = null;
+                addElementUsed(element);
                 return true;
             }
         } else if (element instanceof Station) {
             if (stationRepository.addStation((Station) element)) {
-                mapElementsUsed.add(element);
-                listAllOccupiedPositions();
+                addElementUsed(element);
                 return true;
             }
         }
@@ -357,31 +439,72 @@ public class Map implements Serializable {
                 for (HouseBlock houseBlock : ((City) element).getHouseBlocks()) {
                     houseBlockRepository.removeHouseBlock(houseBlock);
                 }
-                mapElementsUsed.remove(element);
-                listAllOccupiedPositions();
+                stationAssociationIndex = null;
+                removeElementUsed(element);
                 return true;
             }
         } else if (element instanceof Industry) {
-            mapElementsUsed.remove(element);
-            listAllOccupiedPositions();
+            stationAssociationIndex = null;
+            removeElementUsed(element);
             return true;
         } else if (element instanceof Station) {
             if (stationRepository.removeStation((Station) element)) {
-                mapElementsUsed.remove(element);
-                listAllOccupiedPositions();
+                removeElementUsed(element);
                 return true;
             }
         } else if (element instanceof RailwayLine) {
             if (railwayLineRepository.removeRailwayLine((RailwayLine) element)) {
-                mapElementsUsed.remove(element);
-                listAllOccupiedPositions();
+                removeElementUsed(element);
                 return true;
             }
         }
-        listAllOccupiedPositions();
         return false;
     }
 
+    /**
+     * Adds an element to the elements used in the map and marks its positions in the occupancy grid.
+     *
+     * @param element The element to add.
+     */
+    private void addElementUsed(MapElement element) {
+        mapElementsUsed.add(element);
+        modificationCount++;
+        if (occupancyGrid != null && occupancyGridElementCount == mapElementsUsed.size() - 1) {
+            occupancyGrid.add(element);
+            occupancyGridElementCount++;
+        }
+    }
+
+    /**
+     * Removes an element from the elements used in the map and clears its positions from the occupancy grid.
+     *
+     * @param element The element to remove.
+     */
+    private void removeElementUsed(MapElement element) {
+        if (!mapElementsUsed.remove(element)) {
+            return;
+        }
+        modificationCount++;
+        if (occupancyGrid != null && occupancyGridElementCount == mapElementsUsed.size() + 1) {
+            occupancyGrid.remove(element);
+            occupancyGridElementCount--;
+        }
+    }
+
+    /**
+     * Changes the type of a railway line of the map, keeping the occupancy grid up to date.
+     *
+     * @param railwayLine The railway line to change.
+     * @param type        The new type of the railway line.
+     */
+    public void changeRailwayLineType(RailwayLine railwayLine, RailwayLineType type) {
+        railwayLine.setTypeEnum(type);
+        modificationCount++;
+        if (occupancyGrid != null) {
+            occupancyGrid.updateRailwayLineType(railwayLine);
+        }
+    }
+
     /**
      * Gets the list of occupied positions excluding those of a specific railway line type.
      *
@@ -389,12 +512,10 @@ public class Map implements Serializable {
      * @return A list of positions excluding the specified railway line type.
      */
     public List<Position> getOccupiedPositionsWithoutRespectiveLines(RailwayLineType typeLine) {
-        List<Position> positions = new ArrayList<>(occupiedPositions);
-        for (RailwayLine actualRailwayLine : railwayLineRepository.getAllRailwayLines()) {
-            if (typeLine.equals(actualRailwayLine.getTypeEnum())) {
-                for (Position position : actualRailwayLine.getPositionsRailwayLine()) {
-                    positions.remove(position);
-                }
+        List<Position> positions = new ArrayList<>();
+        for (MapElement element : mapElementsUsed) {
+            if (!(element instanceof RailwayLine railwayLine && typeLine.equals(railwayLine.getTypeEnum()))) {
+                positions.addAll(element.getOccupiedPositions());
             }
         }
         return positions;
@@ -0,0 +1,360 @@
+package pt.ipp.isep.dei.domain.Map;
+
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Grid of the cells of a map occupied by its elements, updated as elements are added and removed.
+ * Each cell counts the element positions on it, in total and per railway line type, and keeps the elements occupying it,
+ * so checking if a cell is occupied, or by which element, does not scan the elements of the map.
+ * The grid grows when an element occupies a cell outside of it.
+ */
+public class OccupancyGrid {
+
+    /** Width of the grid, in cells. */
+    private int width;
+
+    /** Height of the grid, in cells. */
+    private int height;
+
+    /** Number of element positions on each cell, indexed by y * width + x. */
+    private int[] occupantCounts;
+
+    /** Number of railway line positions on each cell, per railway line type ordinal, allocated on first use. */
+    private final int[][] lineTypeCounts = new int[RailwayLineType.values().length][];
+
+    /** First element added that still occupies each cell. */
+    private MapElement[] owners;
+
+    /** Elements occupying each cell held by more than one element position, in the order they were added. */
+    private final HashMap<Integer, List<MapElement>> sharedCells = new HashMap<>();
+
+    /** Type each railway line in the grid is counted under. */
+    private final IdentityHashMap<RailwayLine, RailwayLineType> lineTypes = new IdentityHashMap<>();
+
+    /**
+     * Constructs an empty grid with the given size.
+     *
+     * @param width  the width of the grid
+     * @param height the height of the grid
+     * @throws IllegalArgumentException if the width or the height is negative
+     */
+    public OccupancyGrid(int width, int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Grid size cannot be negative");
+        }
+        this.width = width;
+        this.height = height;
+        this.occupantCounts = new int[width * height];
+        this.owners = new MapElement[width * height];
+    }
+
+    /**
+     * Constructs a grid with the given size occupied by the given elements.
+     *
+     * @param width    the width of the grid
+     * @param height   the height of the grid
+     * @param elements the elements occupying the grid
+     */
+    public OccupancyGrid(int width, int height, List<MapElement> elements) {
+        this(width, height);
+        for (MapElement element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Marks the positions occupied by an element.
+     *
+     * @param element the element to add
+     */
+    public void add(MapElement element) {
+        List<Position> positions = element.getOccupiedPositions();
+        if (positions == null) {
+            return;
+        }
+        RailwayLineType lineType = null;
+        if (element instanceof RailwayLine railwayLine) {
+            lineType = railwayLine.getTypeEnum();
+            lineTypes.put(railwayLine, lineType);
+        }
+        for (Position position : positions) {
+            ensureContains(position.getX(), position.getY());
+            int[] typeCounts = getLineTypeCounts(lineType, true);
+            int cell = cellIndex(position.getX(), position.getY());
+            if (occupantCounts[cell] == 0) {
+                owners[cell] = element;
+            } else {
+                sharedCells.computeIfAbsent(cell, key -> new ArrayList<>(List.of(owners[key]))).add(element);
+            }
+            occupantCounts[cell]++;
+            if (typeCounts != null) {
+                typeCounts[cell]++;
+            }
+        }
+    }
+
+    /**
+     * Clears the positions occupied by an element. The element must have been added with the same positions.
+     *
+     * @param element the element to remove
+     */
+    public void remove(MapElement element) {
+        List<Position> positions = element.getOccupiedPositions();
+        if (positions == null) {
+            return;
+        }
+        int[] typeCounts = element instanceof RailwayLine railwayLine ? getLineTypeCounts(lineTypes.remove(railwayLine), false) : null;
+        for (Position position : positions) {
+            if (!contains(position.getX(), position.getY())) {
+                continue;
+            }
+            int cell = cellIndex(position.getX(), position.getY());
+            if (occupantCounts[cell] == 0) {
+                continue;
+            }
+            occupantCounts[cell]--;
+            if (typeCounts != null && typeCounts[cell] > 0) {
+                typeCounts[cell]--;
+            }
+            List<MapElement> occupants = sharedCells.get(cell);
+            if (occupants == null) {
+                owners[cell] = null;
+            } else {
+                occupants.remove(element);
+                owners[cell] = occupants.getFirst();
+                if (occupants.size() == 1) {
+                    sharedCells.remove(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the positions of a railway line in the grid to the counts of its current type, after its type changed.
+     *
+     * @param railwayLine the railway line whose type changed
+     */
+    public void updateRailwayLineType(RailwayLine railwayLine) {
+        if (!lineTypes.containsKey(railwayLine) || railwayLine.getOccupiedPositions() == null) {
+            return;
+        }
+        RailwayLineType oldType = lineTypes.get(railwayLine);
+        RailwayLineType newType = railwayLine.getTypeEnum();
+        if (oldType == newType) {
+            return;
+        }
+        int[] oldCounts = getLineTypeCounts(oldType, false);
+        int[] newCounts = getLineTypeCounts(newType, true);
+        for (Position position : railwayLine.getOccupiedPositions()) {
+            int cell = cellIndex(position.getX(), position.getY());
+            if (oldCounts != null && oldCounts[cell] > 0) {
+                oldCounts[cell]--;
+            }
+            if (newCounts != null) {
+                newCounts[cell]++;
+            }
+        }
+        lineTypes.put(railwayLine, newType);
+    }
+
+    /**
+     * Checks if a cell is occupied by any element.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @return true if the cell is occupied, false otherwise
+     */
+    public boolean isOccupied(int x, int y) {
+        return contains(x, y) && occupantCounts[cellIndex(x, y)] > 0;
+    }
+
+    /**
+     * Checks if a position is occupied by any element.
+     *
+     * @param position the position to check
+     * @return true if the position is occupied, false otherwise
+     */
+    public boolean isOccupied(Position position) {
+        return isOccupied(position.getX(), position.getY());
+    }
+
+    /**
+     * Checks if any of the given positions is occupied by an element.
+     *
+     * @param positions the positions to check
+     * @return true if any position is occupied, false otherwise
+     */
+    public boolean isAnyOccupied(List<Position> positions) {
+        for (Position position : positions) {
+            if (isOccupied(position)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a cell is occupied by an element other than a railway line of the given type,
+     * so a railway line of that type cannot be built over it.
+     *
+     * @param x    the x coordinate of the cell
+     * @param y    the y coordinate of the cell
+     * @param type the railway line type being built
+     * @return true if the cell is an obstacle for the railway line type, false otherwise
+     */
+    public boolean isObstacle(int x, int y, RailwayLineType type) {
+        if (!contains(x, y)) {
+            return false;
+        }
+        int cell = cellIndex(x, y);
+        int[] typeCounts = getLineTypeCounts(type, false);
+        return occupantCounts[cell] > (typeCounts == null ? 0 : typeCounts[cell]);
+    }
+
+    /**
+     * Gets the element occupying a cell. When several elements occupy it, the first one added is returned.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @return the element occupying the cell, or null if the cell is free
+     */
+    public MapElement getElementAt(int x, int y) {
+        return contains(x, y) ? owners[cellIndex(x, y)] : null;
+    }
+
+    /**
+     * Gets every element occupying a cell, in the order they were added.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @return the elements occupying the cell
+     */
+    public List<MapElement> getElementsAt(int x, int y) {
+        MapElement owner = getElementAt(x, y);
+        if (owner == null) {
+            return new ArrayList<>();
+        }
+        List<MapElement> occupants = sharedCells.get(cellIndex(x, y));
+        return occupants == null ? new ArrayList<>(List.of(owner)) : new ArrayList<>(occupants);
+    }
+
+    /**
+     * Gets the width of the grid.
+     *
+     * @return the width, in cells
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the grid.
+     *
+     * @return the height, in cells
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Checks if a cell is inside the grid.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @return true if the cell is inside the grid, false otherwise
+     */
+    private boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Gets the index of a cell in the grid arrays.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @return the cell index
+     */
+    private int cellIndex(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Gets the counts of a railway line type.
+     *
+     * @param type     the railway line type
+     * @param allocate true to allocate the counts if the type was never added
+     * @return the counts, or null if the type was never added and allocate is false
+     */
+    private int[] getLineTypeCounts(RailwayLineType type, boolean allocate) {
+        if (type == null) {
+            return null;
+        }
+        int[] typeCounts = lineTypeCounts[type.ordinal()];
+        if (typeCounts == null && allocate) {
+            typeCounts = new int[width * height];
+            lineTypeCounts[type.ordinal()] = typeCounts;
+        }
+        return typeCounts;
+    }
+
+    /**
+     * Grows the grid so it contains a cell, keeping the counts and owners of every cell.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     */
+    private void ensureContains(int x, int y) {
+        if (contains(x, y)) {
+            return;
+        }
+        int newWidth = Math.max(width, x + 1);
+        int newHeight = Math.max(height, y + 1);
+
+        occupantCounts = relayout(occupantCounts, newWidth, newHeight);
+        for (int i = 0; i < lineTypeCounts.length; i++) {
+            if (lineTypeCounts[i] != null) {
+                lineTypeCounts[i] = relayout(lineTypeCounts[i], newWidth, newHeight);
+            }
+        }
+        MapElement[] newOwners = new MapElement[newWidth * newHeight];
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(owners, row * width, newOwners, row * newWidth, width);
+        }
+        owners = newOwners;
+
+        HashMap<Integer, List<MapElement>> movedCells = new HashMap<>();
+        sharedCells.forEach((cell, occupants) -> movedCells.put((cell / width) * newWidth + cell % width, occupants));
+        sharedCells.clear();
+        sharedCells.putAll(movedCells);
+
+        width = newWidth;
+        height = newHeight;
+    }
+
+    /**
+     * Copies the rows of a cell array into a larger grid.
+     *
+     * @param cells     the cell array
+     * @param newWidth  the new width
+     * @param newHeight the new height
+     * @return the cell array of the larger grid
+     */
+    private int[] relayout(int[] cells, int newWidth, int newHeight) {
+        int[] newCells = new int[newWidth * newHeight];
+        if (newWidth == width) {
+            return Arrays.copyOf(cells, newCells.length);
+        }
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(cells, row * width, newCells, row * newWidth, width);
+        }
+        return newCells;
+    }
+}
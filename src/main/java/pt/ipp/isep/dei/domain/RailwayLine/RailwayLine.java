@@ -9,6 +9,7 @@ import pt.ipp.isep.dei.domain.Station.Station;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a railway line connecting two stations with a specific type and path.
@@ -29,7 +30,7 @@ public class RailwayLine extends MapElement implements Serializable {
     private RailwayLineType type;
 
     /** Static id for all railway lines. */
-    private static int id = 0;
+    private static final AtomicInteger id = new AtomicInteger();
 
     /** The distance of the railway line. */
     private int distance;
@@ -53,8 +54,7 @@ public class RailwayLine extends MapElement implements Serializable {
         this.station2 = station2;
         this.type = type;
         this.setOccupiedPositions(positionsRailwayLine);
-        this.id = id;
-        id++;
+        id.incrementAndGet();
         this.constructionDate = constructionDate;
     }
 
@@ -80,7 +80,7 @@ public class RailwayLine extends MapElement implements Serializable {
      * @return The id.
      */
     public static int getId() {
-        return id;
+        return id.get();
     }
 
     /**
@@ -89,7 +89,7 @@ public class RailwayLine extends MapElement implements Serializable {
      * @param id The id to set.
      */
     public void setId(int id) {
-        this.id = id;
+        RailwayLine.id.set(id);
     }
 
     /**
@@ -167,18 +167,10 @@ public class RailwayLine extends MapElement implements Serializable {
      * @return The total cost.
      */
     public int calculateCost(Map map) {
-        List<Position> alreadyOccupied = map.getOccupiedPositions();
         int cost = 0;
 
         for (Position p : this.positionsRailwayLine) {
-            boolean exists = false;
-            for (Position existing : alreadyOccupied) {
-                if (p.equalsPosition(existing)) {
-                    exists = true;
-                    break;
-                }
-            }
-            if (!exists) {
+            if (!map.isPositionOccupied(p)) {
                 cost += type.getCost();
             }
         }
@@ -0,0 +1,74 @@
+package pt.ipp.isep.dei.domain.RailwayLine;
+
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quote of a new railway line of a given type between two stations: its track, length and building cost.
+ */
+public class TrackQuote {
+
+    /** The type of the railway line. */
+    private final RailwayLineType type;
+
+    /** The positions of the track, or null if there is no track for this type. */
+    private final List<Position> path;
+
+    /**
+     * Constructs a quote for a railway line type with the given track.
+     *
+     * @param type the type of the railway line
+     * @param path the positions of the track, or null if there is no track
+     */
+    public TrackQuote(RailwayLineType type, List<Position> path) {
+        this.type = type;
+        this.path = path == null ? null : new ArrayList<>(path);
+    }
+
+    /**
+     * Gets the type of the railway line.
+     *
+     * @return the railway line type
+     */
+    public RailwayLineType getType() {
+        return type;
+    }
+
+    /**
+     * Checks if there is a track for this type.
+     *
+     * @return true if a track was found, false otherwise
+     */
+    public boolean hasTrack() {
+        return path != null;
+    }
+
+    /**
+     * Gets the positions of the track.
+     *
+     * @return a new list with the positions of the track, or null if there is no track
+     */
+    public List<Position> getPath() {
+        return path == null ? null : new ArrayList<>(path);
+    }
+
+    /**
+     * Gets the length of the track.
+     *
+     * @return the number of positions of the track, or 0 if there is no track
+     */
+    public int getLength() {
+        return path == null ? 0 : path.size();
+    }
+
+    /**
+     * Gets the cost of building the track, the cost per position of the type for each position.
+     *
+     * @return the building cost, or 0 if there is no track
+     */
+    public int getCost() {
+        return getLength() * type.getCost();
+    }
+}
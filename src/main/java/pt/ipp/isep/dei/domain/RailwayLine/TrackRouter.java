@@ -0,0 +1,345 @@
+package pt.ipp.isep.dei.domain.RailwayLine;
+
+import pt.ipp.isep.dei.domain.Map.Map;
+import pt.ipp.isep.dei.domain.Map.OccupancyGrid;
+import pt.ipp.isep.dei.domain._Others_.LongHeap;
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Finds the tracks of new railway lines between two stations of a map, avoiding the cells occupied by other elements.
+ * A railway line may reuse the cells of existing railway lines of the same type.
+ * Tracks are searched with A* over the cells of the map, with a binary heap as open list, and are cached
+ * until the map changes. Quoting every railway line type at once shares the searches between types with the same obstacles.
+ */
+public class TrackRouter {
+
+    /** Directions for adjacent positions (8 directions). */
+    private static final int[][] DIRECTIONS = {
+            {-1, 0}, {0, -1}, {0, 1}, {1, 0},
+            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+    };
+
+    /** Value of the tracks cached for station pairs with no track. */
+    private static final List<Position> NO_TRACK = List.of();
+
+    /** The map the tracks are built on. */
+    private final Map map;
+
+    /** Tracks found since the map last changed, by station cells and railway line type. */
+    private final HashMap<Long, List<Position>> trackCache = new HashMap<>();
+
+    /** Obstacle bitmaps of the map since it last changed, by railway line type ordinal, shared by types with the same obstacles. */
+    private final boolean[][] obstacleCache = new boolean[RailwayLineType.values().length][];
+
+    /** Modification count of the map when the caches were filled. */
+    private int cachedModificationCount;
+
+    /**
+     * Constructs a router for the given map.
+     *
+     * @param map the map the tracks are built on
+     */
+    public TrackRouter(Map map) {
+        this.map = map;
+        this.cachedModificationCount = -1;
+    }
+
+    /**
+     * Finds the track of a railway line of the given type between two stations. The track starts and ends on the free
+     * cells next to the stations that are closest to the other station.
+     *
+     * @param startStation the position of the departure station
+     * @param endStation   the position of the arrival station
+     * @param type         the type of the railway line
+     * @return a new list with the positions of the track, or null if there is no track
+     */
+    public List<Position> findTrack(Position startStation, Position endStation, RailwayLineType type) {
+        int width = map.getPixelSize().getWidth();
+        int height = map.getPixelSize().getHeight();
+        boolean[][] obstacles = getObstacles(width, height);
+
+        long key = trackKey(startStation, endStation, type, width, height);
+        List<Position> track = trackCache.get(key);
+        if (track == null) {
+            track = searchTrack(startStation, endStation, obstacles[type.ordinal()], width, height);
+            trackCache.put(key, track);
+        }
+        return track == NO_TRACK ? null : new ArrayList<>(track);
+    }
+
+    /**
+     * Quotes a railway line of every type between two stations.
+     * Types whose railway lines do not change the obstacles of the map share one search,
+     * and the remaining searches run in parallel over the shared obstacle bitmaps.
+     *
+     * @param startStation the position of the departure station
+     * @param endStation   the position of the arrival station
+     * @return the quote of each railway line type
+     */
+    public EnumMap<RailwayLineType, TrackQuote> quoteTracks(Position startStation, Position endStation) {
+        int width = map.getPixelSize().getWidth();
+        int height = map.getPixelSize().getHeight();
+        boolean[][] obstacles = getObstacles(width, height);
+
+        List<boolean[]> pendingObstacles = new ArrayList<>();
+        for (RailwayLineType type : RailwayLineType.values()) {
+            boolean[] typeObstacles = obstacles[type.ordinal()];
+            if (!trackCache.containsKey(trackKey(startStation, endStation, type, width, height))
+                    && !containsBitmap(pendingObstacles, typeObstacles)) {
+                pendingObstacles.add(typeObstacles);
+            }
+        }
+        List<List<Position>> tracks = pendingObstacles.parallelStream()
+                .map(typeObstacles -> searchTrack(startStation, endStation, typeObstacles, width, height))
+                .toList();
+
+        EnumMap<RailwayLineType, TrackQuote> quotes = new EnumMap<>(RailwayLineType.class);
+        for (RailwayLineType type : RailwayLineType.values()) {
+            long key = trackKey(startStation, endStation, type, width, height);
+            List<Position> track = trackCache.get(key);
+            if (track == null) {
+                for (int i = 0; i < pendingObstacles.size(); i++) {
+                    if (pendingObstacles.get(i) == obstacles[type.ordinal()]) {
+                        track = tracks.get(i);
+                    }
+                }
+                trackCache.put(key, track);
+            }
+            quotes.put(type, new TrackQuote(type, track == NO_TRACK ? null : track));
+        }
+        return quotes;
+    }
+
+    /**
+     * Checks if a list holds the same obstacle bitmap instance.
+     *
+     * @param bitmaps the obstacle bitmaps
+     * @param bitmap  the obstacle bitmap to find
+     * @return true if the list holds the bitmap, false otherwise
+     */
+    private static boolean containsBitmap(List<boolean[]> bitmaps, boolean[] bitmap) {
+        for (boolean[] candidate : bitmaps) {
+            if (candidate == bitmap) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches the track between two stations over an obstacle bitmap.
+     *
+     * @param startStation the position of the departure station
+     * @param endStation   the position of the arrival station
+     * @param obstacles    the obstacle bitmap of the railway line type
+     * @param width        the width of the map
+     * @param height       the height of the map
+     * @return the positions of the track, or {@link #NO_TRACK} if there is no track
+     */
+    private static List<Position> searchTrack(Position startStation, Position endStation, boolean[] obstacles, int width, int height) {
+        Position start = findBestAdjacentPosition(startStation, obstacles, width, height, endStation);
+        Position end = findBestAdjacentPosition(endStation, obstacles, width, height, startStation);
+
+        if (start == null || end == null) {
+            return NO_TRACK;
+        }
+        List<Position> path = findPath(width, height, obstacles, start, end);
+        return path == null ? NO_TRACK : path;
+    }
+
+    /**
+     * Gets the key of a track in the cache.
+     *
+     * @param startStation the position of the departure station
+     * @param endStation   the position of the arrival station
+     * @param type         the type of the railway line
+     * @param width        the width of the map
+     * @param height       the height of the map
+     * @return the cache key
+     */
+    private static long trackKey(Position startStation, Position endStation, RailwayLineType type, int width, int height) {
+        return (((long) startStation.getY() * width + startStation.getX()) * width * height
+                + (long) endStation.getY() * width + endStation.getX()) * RailwayLineType.values().length + type.ordinal();
+    }
+
+    /**
+     * Gets the cells a railway line of each type cannot be built over, indexed by railway line type ordinal
+     * and then by y * width + x. The bitmaps are read from the occupancy grid of the map in one pass
+     * and kept until the map changes. Types with the same obstacles share the same bitmap.
+     *
+     * @param width  the width of the map
+     * @param height the height of the map
+     * @return the obstacle bitmaps
+     */
+    private boolean[][] getObstacles(int width, int height) {
+        OccupancyGrid grid = map.getOccupancyGrid();
+        if (cachedModificationCount != map.getModificationCount()) {
+            trackCache.clear();
+            Arrays.fill(obstacleCache, null);
+            cachedModificationCount = map.getModificationCount();
+        }
+        if (obstacleCache[0] == null || obstacleCache[0].length != width * height) {
+            RailwayLineType[] types = RailwayLineType.values();
+            for (int i = 0; i < types.length; i++) {
+                obstacleCache[i] = new boolean[width * height];
+            }
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    for (int i = 0; i < types.length; i++) {
+                        obstacleCache[i][y * width + x] = grid.isObstacle(x, y, types[i]);
+                    }
+                }
+            }
+            for (int i = 1; i < types.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (Arrays.equals(obstacleCache[i], obstacleCache[j])) {
+                        obstacleCache[i] = obstacleCache[j];
+                        break;
+                    }
+                }
+            }
+        }
+        return obstacleCache;
+    }
+
+    /**
+     * Finds the best adjacent position to a given station, avoiding obstacles and minimizing distance to target.
+     *
+     * @param pos       the position of the station
+     * @param obstacles the obstacle bitmap
+     * @param width     map width
+     * @param height    map height
+     * @param target    target position to minimize distance
+     * @return the best adjacent position or null if none available
+     */
+    private static Position findBestAdjacentPosition(Position pos, boolean[] obstacles, int width, int height, Position target) {
+        Position bestPosition = null;
+        int bestHeuristic = Integer.MAX_VALUE;
+
+        for (int[] dir : DIRECTIONS) {
+            int nx = pos.getX() + dir[0];
+            int ny = pos.getY() + dir[1];
+
+            if (isValid(nx, ny, width, height, obstacles)) {
+                int currentHeuristic = heuristic(nx, ny, target.getX(), target.getY());
+                if (currentHeuristic < bestHeuristic) {
+                    bestHeuristic = currentHeuristic;
+                    bestPosition = new Position(nx, ny);
+                }
+            }
+        }
+        return bestPosition;
+    }
+
+    /**
+     * Checks if a position is valid (inside bounds and not an obstacle).
+     *
+     * @param x         x coordinate
+     * @param y         y coordinate
+     * @param width     map width
+     * @param height    map height
+     * @param obstacles the obstacle bitmap
+     * @return true if valid, false otherwise
+     */
+    private static boolean isValid(int x, int y, int width, int height, boolean[] obstacles) {
+        return x >= 0 && y >= 0 && x < width && y < height && !obstacles[y * width + x];
+    }
+
+    /**
+     * Heuristic function for pathfinding (Chebyshev distance).
+     *
+     * @param x1 x coordinate of first point
+     * @param y1 y coordinate of first point
+     * @param x2 x coordinate of second point
+     * @param y2 y coordinate of second point
+     * @return heuristic value
+     */
+    private static int heuristic(int x1, int y1, int x2, int y2) {
+        return Math.max(Math.abs(x1 - x2), Math.abs(y1 - y2));
+    }
+
+    /**
+     * Finds a path from start to goal using A*, moving to the 8 adjacent cells at a cost of 1 per move.
+     * The open list is a binary heap of entries ordered by estimated total cost and then by the order they were pushed,
+     * and an entry is only pushed if it reaches its cell with a lower cost than the entries pushed before.
+     *
+     * @param width     map width
+     * @param height    map height
+     * @param obstacles the obstacle bitmap, indexed by y * width + x
+     * @param start     starting position
+     * @param goal      goal position
+     * @return list of positions representing the path, or null if no path found
+     */
+    public static List<Position> findPath(int width, int height, boolean[] obstacles, Position start, Position goal) {
+        int cellCount = width * height;
+        int goalX = goal.getX();
+        int goalY = goal.getY();
+        boolean[] visited = new boolean[cellCount];
+        int[] parents = new int[cellCount];
+        int[] bestPushedCosts = new int[cellCount];
+        Arrays.fill(bestPushedCosts, Integer.MAX_VALUE);
+
+        // Entries are identified by their push order, which is also the tie-breaker of the heap
+        int[] entryCells = new int[Math.max(16, cellCount)];
+        int[] entryCosts = new int[entryCells.length];
+        int[] entryParents = new int[entryCells.length];
+        LongHeap heap = new LongHeap(entryCells.length);
+        int entryCount = 0;
+
+        int startCell = start.getY() * width + start.getX();
+        entryCells[0] = startCell;
+        entryCosts[0] = 0;
+        entryParents[0] = -1;
+        bestPushedCosts[startCell] = 0;
+        heap.push(LongHeap.key(heuristic(start.getX(), start.getY(), goalX, goalY), entryCount++));
+
+        while (!heap.isEmpty()) {
+            int entry = LongHeap.tieBreaker(heap.pop());
+
+            int cell = entryCells[entry];
+            if (visited[cell]) continue;
+            visited[cell] = true;
+            parents[cell] = entryParents[entry];
+
+            int x = cell % width;
+            int y = cell / width;
+            if (x == goalX && y == goalY) {
+                List<Position> path = new ArrayList<>();
+                for (int step = cell; step != -1; step = parents[step]) {
+                    path.add(new Position(step % width, step / width));
+                }
+                Collections.reverse(path);
+                return path;
+            }
+
+            int newCost = entryCosts[entry] + 1;
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0];
+                int ny = y + dir[1];
+                if (!isValid(nx, ny, width, height, obstacles)) continue;
+                int neighbor = ny * width + nx;
+                if (visited[neighbor] || newCost >= bestPushedCosts[neighbor]) continue;
+
+                bestPushedCosts[neighbor] = newCost;
+                if (entryCount == entryCells.length) {
+                    int capacity = entryCells.length * 2;
+                    entryCells = Arrays.copyOf(entryCells, capacity);
+                    entryCosts = Arrays.copyOf(entryCosts, capacity);
+                    entryParents = Arrays.copyOf(entryParents, capacity);
+                }
+                entryCells[entryCount] = neighbor;
+                entryCosts[entryCount] = newCost;
+                entryParents[entryCount] = cell;
+                heap.push(LongHeap.key(newCost + heuristic(nx, ny, goalX, goalY), entryCount++));
+            }
+        }
+        return null;
+    }
+}
@@ -68,6 +68,6 @@ public class Resource implements Serializable {
      */
     @Override
     public String toString() {
-        return resourceType.getName() + " - " + quantity + " units";
+        return getResourceType().getName() + " - " + getQuantity() + " units";
     }
 }
\ No newline at end of file
@@ -20,6 +20,9 @@ public class ResourcesType implements Serializable {
     /** The quantity produced per generation cycle. */
     private int quantityProduced;
 
+    /** The interned id of the name plus one, or 0 while it is not resolved. */
+    private transient int idPlusOne;
+
     /**
      * Constructs a ResourcesType with the specified parameters.
      *
@@ -51,6 +54,21 @@ public class ResourcesType implements Serializable {
      */
     public void setName(String name) {
         this.name = name;
+        this.idPlusOne = 0;
+    }
+
+    /**
+     * Gets the interned id of the resource type, shared by every resource type with the same name.
+     *
+     * @return The id of the resource type.
+     */
+    public int getId() {
+        int resolved = idPlusOne;
+        if (resolved == 0) {
+            resolved = ResourcesTypeRegistry.intern(name) + 1;
+            idPlusOne = resolved;
+        }
+        return resolved - 1;
     }
 
     /**
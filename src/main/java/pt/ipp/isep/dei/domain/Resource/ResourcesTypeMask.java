@@ -0,0 +1,116 @@
+package pt.ipp.isep.dei.domain.Resource;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Set of resource types stored as a bit mask over the interned resource type ids.
+ * Resource types with the same name share the same bit.
+ * Masks hold ids that are only valid while the application runs, so they are never saved.
+ */
+public class ResourcesTypeMask {
+
+    /** Number of bits in each word of the mask. */
+    private static final int BITS_PER_WORD = 64;
+
+    /** Words of the mask, bit id % 64 of word id / 64 set for each resource type id in the set. */
+    private long[] words;
+
+    /**
+     * Constructs an empty mask.
+     */
+    public ResourcesTypeMask() {
+        this.words = new long[Math.max(1, wordIndex(ResourcesTypeRegistry.size()) + 1)];
+    }
+
+    /**
+     * Constructs a mask with the given resource types.
+     *
+     * @param resourcesTypes the resource types to add
+     */
+    public ResourcesTypeMask(Collection<? extends ResourcesType> resourcesTypes) {
+        this();
+        addAll(resourcesTypes);
+    }
+
+    /**
+     * Adds a resource type to the mask.
+     *
+     * @param resourcesType the resource type to add
+     * @return true if the resource type was not in the mask, false otherwise
+     */
+    public boolean add(ResourcesType resourcesType) {
+        int id = resourcesType.getId();
+        int index = wordIndex(id);
+        if (index >= words.length) {
+            words = Arrays.copyOf(words, Math.max(index + 1, words.length * 2));
+        }
+        long bit = 1L << id;
+        boolean added = (words[index] & bit) == 0;
+        words[index] |= bit;
+        return added;
+    }
+
+    /**
+     * Adds every resource type of a collection to the mask.
+     *
+     * @param resourcesTypes the resource types to add
+     */
+    public void addAll(Collection<? extends ResourcesType> resourcesTypes) {
+        for (ResourcesType resourcesType : resourcesTypes) {
+            add(resourcesType);
+        }
+    }
+
+    /**
+     * Checks if a resource type is in the mask.
+     *
+     * @param resourcesType the resource type to check
+     * @return true if a resource type with the same name is in the mask, false otherwise
+     */
+    public boolean contains(ResourcesType resourcesType) {
+        return contains(resourcesType.getId());
+    }
+
+    /**
+     * Checks if a resource type id is in the mask.
+     *
+     * @param id the resource type id
+     * @return true if the id is in the mask, false otherwise
+     */
+    public boolean contains(int id) {
+        int index = wordIndex(id);
+        return id >= 0 && index < words.length && (words[index] & (1L << id)) != 0;
+    }
+
+    /**
+     * Checks if the mask has no resource types.
+     *
+     * @return true if the mask is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes every resource type from the mask.
+     */
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Gets the index of the word holding a resource type id.
+     *
+     * @param id the resource type id
+     * @return the word index
+     */
+    private static int wordIndex(int id) {
+        return id / BITS_PER_WORD;
+    }
+}
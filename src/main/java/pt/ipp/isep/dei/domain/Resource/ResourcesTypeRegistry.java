@@ -0,0 +1,63 @@
+package pt.ipp.isep.dei.domain.Resource;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry that interns resource type names into small integer ids.
+ * Resource types are identified by name across the application, so every type with the same name
+ * gets the same id, and ids are dense, starting at 0, so they can index arrays.
+ * Ids are only valid while the application runs and are never saved.
+ */
+public final class ResourcesTypeRegistry {
+
+    /** Ids of the interned resource type names. */
+    private static final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private ResourcesTypeRegistry() {
+    }
+
+    /**
+     * Gets the id of a resource type name, interning the name if it has no id yet.
+     *
+     * @param name the resource type name
+     * @return the id of the name
+     * @throws IllegalArgumentException if the name is null
+     */
+    public static int intern(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Resource type name cannot be null");
+        }
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (ids) {
+            return ids.computeIfAbsent(name, key -> ids.size());
+        }
+    }
+
+    /**
+     * Gets the id of a resource type name without interning it.
+     *
+     * @param name the resource type name
+     * @return the id of the name, or -1 if the name was never interned
+     */
+    public static int findId(String name) {
+        if (name == null) {
+            return -1;
+        }
+        return ids.getOrDefault(name, -1);
+    }
+
+    /**
+     * Gets the number of interned names, which is also the next id to be given.
+     *
+     * @return the number of interned names
+     */
+    public static int size() {
+        return ids.size();
+    }
+}
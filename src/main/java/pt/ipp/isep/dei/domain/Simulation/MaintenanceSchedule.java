@@ -0,0 +1,133 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.Train.Train;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Maintenance schedule of the trains and railway lines of a simulation.
+ * Trains are indexed by the month and day of their acquisition date and railway lines by the month and day
+ * of their construction date, so the assets to maintain on a day are found without scanning every asset.
+ * Assets are maintained on every anniversary, but not in the year they were acquired or built.
+ */
+public class MaintenanceSchedule {
+
+    /** Days reserved per month in the anniversary key. */
+    private static final int DAYS_PER_KEY_MONTH = 32;
+
+    /** Trains indexed by the anniversary of their acquisition date, in the order they were added. */
+    private final HashMap<Integer, List<Train>> trainsByAnniversary = new HashMap<>();
+
+    /** Railway lines indexed by the anniversary of their construction date, in the order they were added. */
+    private final HashMap<Integer, List<RailwayLine>> railwayLinesByAnniversary = new HashMap<>();
+
+    /**
+     * Constructs a schedule with the given trains and railway lines.
+     *
+     * @param trains       the trains to schedule
+     * @param railwayLines the railway lines to schedule
+     */
+    public MaintenanceSchedule(List<Train> trains, List<RailwayLine> railwayLines) {
+        for (Train train : trains) {
+            addTrain(train);
+        }
+        for (RailwayLine railwayLine : railwayLines) {
+            addRailwayLine(railwayLine);
+        }
+    }
+
+    /**
+     * Adds a train to the schedule. Trains without an acquisition date are never maintained.
+     *
+     * @param train the train to add
+     */
+    public void addTrain(Train train) {
+        if (train.getAcquisitionDate() != null) {
+            trainsByAnniversary.computeIfAbsent(getAnniversaryKey(train.getAcquisitionDate()), key -> new ArrayList<>()).add(train);
+        }
+    }
+
+    /**
+     * Removes a train from the schedule.
+     *
+     * @param train the train to remove
+     */
+    public void removeTrain(Train train) {
+        if (train.getAcquisitionDate() != null) {
+            List<Train> trains = trainsByAnniversary.get(getAnniversaryKey(train.getAcquisitionDate()));
+            if (trains != null) {
+                trains.remove(train);
+            }
+        }
+    }
+
+    /**
+     * Adds a railway line to the schedule. Railway lines without a construction date are never maintained.
+     *
+     * @param railwayLine the railway line to add
+     */
+    public void addRailwayLine(RailwayLine railwayLine) {
+        if (railwayLine.getConstructionDate() != null) {
+            railwayLinesByAnniversary.computeIfAbsent(getAnniversaryKey(railwayLine.getConstructionDate()), key -> new ArrayList<>()).add(railwayLine);
+        }
+    }
+
+    /**
+     * Removes a railway line from the schedule.
+     *
+     * @param railwayLine the railway line to remove
+     */
+    public void removeRailwayLine(RailwayLine railwayLine) {
+        if (railwayLine.getConstructionDate() != null) {
+            List<RailwayLine> railwayLines = railwayLinesByAnniversary.get(getAnniversaryKey(railwayLine.getConstructionDate()));
+            if (railwayLines != null) {
+                railwayLines.remove(railwayLine);
+            }
+        }
+    }
+
+    /**
+     * Gets the trains to maintain on the given date.
+     *
+     * @param date the date
+     * @return the trains acquired on the same month and day of a previous year
+     */
+    public List<Train> getTrainsDueOn(TimeDate date) {
+        List<Train> dueTrains = new ArrayList<>();
+        for (Train train : trainsByAnniversary.getOrDefault(getAnniversaryKey(date), List.of())) {
+            if (train.getAcquisitionDate().getYear() != date.getYear()) {
+                dueTrains.add(train);
+            }
+        }
+        return dueTrains;
+    }
+
+    /**
+     * Gets the railway lines to maintain on the given date.
+     *
+     * @param date the date
+     * @return the railway lines built on the same month and day of a previous year
+     */
+    public List<RailwayLine> getRailwayLinesDueOn(TimeDate date) {
+        List<RailwayLine> dueRailwayLines = new ArrayList<>();
+        for (RailwayLine railwayLine : railwayLinesByAnniversary.getOrDefault(getAnniversaryKey(date), List.of())) {
+            if (railwayLine.getConstructionDate().getYear() != date.getYear()) {
+                dueRailwayLines.add(railwayLine);
+            }
+        }
+        return dueRailwayLines;
+    }
+
+    /**
+     * Gets the index key of the month and day of a date.
+     *
+     * @param date the date
+     * @return the anniversary key
+     */
+    private static int getAnniversaryKey(TimeDate date) {
+        return date.getMonth() * DAYS_PER_KEY_MONTH + date.getDay();
+    }
+}
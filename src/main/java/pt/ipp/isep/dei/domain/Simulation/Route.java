@@ -5,6 +5,8 @@ import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Train.Train;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -39,6 +41,15 @@ public class Route implements Serializable {
     /** Indicates the old status: true if transferring, false if waiting. */
     private boolean oldStatus;
 
+    /** Legs compiled from the points and the path, the leg at index i goes from point i to the next point. */
+    private transient RouteLeg[] legs;
+
+    /** Number of points the legs were compiled from. */
+    private transient int legsPointCount;
+
+    /** Number of railway lines the legs were compiled from. */
+    private transient int legsPathSize;
+
     /**
      * Constructs a Route with the specified points, path, name, and electric flag.
      *
@@ -92,6 +103,7 @@ public class Route implements Serializable {
      */
     public void setPointOfRouteList(List<PointOfRoute> pointOfRouteList) {
         this.pointOfRouteList = pointOfRouteList;
+        this.legs = null;
     }
 
     /**
@@ -110,6 +122,7 @@ public class Route implements Serializable {
      */
     public void setPath(List<RailwayLine> path) {
         this.path = path;
+        this.legs = null;
     }
 
     /**
@@ -220,6 +233,81 @@ public class Route implements Serializable {
         this.oldStatus = oldStatus;
     }
 
+    /**
+     * Returns the legs of the route, compiling them from the points and the path if they changed.
+     * The leg at index i holds the railway lines travelled from point i to the next point,
+     * and the last leg holds the railway lines travelled back to the departure station.
+     *
+     * @return the legs of the route
+     */
+    public RouteLeg[] getLegs() {
+        if (legs == null || legsPointCount != pointOfRouteList.size() || legsPathSize != path.size()) {
+            legs = compileLegs();
+            legsPointCount = pointOfRouteList.size();
+            legsPathSize = path.size();
+        }
+        return legs;
+    }
+
+    /**
+     * Returns the leg that starts at the given point of the route.
+     *
+     * @param pointPathPosition the position of the point in the route
+     * @return the leg starting at that point, or an empty leg if no railway lines start there
+     */
+    public RouteLeg getLeg(int pointPathPosition) {
+        RouteLeg[] routeLegs = getLegs();
+        if (pointPathPosition < 0 || pointPathPosition >= routeLegs.length) {
+            return RouteLeg.EMPTY;
+        }
+        return routeLegs[pointPathPosition];
+    }
+
+    /**
+     * Compiles the legs of the route by walking the path once. Each leg takes the railway lines up to the first one
+     * that reaches the next point. Once a point is not reached, the remaining points get no legs
+     * and the railway lines left are travelled back to the departure station.
+     *
+     * @return the compiled legs
+     */
+    private RouteLeg[] compileLegs() {
+        List<RouteLeg> compiledLegs = new ArrayList<>();
+        if (pointOfRouteList.isEmpty()) {
+            return new RouteLeg[0];
+        }
+
+        int[] indices = new int[path.size()];
+        int count = 0;
+        int length = 0;
+        int next = 0;
+
+        for (int i = 1; i < pointOfRouteList.size() && next < path.size(); i++) {
+            Station station = pointOfRouteList.get(i).getStation();
+            boolean reached = false;
+
+            while (next < path.size() && !reached) {
+                RailwayLine railwayLine = path.get(next);
+                indices[count++] = next++;
+                length += railwayLine.getPositionsRailwayLine().size();
+                reached = railwayLine.getStation1().equals(station) || railwayLine.getStation2().equals(station);
+            }
+
+            if (reached) {
+                compiledLegs.add(new RouteLeg(Arrays.copyOf(indices, count), length));
+                count = 0;
+                length = 0;
+            }
+        }
+
+        for (; next < path.size(); next++) {
+            indices[count++] = next;
+            length += path.get(next).getPositionsRailwayLine().size();
+        }
+        compiledLegs.add(new RouteLeg(Arrays.copyOf(indices, count), length));
+
+        return compiledLegs.toArray(new RouteLeg[0]);
+    }
+
     /**
      * Advances to the next point in the route. If at the end, resets to the first point.
      */
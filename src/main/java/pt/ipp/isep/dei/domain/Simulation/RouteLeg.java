@@ -0,0 +1,55 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+/**
+ * Leg of a route, the railway lines travelled from one point of the route to the next one.
+ * Railway lines are kept as indices into the path of the route, in the order they are travelled.
+ */
+public class RouteLeg {
+
+    /** Leg without railway lines. */
+    public static final RouteLeg EMPTY = new RouteLeg(new int[0], 0);
+
+    /** Indices of the railway lines of the leg in the path of the route. */
+    private final int[] railwayLineIndices;
+
+    /** Total length of the leg, the number of positions of its railway lines. */
+    private final int length;
+
+    /**
+     * Constructs a leg with the given railway lines.
+     *
+     * @param railwayLineIndices the indices of the railway lines in the path of the route
+     * @param length             the total length of the railway lines
+     */
+    public RouteLeg(int[] railwayLineIndices, int length) {
+        this.railwayLineIndices = railwayLineIndices.clone();
+        this.length = length;
+    }
+
+    /**
+     * Gets the indices of the railway lines of the leg in the path of the route.
+     *
+     * @return a copy of the railway line indices
+     */
+    public int[] getRailwayLineIndices() {
+        return railwayLineIndices.clone();
+    }
+
+    /**
+     * Gets the number of railway lines of the leg.
+     *
+     * @return the number of railway lines
+     */
+    public int getRailwayLineCount() {
+        return railwayLineIndices.length;
+    }
+
+    /**
+     * Gets the total length of the leg.
+     *
+     * @return the number of positions of the railway lines of the leg
+     */
+    public int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,111 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Strategy variant of a simulation, used to compare route and fleet strategies on the same scenario.
+ * A variant has a name and a modification that is applied to its own copy of the simulation
+ * before it is run, such as changing the active routes, the trains or the cargo modes.
+ */
+public class ScenarioVariant {
+
+    /** The name of the variant. */
+    private final String name;
+
+    /** The modification applied to the copy of the simulation. */
+    private final Consumer<Simulation> modification;
+
+    /**
+     * Constructs a variant with the given name and modification.
+     *
+     * @param name         the name of the variant
+     * @param modification the modification applied to the copy of the simulation
+     * @throws IllegalArgumentException if the name is null or blank, or the modification is null
+     */
+    public ScenarioVariant(String name, Consumer<Simulation> modification) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Variant name cannot be null or blank");
+        }
+        if (modification == null) {
+            throw new IllegalArgumentException("Variant modification cannot be null");
+        }
+        this.name = name;
+        this.modification = modification;
+    }
+
+    /**
+     * Creates a variant that keeps the simulation unchanged.
+     *
+     * @param name the name of the variant
+     * @return the variant
+     */
+    public static ScenarioVariant unchanged(String name) {
+        return new ScenarioVariant(name, simulation -> { });
+    }
+
+    /**
+     * Creates a variant that uses the given cargo mode in every point of every route.
+     *
+     * @param cargoMode the cargo mode to use
+     * @return the variant
+     * @throws IllegalArgumentException if the cargo mode is null
+     */
+    public static ScenarioVariant withCargoMode(TypeOfCargoMode cargoMode) {
+        if (cargoMode == null) {
+            throw new IllegalArgumentException("Cargo mode cannot be null");
+        }
+        return new ScenarioVariant("Cargo mode " + cargoMode, simulation -> {
+            for (Route route : simulation.getRoutes()) {
+                for (PointOfRoute pointOfRoute : route.getPointOfRouteList()) {
+                    pointOfRoute.setCargoMode(cargoMode);
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates a variant in which only the routes with the given names are active.
+     *
+     * @param name       the name of the variant
+     * @param routeNames the names of the routes to keep active
+     * @return the variant
+     * @throws IllegalArgumentException if the route names are null
+     */
+    public static ScenarioVariant withActiveRoutes(String name, Collection<String> routeNames) {
+        if (routeNames == null) {
+            throw new IllegalArgumentException("Route names cannot be null");
+        }
+        Set<String> activeRouteNames = Set.copyOf(routeNames);
+        return new ScenarioVariant(name, simulation -> {
+            for (Route route : simulation.getRoutes()) {
+                route.setActiveFlag(activeRouteNames.contains(route.getName()));
+            }
+            simulation.markModified();
+        });
+    }
+
+    /**
+     * Applies the modification of the variant to a simulation.
+     *
+     * @param simulation the simulation to modify
+     */
+    public void apply(Simulation simulation) {
+        modification.accept(simulation);
+    }
+
+    /**
+     * Gets the name of the variant.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,139 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
+
+import java.util.Comparator;
+
+/**
+ * Result of running one strategy variant of a scenario until the end of the simulation.
+ * Keeps the final money and the totals of the yearly financial results.
+ */
+public class ScenarioVariantResult {
+
+    /** Orders results from the highest to the lowest final money, then by revenue. */
+    public static final Comparator<ScenarioVariantResult> BY_FINAL_MONEY =
+            Comparator.comparingLong(ScenarioVariantResult::getFinalMoney)
+                    .thenComparingLong(ScenarioVariantResult::getTotalRevenue)
+                    .reversed();
+
+    /** Orders results from the highest to the lowest total revenue, then by final money. */
+    public static final Comparator<ScenarioVariantResult> BY_TOTAL_REVENUE =
+            Comparator.comparingLong(ScenarioVariantResult::getTotalRevenue)
+                    .thenComparingLong(ScenarioVariantResult::getFinalMoney)
+                    .reversed();
+
+    /** The variant that was run. */
+    private final ScenarioVariant variant;
+
+    /** The simulation of the variant, in its final state. */
+    private final Simulation simulation;
+
+    /** The money at the end of the simulation. */
+    private final long finalMoney;
+
+    /** The sum of the earnings of every year. */
+    private final long totalEarnings;
+
+    /** The sum of the expenses of every year. */
+    private final long totalExpenses;
+
+    /** The sum of the revenue of every year. */
+    private final long totalRevenue;
+
+    /**
+     * Constructs the result of a variant from its simulation in the final state.
+     *
+     * @param variant    the variant that was run
+     * @param simulation the simulation of the variant
+     * @throws IllegalArgumentException if the variant or the simulation is null
+     */
+    public ScenarioVariantResult(ScenarioVariant variant, Simulation simulation) {
+        if (variant == null || simulation == null) {
+            throw new IllegalArgumentException("Variant and simulation cannot be null");
+        }
+        this.variant = variant;
+        this.simulation = simulation;
+        this.finalMoney = simulation.getActualMoney();
+
+        long earnings = 0;
+        long expenses = 0;
+        long revenue = 0;
+        for (YearFinancialResult result : simulation.getFinancialResults()) {
+            earnings += result.getEarning();
+            expenses += result.getTotalExpenses();
+            revenue += result.getRevenue();
+        }
+        this.totalEarnings = earnings;
+        this.totalExpenses = expenses;
+        this.totalRevenue = revenue;
+    }
+
+    /**
+     * Gets the variant that was run.
+     *
+     * @return the variant
+     */
+    public ScenarioVariant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Gets the name of the variant that was run.
+     *
+     * @return the variant name
+     */
+    public String getVariantName() {
+        return variant.getName();
+    }
+
+    /**
+     * Gets the simulation of the variant in its final state.
+     *
+     * @return the simulation
+     */
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the money at the end of the simulation.
+     *
+     * @return the final money
+     */
+    public long getFinalMoney() {
+        return finalMoney;
+    }
+
+    /**
+     * Gets the sum of the earnings of every year.
+     *
+     * @return the total earnings
+     */
+    public long getTotalEarnings() {
+        return totalEarnings;
+    }
+
+    /**
+     * Gets the sum of the expenses of every year.
+     *
+     * @return the total expenses
+     */
+    public long getTotalExpenses() {
+        return totalExpenses;
+    }
+
+    /**
+     * Gets the sum of the revenue of every year.
+     *
+     * @return the total revenue
+     */
+    public long getTotalRevenue() {
+        return totalRevenue;
+    }
+
+    @Override
+    public String toString() {
+        return variant.getName() + ": final money " + finalMoney + ", earnings " + totalEarnings
+                + ", expenses " + totalExpenses + ", revenue " + totalRevenue;
+    }
+}
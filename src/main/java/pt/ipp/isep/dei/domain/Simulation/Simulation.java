@@ -1,11 +1,14 @@
 package pt.ipp.isep.dei.domain.Simulation;
 
 import pt.ipp.isep.dei.domain.City.HouseBlock;
+import pt.ipp.isep.dei.domain.FinancialResult.DeliveredCargoCounter;
 import pt.ipp.isep.dei.domain.FinancialResult.UnloadCargoLogs;
 import pt.ipp.isep.dei.domain.Industry.Industry;
 import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
 import pt.ipp.isep.dei.domain.Map.Map;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Train.Carriage;
@@ -32,6 +35,11 @@ public class Simulation implements Serializable {
     private int converterMonthSecond = 2;
     private int actualMoney;
     private String name;
+    private int modificationCount;
+    private transient volatile TimeDate currentDate;
+    private transient MaintenanceSchedule maintenanceSchedule;
+    private transient StationNetwork stationNetwork;
+    private transient int stationNetworkMapModificationCount;
 
     private List<HouseBlock> houseBlocks = new ArrayList<>();
     private List<Industry> industries = new ArrayList<>();
@@ -45,6 +53,8 @@ public class Simulation implements Serializable {
     private List<Route> routes = new ArrayList<>();
     private List<YearFinancialResult> financialResults = new ArrayList<>();
     private List<UnloadCargoLogs> unloadCargoLogsList = new ArrayList<>();
+    private DeliveredCargoCounter deliveredCargo = new DeliveredCargoCounter();
+    private boolean keepUnloadCargoLogs;
 
     /**
      * Constructs a Simulation with the given name and scenario.
@@ -235,6 +245,21 @@ public class Simulation implements Serializable {
         this.currentTime = currentTime;
     }
 
+    /**
+     * Gets the date of the current simulation day.
+     * The date is only computed once per simulation day, and each caller gets its own copy of it.
+     *
+     * @return the current date
+     */
+    public TimeDate getCurrentDate() {
+        TimeDate date = currentDate;
+        if (date == null || date.getTotalDays() != currentTime + 1) {
+            date = Utils.convertToDate(currentTime);
+            currentDate = date;
+        }
+        return new TimeDate(date.getYear(), date.getMonth(), date.getDay());
+    }
+
     /**
      * Gets the maximum time allowed in the simulation.
      *
@@ -323,8 +348,14 @@ public class Simulation implements Serializable {
      * @return true if the station was added, false otherwise
      */
     public boolean addStation(Station station) {
+        boolean networkUpToDate = isStationNetworkUpToDate();
         if (map.addElement(station)) {
             stations.add(station);
+            if (networkUpToDate) {
+                stationNetwork.addStation(station);
+                stationNetworkMapModificationCount = map.getModificationCount();
+            }
+            markModified();
             return true;
         }
         return false;
@@ -336,8 +367,13 @@ public class Simulation implements Serializable {
      * @param station the station to remove
      */
     public void removeStation(Station station) {
-        map.removeElement(station);
+        boolean networkUpToDate = isStationNetworkUpToDate();
+        if (map.removeElement(station) && networkUpToDate) {
+            stationNetwork.removeStation(station);
+            stationNetworkMapModificationCount = map.getModificationCount();
+        }
         stations.remove(station);
+        markModified();
     }
 
     /**
@@ -355,8 +391,15 @@ public class Simulation implements Serializable {
      * @param railwayLine the railway line to add
      */
     public void addRailwayLine(RailwayLine railwayLine) {
-        map.addElement(railwayLine);
+        boolean networkUpToDate = isStationNetworkUpToDate();
+        if (map.addElement(railwayLine) && networkUpToDate) {
+            stationNetwork.addRailwayLine(railwayLine);
+            stationNetworkMapModificationCount = map.getModificationCount();
+        }
         railwayLines.add(railwayLine);
+        if (maintenanceSchedule != null) {
+            maintenanceSchedule.addRailwayLine(railwayLine);
+        }
     }
 
     /**
@@ -369,8 +412,55 @@ public class Simulation implements Serializable {
         if (railwayLine == null) {
             throw new IllegalArgumentException("Railway line cannot be null");
         }
-        railwayLines.remove(railwayLine);
-        map.removeElement(railwayLine);
+        if (railwayLines.remove(railwayLine) && maintenanceSchedule != null) {
+            maintenanceSchedule.removeRailwayLine(railwayLine);
+        }
+        boolean networkUpToDate = isStationNetworkUpToDate();
+        if (map.removeElement(railwayLine) && networkUpToDate) {
+            stationNetwork.removeRailwayLine(railwayLine);
+            stationNetworkMapModificationCount = map.getModificationCount();
+        }
+    }
+
+    /**
+     * Changes the type of a railway line of the simulation, keeping the map and the station network up to date.
+     *
+     * @param railwayLine the railway line to change
+     * @param type        the new type of the railway line
+     */
+    public void changeRailwayLineType(RailwayLine railwayLine, RailwayLineType type) {
+        boolean networkUpToDate = isStationNetworkUpToDate();
+        map.changeRailwayLineType(railwayLine, type);
+        if (networkUpToDate) {
+            stationNetwork.updateRailwayLineType(railwayLine);
+            stationNetworkMapModificationCount = map.getModificationCount();
+        }
+    }
+
+    /**
+     * Gets the index of the stations connected by the railway lines of the map.
+     * The index is updated as railway lines and stations are added and removed through the simulation,
+     * and rebuilt when the map was changed in another way.
+     *
+     * @return the station network
+     */
+    public StationNetwork getStationNetwork() {
+        if (!isStationNetworkUpToDate()) {
+            stationNetwork = new StationNetwork(map.getRailwayLines());
+            stationNetworkMapModificationCount = map.getModificationCount();
+        }
+        return stationNetwork;
+    }
+
+    /**
+     * Checks if the station network was built or updated since the map last changed,
+     * and still has as many railway lines as the map.
+     *
+     * @return true if the station network matches the map, false otherwise
+     */
+    private boolean isStationNetworkUpToDate() {
+        return stationNetwork != null && stationNetworkMapModificationCount == map.getModificationCount()
+                && stationNetwork.getRailwayLineCount() == map.getRailwayLines().size();
     }
 
     /**
@@ -398,6 +488,7 @@ public class Simulation implements Serializable {
      */
     public void addRoute(Route route) {
         this.routes.add(route);
+        markModified();
     }
 
     /**
@@ -411,6 +502,24 @@ public class Simulation implements Serializable {
             throw new IllegalArgumentException("route cannot be null");
         }
         routes.remove(route);
+        markModified();
+    }
+
+    /**
+     * Gets the number of changes made to the stations and routes of the simulation.
+     * Used to know when the simulation events have to be refreshed.
+     *
+     * @return the modification count
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records a change to the simulation that affects its events.
+     */
+    public void markModified() {
+        modificationCount++;
     }
 
     /**
@@ -560,6 +669,9 @@ public class Simulation implements Serializable {
             throw new IllegalArgumentException("Train cannot be null");
         }
         trainList.add(train);
+        if (maintenanceSchedule != null) {
+            maintenanceSchedule.addTrain(train);
+        }
     }
 
     /**
@@ -581,7 +693,22 @@ public class Simulation implements Serializable {
         if (train == null) {
             throw new IllegalArgumentException("Train cannot be null");
         }
-        trainList.remove(train);
+        if (trainList.remove(train) && maintenanceSchedule != null) {
+            maintenanceSchedule.removeTrain(train);
+        }
+    }
+
+    /**
+     * Gets the maintenance schedule of the trains and railway lines of the simulation.
+     * The schedule is built on first use and kept up to date as trains and railway lines are added and removed.
+     *
+     * @return the maintenance schedule
+     */
+    public MaintenanceSchedule getMaintenanceSchedule() {
+        if (maintenanceSchedule == null) {
+            maintenanceSchedule = new MaintenanceSchedule(trainList, railwayLines);
+        }
+        return maintenanceSchedule;
     }
 
     /**
@@ -638,6 +765,55 @@ public class Simulation implements Serializable {
         this.unloadCargoLogsList = unloadCargoLogsList;
     }
 
+    /**
+     * Records the resources unloaded at a station, adding them to the delivered cargo counters of the year.
+     * The unload is also added to the unload cargo logs if they are kept.
+     *
+     * @param station           the station where the resources were unloaded
+     * @param unloadedResources the unloaded resources
+     */
+    public void recordUnloadedCargo(Station station, List<Resource> unloadedResources) {
+        getDeliveredCargo().addDelivery(station, unloadedResources);
+        if (keepUnloadCargoLogs) {
+            unloadCargoLogsList.add(new UnloadCargoLogs(unloadedResources, station));
+        }
+    }
+
+    /**
+     * Gets the cargo delivered to each station during the current year.
+     * Simulations saved before the counters existed get them from their unload cargo logs.
+     *
+     * @return the delivered cargo counters
+     */
+    public DeliveredCargoCounter getDeliveredCargo() {
+        if (deliveredCargo == null) {
+            deliveredCargo = new DeliveredCargoCounter();
+            for (UnloadCargoLogs logs : unloadCargoLogsList) {
+                deliveredCargo.addDelivery(logs.getStation(), logs.getUnloadedResources());
+            }
+        }
+        return deliveredCargo;
+    }
+
+    /**
+     * Checks if every unload is also kept in the unload cargo logs.
+     *
+     * @return true if the unload cargo logs are kept, false otherwise
+     */
+    public boolean isKeepUnloadCargoLogs() {
+        return keepUnloadCargoLogs;
+    }
+
+    /**
+     * Sets whether every unload is also kept in the unload cargo logs.
+     * The yearly demand update only needs the delivered cargo counters, so the logs are not kept by default.
+     *
+     * @param keepUnloadCargoLogs true to keep the unload cargo logs, false otherwise
+     */
+    public void setKeepUnloadCargoLogs(boolean keepUnloadCargoLogs) {
+        this.keepUnloadCargoLogs = keepUnloadCargoLogs;
+    }
+
     /**
      * Returns a string representation of the simulation.
      *
@@ -0,0 +1,115 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.SparseGraph;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Snapshot of the stations connected by a list of railway lines, numbering the stations as the vertices of a
+ * sparse graph weighted by the distance of the railway lines.
+ * Stations are numbered in the order they first appear in the railway lines, station 1 before station 2.
+ */
+public class StationGraph {
+
+    /** Stations of the graph, by index. */
+    private final Station[] stations;
+
+    /** Index of each station of the graph. */
+    private final IdentityHashMap<Station, Integer> stationIndices;
+
+    /** Graph of the station indices, each railway line weighing its distance. */
+    private final SparseGraph graph;
+
+    /**
+     * Constructs the graph of the stations connected by the given railway lines.
+     *
+     * @param railwayLines the railway lines of the graph
+     */
+    public StationGraph(List<RailwayLine> railwayLines) {
+        stationIndices = new IdentityHashMap<>();
+        int[] edgeEnds = new int[railwayLines.size() * 2];
+        int[] edgeWeights = new int[railwayLines.size()];
+        for (int i = 0; i < railwayLines.size(); i++) {
+            RailwayLine railwayLine = railwayLines.get(i);
+            edgeEnds[2 * i] = indexStation(railwayLine.getStation1());
+            edgeEnds[2 * i + 1] = indexStation(railwayLine.getStation2());
+            edgeWeights[i] = railwayLine.getDistance();
+        }
+
+        stations = new Station[stationIndices.size()];
+        stationIndices.forEach((station, index) -> stations[index] = station);
+        graph = new SparseGraph(stations.length, edgeEnds, edgeWeights);
+    }
+
+    /**
+     * Gets the number of stations of the graph.
+     *
+     * @return the number of stations
+     */
+    public int getStationCount() {
+        return stations.length;
+    }
+
+    /**
+     * Gets a station of the graph.
+     *
+     * @param index the index of the station
+     * @return the station
+     */
+    public Station getStation(int index) {
+        return stations[index];
+    }
+
+    /**
+     * Gets the index of a station in the graph.
+     *
+     * @param station the station
+     * @return the index of the station, or -1 if no railway line of the graph connects it
+     */
+    public int indexOf(Station station) {
+        Integer index = stationIndices.get(station);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the graph of the station indices, to search for paths between them.
+     *
+     * @return the sparse graph, weighted by the distance of the railway lines
+     */
+    public SparseGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Gets the stations of a path of station indices.
+     *
+     * @param path the indices of the stations of the path
+     * @return the stations of the path, in the same order
+     */
+    public List<Station> getStations(int[] path) {
+        List<Station> pathStations = new ArrayList<>(path.length);
+        for (int index : path) {
+            pathStations.add(stations[index]);
+        }
+        return pathStations;
+    }
+
+    /**
+     * Gets the index of a station, numbering it if it was not seen yet.
+     *
+     * @param station the station
+     * @return the index of the station
+     */
+    private int indexStation(Station station) {
+        Integer index = stationIndices.get(station);
+        if (index == null) {
+            index = stationIndices.size();
+            stationIndices.put(station, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,415 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.DisjointSets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Index of the stations connected by the railway lines of a simulation, updated as railway lines are added, removed or upgraded.
+ * Keeps the railway lines between each pair of stations and the number of railway lines of each station,
+ * for all railway lines and for electrified railway lines only, and compiles a station graph of each view when it is needed.
+ * The connected components of each view are merged as railway lines are added and found again after a removal.
+ */
+public class StationNetwork {
+
+    /** Railway lines of the network, in the order they were added. */
+    private final List<RailwayLine> railwayLines = new ArrayList<>();
+
+    /** Id of each station known by the network. */
+    private final IdentityHashMap<Station, Integer> stationIds = new IdentityHashMap<>();
+
+    /** Next id to give to a station. */
+    private int nextStationId;
+
+    /** Number of railway lines of each station, by station id. */
+    private int[] lineCounts = new int[16];
+
+    /** Number of electrified railway lines of each station, by station id. */
+    private int[] electrifiedLineCounts = new int[16];
+
+    /** Railway lines between each pair of stations, in the order they were added, keyed by the ids of the stations. */
+    private final HashMap<Long, List<RailwayLine>> railwayLinesByPair = new HashMap<>();
+
+    /** Whether each railway line of the network was electrified when it was last indexed. */
+    private final IdentityHashMap<RailwayLine, Boolean> electrifiedLines = new IdentityHashMap<>();
+
+    /** Graph of all railway lines, or null if it has to be compiled. */
+    private StationGraph graph;
+
+    /** Graph of the electrified railway lines, or null if it has to be compiled. */
+    private StationGraph electrifiedGraph;
+
+    /** Connected components of all railway lines, by station id, or null if they have to be found. */
+    private DisjointSets components;
+
+    /** Connected components of the electrified railway lines, by station id, or null if they have to be found. */
+    private DisjointSets electrifiedComponents;
+
+    /**
+     * Constructs an empty network.
+     */
+    public StationNetwork() {
+    }
+
+    /**
+     * Constructs a network with the given railway lines.
+     *
+     * @param railwayLines the railway lines of the network
+     */
+    public StationNetwork(List<RailwayLine> railwayLines) {
+        for (RailwayLine railwayLine : railwayLines) {
+            addRailwayLine(railwayLine);
+        }
+    }
+
+    /**
+     * Checks if a railway line type is electrified.
+     *
+     * @param type the railway line type
+     * @return true if the type is a single or double electrified track, false otherwise
+     */
+    public static boolean isElectrified(RailwayLineType type) {
+        return type != null && (type.getId() == 0 || type.getId() == 1);
+    }
+
+    /**
+     * Adds a station to the network. A station only becomes connected when a railway line is added to it.
+     *
+     * @param station the station to add
+     */
+    public void addStation(Station station) {
+        getStationId(station);
+    }
+
+    /**
+     * Removes a station from the network, if no railway line of the network connects it.
+     *
+     * @param station the station to remove
+     */
+    public void removeStation(Station station) {
+        Integer id = stationIds.get(station);
+        if (id != null && lineCounts[id] == 0) {
+            stationIds.remove(station);
+        }
+    }
+
+    /**
+     * Adds a railway line to the network.
+     *
+     * @param railwayLine the railway line to add
+     */
+    public void addRailwayLine(RailwayLine railwayLine) {
+        if (electrifiedLines.containsKey(railwayLine)) {
+            return;
+        }
+        boolean electrified = isElectrified(railwayLine.getTypeEnum());
+        railwayLines.add(railwayLine);
+        electrifiedLines.put(railwayLine, electrified);
+        railwayLinesByPair.computeIfAbsent(pairKey(railwayLine.getStation1(), railwayLine.getStation2()), key -> new ArrayList<>())
+                .add(railwayLine);
+        updateLineCounts(railwayLine, 1, electrified);
+        graph = null;
+        mergeComponents(components, railwayLine);
+        if (electrified) {
+            electrifiedGraph = null;
+            mergeComponents(electrifiedComponents, railwayLine);
+        }
+    }
+
+    /**
+     * Removes a railway line from the network.
+     *
+     * @param railwayLine the railway line to remove
+     */
+    public void removeRailwayLine(RailwayLine railwayLine) {
+        Boolean electrified = electrifiedLines.remove(railwayLine);
+        if (electrified == null) {
+            return;
+        }
+        railwayLines.remove(railwayLine);
+        long key = pairKey(railwayLine.getStation1(), railwayLine.getStation2());
+        List<RailwayLine> pairLines = railwayLinesByPair.get(key);
+        pairLines.remove(railwayLine);
+        if (pairLines.isEmpty()) {
+            railwayLinesByPair.remove(key);
+        }
+        updateLineCounts(railwayLine, -1, electrified);
+        graph = null;
+        components = null;
+        if (electrified) {
+            electrifiedGraph = null;
+            electrifiedComponents = null;
+        }
+    }
+
+    /**
+     * Moves a railway line to the views of its current type, after its type changed.
+     *
+     * @param railwayLine the railway line whose type changed
+     */
+    public void updateRailwayLineType(RailwayLine railwayLine) {
+        Boolean wasElectrified = electrifiedLines.get(railwayLine);
+        boolean electrified = isElectrified(railwayLine.getTypeEnum());
+        if (wasElectrified == null || wasElectrified == electrified) {
+            return;
+        }
+        int delta = electrified ? 1 : -1;
+        electrifiedLineCounts[stationIds.get(railwayLine.getStation1())] += delta;
+        electrifiedLineCounts[stationIds.get(railwayLine.getStation2())] += delta;
+        electrifiedLines.put(railwayLine, electrified);
+        electrifiedGraph = null;
+        if (electrified) {
+            mergeComponents(electrifiedComponents, railwayLine);
+        } else {
+            electrifiedComponents = null;
+        }
+    }
+
+    /**
+     * Checks if a station is connected by any railway line of a view.
+     *
+     * @param station         the station to check
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return true if a railway line of the view starts or ends at the station, false otherwise
+     */
+    public boolean isConnected(Station station, boolean electrifiedOnly) {
+        Integer id = stationIds.get(station);
+        if (id == null) {
+            return false;
+        }
+        return (electrifiedOnly ? electrifiedLineCounts[id] : lineCounts[id]) > 0;
+    }
+
+    /**
+     * Checks if two stations are in the same connected component of a view.
+     *
+     * @param station1        the first station
+     * @param station2        the second station
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return true if a path of railway lines of the view joins the stations, or they are the same station of the network
+     */
+    public boolean isSameComponent(Station station1, Station station2, boolean electrifiedOnly) {
+        Integer id1 = stationIds.get(station1);
+        Integer id2 = stationIds.get(station2);
+        return id1 != null && id2 != null && getComponents(electrifiedOnly).isSameSet(id1, id2);
+    }
+
+    /**
+     * Gets the label of the connected component of a station in a view.
+     * Stations share a label when they are in the same component, until the network changes.
+     *
+     * @param station         the station
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return the label of the component, or -1 if the station is not in the network
+     */
+    public int getComponent(Station station, boolean electrifiedOnly) {
+        Integer id = stationIds.get(station);
+        return id == null ? -1 : getComponents(electrifiedOnly).find(id);
+    }
+
+    /**
+     * Gets the first railway line of a view added between two stations, in either direction.
+     *
+     * @param station1        the first station
+     * @param station2        the second station
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return the railway line between the stations, or null if there is none
+     */
+    public RailwayLine getRailwayLineBetween(Station station1, Station station2, boolean electrifiedOnly) {
+        List<RailwayLine> pairLines = getPairLines(station1, station2);
+        if (pairLines != null) {
+            for (RailwayLine railwayLine : pairLines) {
+                if (!electrifiedOnly || electrifiedLines.get(railwayLine)) {
+                    return railwayLine;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets every railway line of a view between two stations, in either direction, in the order they were added.
+     *
+     * @param station1        the first station
+     * @param station2        the second station
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return the railway lines between the stations
+     */
+    public List<RailwayLine> getRailwayLinesBetween(Station station1, Station station2, boolean electrifiedOnly) {
+        List<RailwayLine> railwayLinesBetween = new ArrayList<>();
+        List<RailwayLine> pairLines = getPairLines(station1, station2);
+        if (pairLines != null) {
+            for (RailwayLine railwayLine : pairLines) {
+                if (!electrifiedOnly || electrifiedLines.get(railwayLine)) {
+                    railwayLinesBetween.add(railwayLine);
+                }
+            }
+        }
+        return railwayLinesBetween;
+    }
+
+    /**
+     * Gets the railway lines of a view, in the order they were added.
+     *
+     * @param electrifiedOnly true to only get electrified railway lines, false to get all railway lines
+     * @return the railway lines of the view
+     */
+    public List<RailwayLine> getRailwayLines(boolean electrifiedOnly) {
+        if (!electrifiedOnly) {
+            return new ArrayList<>(railwayLines);
+        }
+        List<RailwayLine> electrifiedRailwayLines = new ArrayList<>();
+        for (RailwayLine railwayLine : railwayLines) {
+            if (electrifiedLines.get(railwayLine)) {
+                electrifiedRailwayLines.add(railwayLine);
+            }
+        }
+        return electrifiedRailwayLines;
+    }
+
+    /**
+     * Gets the number of railway lines of the network.
+     *
+     * @return the number of railway lines
+     */
+    public int getRailwayLineCount() {
+        return railwayLines.size();
+    }
+
+    /**
+     * Gets the graph of a view, compiling it if the network changed since it was last compiled.
+     *
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return the station graph of the view
+     */
+    public StationGraph getGraph(boolean electrifiedOnly) {
+        if (electrifiedOnly) {
+            if (electrifiedGraph == null) {
+                electrifiedGraph = new StationGraph(getRailwayLines(true));
+            }
+            return electrifiedGraph;
+        }
+        if (graph == null) {
+            graph = new StationGraph(railwayLines);
+        }
+        return graph;
+    }
+
+    /**
+     * Gets the connected components of a view, finding them again from the railway lines if a removal split them.
+     *
+     * @param electrifiedOnly true to only consider electrified railway lines, false to consider all railway lines
+     * @return the components of the view
+     */
+    private DisjointSets getComponents(boolean electrifiedOnly) {
+        DisjointSets viewComponents = electrifiedOnly ? electrifiedComponents : components;
+        if (viewComponents == null) {
+            viewComponents = new DisjointSets(nextStationId);
+            for (RailwayLine railwayLine : railwayLines) {
+                if (!electrifiedOnly || electrifiedLines.get(railwayLine)) {
+                    mergeComponents(viewComponents, railwayLine);
+                }
+            }
+            if (electrifiedOnly) {
+                electrifiedComponents = viewComponents;
+            } else {
+                components = viewComponents;
+            }
+        }
+        return viewComponents;
+    }
+
+    /**
+     * Merges the components of the stations of a railway line.
+     *
+     * @param viewComponents the components of a view, or null if they have to be found
+     * @param railwayLine    the railway line
+     */
+    private void mergeComponents(DisjointSets viewComponents, RailwayLine railwayLine) {
+        if (viewComponents != null) {
+            viewComponents.union(stationIds.get(railwayLine.getStation1()), stationIds.get(railwayLine.getStation2()));
+        }
+    }
+
+    /**
+     * Gets the railway lines between two stations, in either direction.
+     *
+     * @param station1 the first station
+     * @param station2 the second station
+     * @return the railway lines between the stations, or null if there are none
+     */
+    private List<RailwayLine> getPairLines(Station station1, Station station2) {
+        Integer id1 = stationIds.get(station1);
+        Integer id2 = stationIds.get(station2);
+        if (id1 == null || id2 == null) {
+            return null;
+        }
+        return railwayLinesByPair.get(pairKey(id1, id2));
+    }
+
+    /**
+     * Gets the key of a pair of stations, numbering the stations if they were not seen yet.
+     *
+     * @param station1 the first station
+     * @param station2 the second station
+     * @return the key of the pair, the same in either direction
+     */
+    private long pairKey(Station station1, Station station2) {
+        return pairKey(getStationId(station1), getStationId(station2));
+    }
+
+    /**
+     * Gets the key of a pair of station ids.
+     *
+     * @param id1 the id of the first station
+     * @param id2 the id of the second station
+     * @return the key of the pair, the same in either order
+     */
+    private static long pairKey(int id1, int id2) {
+        return ((long) Math.min(id1, id2) << 32) | Math.max(id1, id2);
+    }
+
+    /**
+     * Gets the id of a station, giving it a new one if it was not seen yet.
+     *
+     * @param station the station
+     * @return the id of the station
+     */
+    private int getStationId(Station station) {
+        Integer id = stationIds.get(station);
+        if (id == null) {
+            id = nextStationId++;
+            stationIds.put(station, id);
+            if (id >= lineCounts.length) {
+                lineCounts = Arrays.copyOf(lineCounts, lineCounts.length * 2);
+                electrifiedLineCounts = Arrays.copyOf(electrifiedLineCounts, electrifiedLineCounts.length * 2);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Updates the number of railway lines of the stations of a railway line.
+     *
+     * @param railwayLine the railway line
+     * @param delta       1 when the railway line is added, -1 when it is removed
+     * @param electrified whether the railway line counts as electrified
+     */
+    private void updateLineCounts(RailwayLine railwayLine, int delta, boolean electrified) {
+        int id1 = getStationId(railwayLine.getStation1());
+        int id2 = getStationId(railwayLine.getStation2());
+        lineCounts[id1] += delta;
+        lineCounts[id2] += delta;
+        if (electrified) {
+            electrifiedLineCounts[id1] += delta;
+            electrifiedLineCounts[id2] += delta;
+        }
+    }
+}
@@ -12,10 +12,25 @@ public class TimeDate implements Serializable {
     private int day;
 
     /**
-     * Array representing the number of days in each month.
-     * Index 0 is unused. February (index 2) is set dynamically based on leap years.
+     * Array representing the number of days in each month of a non-leap year.
+     * Index 0 is unused.
      */
-    private static int[] DAYS_PER_MONTH = {0, 31, -1, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private static final int[] DAYS_PER_MONTH = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+     * Array representing the number of days before the first day of each month in a non-leap year.
+     * Index 0 is unused.
+     */
+    private static final int[] DAYS_BEFORE_MONTH = {0, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    /** Number of days in a 400 year cycle of the gregorian calendar. */
+    private static final int DAYS_PER_400_YEARS = 146097;
+
+    /** Number of days in a 100 year cycle that does not start with a leap year. */
+    private static final int DAYS_PER_100_YEARS = 36524;
+
+    /** Number of days in a 4 year cycle with one leap year. */
+    private static final int DAYS_PER_4_YEARS = 1461;
 
     /**
      * Constructs a TimeDate object with the specified year, month, and day.
@@ -31,33 +46,104 @@ public class TimeDate implements Serializable {
         }
         this.year = year;
 
-        if (isLeapYear(year)) {
-            DAYS_PER_MONTH[2] = 29; // Leap year
-        } else {
-            DAYS_PER_MONTH[2] = 28; // Non-leap year
-        }
-
         if (month < 1 || month > 12) {
             throw new IllegalArgumentException("Month must be between 1 and 12.");
         }
         this.month = month;
 
-        if (day < 1 || day > DAYS_PER_MONTH[month]) {
-            throw new IllegalArgumentException("Day must be between 1 and " + DAYS_PER_MONTH[month] + " for month " + month + ".");
+        int daysInMonth = getDaysInMonth(year, month);
+        if (day < 1 || day > daysInMonth) {
+            throw new IllegalArgumentException("Day must be between 1 and " + daysInMonth + " for month " + month + ".");
         }
         this.day = day;
     }
 
+    /**
+     * Creates the date corresponding to a total number of days, as returned by {@link #getTotalDays()}.
+     * The date is computed in constant time using the 400, 100 and 4 year cycles of the gregorian calendar.
+     *
+     * @param totalDays the total number of days (1 is the 1st of January of year 1)
+     * @return the corresponding date
+     * @throws IllegalArgumentException if the total number of days is lower than 1
+     */
+    public static TimeDate fromTotalDays(int totalDays) {
+        if (totalDays < 1) {
+            throw new IllegalArgumentException("Total days must be greater than 0.");
+        }
+        int remainingDays = totalDays - 1;
+
+        int cycles400 = remainingDays / DAYS_PER_400_YEARS;
+        remainingDays %= DAYS_PER_400_YEARS;
+
+        // The last day of a 400 year cycle belongs to the 4th century
+        int cycles100 = Math.min(remainingDays / DAYS_PER_100_YEARS, 3);
+        remainingDays -= cycles100 * DAYS_PER_100_YEARS;
+
+        int cycles4 = remainingDays / DAYS_PER_4_YEARS;
+        remainingDays %= DAYS_PER_4_YEARS;
+
+        // The last day of a 4 year cycle belongs to its leap year
+        int years = Math.min(remainingDays / 365, 3);
+        remainingDays -= years * 365;
+
+        int year = cycles400 * 400 + cycles100 * 100 + cycles4 * 4 + years + 1;
+        int month = 1;
+        while (month < 12 && remainingDays >= getDaysBeforeMonth(year, month + 1)) {
+            month++;
+        }
+        int day = remainingDays - getDaysBeforeMonth(year, month) + 1;
+        return new TimeDate(year, month, day);
+    }
+
     /**
      * Checks if a given year is a leap year.
      *
      * @param year the year to check
      * @return true if the year is a leap year, false otherwise
      */
-    private boolean isLeapYear(int year) {
+    public static boolean isLeapYear(int year) {
         return (year % 400 == 0) || ((year % 4 == 0) && (year % 100 != 0));
     }
 
+    /**
+     * Gets the number of days of a month in a given year.
+     *
+     * @param year  the year
+     * @param month the month (between 1 and 12)
+     * @return the number of days of the month
+     */
+    public static int getDaysInMonth(int year, int month) {
+        if (month == 2 && isLeapYear(year)) {
+            return 29;
+        }
+        return DAYS_PER_MONTH[month];
+    }
+
+    /**
+     * Gets the number of days of a given year before the first day of a month.
+     *
+     * @param year  the year
+     * @param month the month (between 1 and 12)
+     * @return the number of days before the month
+     */
+    private static int getDaysBeforeMonth(int year, int month) {
+        if (month > 2 && isLeapYear(year)) {
+            return DAYS_BEFORE_MONTH[month] + 1;
+        }
+        return DAYS_BEFORE_MONTH[month];
+    }
+
+    /**
+     * Gets the number of days from the beginning of year 1 to the beginning of a given year.
+     *
+     * @param year the year
+     * @return the number of days before the year
+     */
+    private static int getDaysBeforeYear(int year) {
+        int previousYears = year - 1;
+        return previousYears * 365 + previousYears / 4 - previousYears / 100 + previousYears / 400;
+    }
+
     /**
      * Gets the year.
      *
@@ -161,23 +247,11 @@ public class TimeDate implements Serializable {
     }
 
     /**
-     * Gets the total number of days since year 0.
+     * Gets the total number of days since year 0, where the 1st of January of year 1 is day 1.
      *
      * @return the total number of days
      */
     public int getTotalDays() {
-        int totalDays = 0;
-        for (int i = 1; i < year; i++) {
-            if (isLeapYear(i)) {
-                totalDays += 366; // Leap year
-            } else {
-                totalDays += 365; // Non-leap year
-            }
-        }
-        for (int i = 1; i < month; i++) {
-            totalDays += DAYS_PER_MONTH[i];
-        }
-        totalDays += day;
-        return totalDays;
+        return getDaysBeforeYear(year) + getDaysBeforeMonth(year, month) + day;
     }
 }
\ No newline at end of file
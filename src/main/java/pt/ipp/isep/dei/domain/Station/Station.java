@@ -4,12 +4,12 @@ import pt.ipp.isep.dei.domain.City.City;
 import pt.ipp.isep.dei.domain.City.HouseBlock;
 import pt.ipp.isep.dei.domain.Event.RouteEvent;
 import pt.ipp.isep.dei.domain.FinancialResult.Demand;
-import pt.ipp.isep.dei.domain.Industry.Industry;
 import pt.ipp.isep.dei.domain.Industry.MixedIndustry;
 import pt.ipp.isep.dei.domain.Industry.TransformingIndustry;
 import pt.ipp.isep.dei.domain.Map.Map;
 import pt.ipp.isep.dei.domain.Map.MapElement;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
+import pt.ipp.isep.dei.domain.Resource.ResourcesTypeMask;
 import pt.ipp.isep.dei.domain.Resource.TransformingResource;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain._Others_.Position;
@@ -18,6 +18,8 @@ import pt.ipp.isep.dei.repository.*;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static pt.ipp.isep.dei.ui.console.utils.Utils.getEuclideanDistance;
 
@@ -69,11 +71,29 @@ public class Station extends MapElement implements Serializable {
     private List<StationAssociations> associations;
 
     /** Counter for created stations (used for unique identifiers). */
-    private static int counterCreatedStations = 0;
+    private static final AtomicInteger counterCreatedStations = new AtomicInteger();
+
+    /** The association index used to find the associations, or null if they were never found. */
+    private transient StationAssociationIndex catchmentIndex;
+
+    /** The x coordinate of the station when the associations were found. */
+    private transient int catchmentX;
+
+    /** The y coordinate of the station when the associations were found. */
+    private transient int catchmentY;
+
+    /** The type of the station when the associations were found. */
+    private transient StationType catchmentType;
+
+    /** The direction of the station when the associations were found. */
+    private transient String catchmentDirection;
 
     /** List of resource types requested by the station. */
     private List<ResourcesType> resourcesTypeRequested = new ArrayList<>();
 
+    /** Mask of the resource types requested by the station. */
+    private transient ResourcesTypeMask resourcesTypeRequestedMask;
+
     /** List of demands for the station. */
     private List<Demand> demandList = new ArrayList<>();
 
@@ -103,8 +123,7 @@ public class Station extends MapElement implements Serializable {
             this.direction = null;
         }
 
-        this.identifier = counterCreatedStations;
-        counterCreatedStations++;
+        this.identifier = counterCreatedStations.getAndIncrement();
         this.buildings = new ArrayList<>();
         assignGenerationPosts(scenario);
         createDemandList();
@@ -132,48 +151,58 @@ public class Station extends MapElement implements Serializable {
 
     /**
      * Assigns industries and house blocks within the influential radius to this station.
+     * The associations are kept until the position, type or direction of the station or the industries
+     * and house blocks of the map change, and are looked up in the station association index of the map.
      *
      * @param scenario the scenario context
      */
     public void assignGenerationPosts(Scenario scenario) {
         setActualMap(scenario.getMap());
-        associations = new ArrayList<>();
-        List<Industry> industries = scenario.getIndustriesList();
-        List<HouseBlock> houseBlocks = actualMap.getHouseBlockList();
-
-        Position startPosition = findStartPosition();
-        int positionX = startPosition.getX();
-        int positionY = startPosition.getY();
-        Position verificationPosition;
-        for (int loop = 0; loop < type.getInfluentialRadius(); loop++) {
+        StationAssociationIndex index = actualMap.getStationAssociationIndex(scenario.getIndustriesList());
+        if (!isCatchmentValid(index)) {
+            associations = findAssociations(index);
+            catchmentIndex = index;
+            catchmentX = position.getX();
+            catchmentY = position.getY();
+            catchmentType = type;
+            catchmentDirection = direction;
+        }
+        for (StationAssociations association : associations) {
+            association.setAssignedStation(this);
+        }
+    }
 
-            if (positionX < 0 || positionY < 0) {
-                continue;
-            }
-            verificationPosition = new Position(positionX, positionY);
-            for (int loop2 = 0; loop2 < type.getInfluentialRadius(); loop2++) {
-                int currentX = startPosition.getX() + loop;
-                int currentY = startPosition.getY() + loop2;
-                verificationPosition.setX(currentX);
-                verificationPosition.setY(currentY);
-
-                for (Industry industry : industries) {
-                    if (industry.getPosition().getX() == currentX &&
-                            industry.getPosition().getY() == currentY) {
-                        associations.add(industry);
-                        industry.setAssignedStation(this);
-                    }
-                }
+    /**
+     * Checks if the associations were found with the given index and the current position, type and direction.
+     *
+     * @param index the station association index of the map
+     * @return true if the associations are up to date, false otherwise
+     */
+    private boolean isCatchmentValid(StationAssociationIndex index) {
+        return associations != null && catchmentIndex == index
+                && catchmentX == position.getX() && catchmentY == position.getY()
+                && catchmentType == type && Objects.equals(catchmentDirection, direction);
+    }
 
-                for (HouseBlock houseBlock : houseBlocks) {
-                    if (houseBlock.getPosition().getX() == currentX &&
-                            houseBlock.getPosition().getY() == currentY) {
-                        associations.add(houseBlock);
-                        houseBlock.setAssignedStation(this);
-                    }
-                }
+    /**
+     * Finds the industries and house blocks in the influential area of the station, cell by cell.
+     *
+     * @param index the station association index of the map
+     * @return the associations in the influential area
+     */
+    private List<StationAssociations> findAssociations(StationAssociationIndex index) {
+        List<StationAssociations> found = new ArrayList<>();
+        Position startPosition = findStartPosition();
+        if (startPosition.getX() < 0 || startPosition.getY() < 0) {
+            return found;
+        }
+        int influentialRadius = type.getInfluentialRadius();
+        for (int loop = 0; loop < influentialRadius; loop++) {
+            for (int loop2 = 0; loop2 < influentialRadius; loop2++) {
+                found.addAll(index.getAssociationsAt(startPosition.getX() + loop, startPosition.getY() + loop2));
             }
         }
+        return found;
     }
 
     /**
@@ -184,46 +213,53 @@ public class Station extends MapElement implements Serializable {
     public void setResourcesTypeRequested(Scenario scenario) {
         assignGenerationPosts(scenario);
         resourcesTypeRequested.clear();
+        ResourcesTypeMask requestedMask = new ResourcesTypeMask();
         for (StationAssociations association : associations) {
             if (association instanceof TransformingIndustry) {
                 TransformingIndustry industry = ((TransformingIndustry) association).getClonedTransformingIndustry(scenario);
-                List<ResourcesType> primaryResources = industry.getPrimaryResources();
-                for (ResourcesType primaryResource : primaryResources) {
-                    if (!resourcesTypeRequested.contains(primaryResource)) {
-                        resourcesTypeRequested.add(primaryResource);
-                    }
-                }
+                addResourcesTypeRequested(industry.getPrimaryResources(), requestedMask);
             }
             if (association instanceof MixedIndustry) {
                 MixedIndustry industry = ((MixedIndustry) association).getClonedMixedIndustry(scenario);
-                List<ResourcesType> transformedResources = industry.getTransformedResources();
-                for (ResourcesType transformedResource : transformedResources) {
-                    TransformingResource transformingResource = (TransformingResource) transformedResource;
-                    List<ResourcesType> primaryResources = transformingResource.getNeededResources();
-                    for (ResourcesType primaryResource : primaryResources) {
-                        if (!resourcesTypeRequested.contains(primaryResource)) {
-                            resourcesTypeRequested.add(primaryResource);
-                        }
-                    }
-                }
-                List<ResourcesType> exportedResources = industry.getExportedResources();
-                for (ResourcesType exportedResource : exportedResources) {
-                    if (!resourcesTypeRequested.contains(exportedResource)) {
-                        resourcesTypeRequested.add(exportedResource);
-                    }
+                for (ResourcesType transformedResource : industry.getTransformedResources()) {
+                    addResourcesTypeRequested(((TransformingResource) transformedResource).getNeededResources(), requestedMask);
                 }
+                addResourcesTypeRequested(industry.getExportedResources(), requestedMask);
             }
             if (association instanceof HouseBlock houseBlock) {
-                List<ResourcesType> resources = houseBlock.getConsumableResources();
-                for (ResourcesType resource : resources) {
-                    if (!resourcesTypeRequested.contains(resource)) {
-                        resourcesTypeRequested.add(resource);
-                    }
-                }
+                addResourcesTypeRequested(houseBlock.getConsumableResources(), requestedMask);
+            }
+        }
+        resourcesTypeRequestedMask = requestedMask;
+    }
+
+    /**
+     * Adds the resource types that are not requested yet to the resource types requested by the station.
+     *
+     * @param resourcesTypes the resource types to add
+     * @param requestedMask  the mask of the resource types already requested
+     */
+    private void addResourcesTypeRequested(List<? extends ResourcesType> resourcesTypes, ResourcesTypeMask requestedMask) {
+        for (ResourcesType resourcesType : resourcesTypes) {
+            if (requestedMask.add(resourcesType)) {
+                resourcesTypeRequested.add(resourcesType);
             }
         }
     }
 
+    /**
+     * Checks if a resource type is requested by the station, as of the last update of the requested resource types.
+     *
+     * @param resourcesType the resource type to check
+     * @return true if the resource type is requested, false otherwise
+     */
+    public boolean isResourceTypeRequested(ResourcesType resourcesType) {
+        if (resourcesTypeRequestedMask == null) {
+            resourcesTypeRequestedMask = new ResourcesTypeMask(resourcesTypeRequested);
+        }
+        return resourcesTypeRequestedMask.contains(resourcesType);
+    }
+
     /**
      * Finds the starting position for the influential area of the station.
      *
@@ -534,21 +570,22 @@ public class Station extends MapElement implements Serializable {
      */
     private void createDemandList() {
         List<ResourcesType> allResourceTypes = new ArrayList<>();
+        ResourcesTypeMask allResourceTypesMask = new ResourcesTypeMask();
 
         for (ResourcesType resourcesType : houseBlockResourceRepository.getAllHouseBlockResources()){
-            if(!verifyIfAlreadyHasResource(resourcesType, allResourceTypes)){
+            if(allResourceTypesMask.add(resourcesType)){
                 allResourceTypes.add(resourcesType);
             }
         }
 
         for (ResourcesType resourcesType : primaryResourceRepository.getAllPrimaryResources()){
-            if(!verifyIfAlreadyHasResource(resourcesType, allResourceTypes)){
+            if(allResourceTypesMask.add(resourcesType)){
                 allResourceTypes.add(resourcesType);
             }
         }
 
         for (ResourcesType resourcesType : transformingResourceRepository.getAllTransformingResources()){
-            if(!verifyIfAlreadyHasResource(resourcesType, allResourceTypes)){
+            if(allResourceTypesMask.add(resourcesType)){
                 allResourceTypes.add(resourcesType);
             }
         }
@@ -557,20 +594,4 @@ public class Station extends MapElement implements Serializable {
             demandList.add(new Demand(resourcesType));
         }
     }
-
-    /**
-     * Verifies if a resource type is already present in the list.
-     *
-     * @param resourcesType the resource type to check
-     * @param allResourceTypes the list of resource types
-     * @return true if already present, false otherwise
-     */
-    private boolean verifyIfAlreadyHasResource(ResourcesType resourcesType, List<ResourcesType> allResourceTypes) {
-        for (ResourcesType resourcesTypeToCompare : allResourceTypes){
-            if (resourcesTypeToCompare.getName().equals(resourcesType.getName())){
-                return true;
-            }
-        }
-        return false;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package pt.ipp.isep.dei.domain.Station;
+
+import pt.ipp.isep.dei.domain.City.HouseBlock;
+import pt.ipp.isep.dei.domain.Industry.Industry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Grid index of the industries and house blocks of a map, by the cell they are in.
+ * Lets a station find the associations inside its influential area by looking up the cells of the area,
+ * instead of comparing every cell with every industry and house block.
+ * In each cell, industries come before house blocks, each in the order of their lists.
+ */
+public class StationAssociationIndex {
+
+    /** Associations in each cell, keyed by the packed coordinates of the cell. */
+    private final HashMap<Long, List<StationAssociations>> associationsByCell = new HashMap<>();
+
+    /** The industry list the index was built from. */
+    private final List<Industry> industries;
+
+    /** The house block list the index was built from. */
+    private final List<HouseBlock> houseBlocks;
+
+    /** Number of industries when the index was built. */
+    private final int industryCount;
+
+    /** Number of house blocks when the index was built. */
+    private final int houseBlockCount;
+
+    /**
+     * Builds the index of the given industries and house blocks.
+     *
+     * @param industries  the industries to index
+     * @param houseBlocks the house blocks to index
+     */
+    public StationAssociationIndex(List<Industry> industries, List<HouseBlock> houseBlocks) {
+        this.industries = industries;
+        this.houseBlocks = houseBlocks;
+        this.industryCount = industries.size();
+        this.houseBlockCount = houseBlocks.size();
+        for (Industry industry : industries) {
+            add(industry.getPosition().getX(), industry.getPosition().getY(), industry);
+        }
+        for (HouseBlock houseBlock : houseBlocks) {
+            add(houseBlock.getPosition().getX(), houseBlock.getPosition().getY(), houseBlock);
+        }
+    }
+
+    /**
+     * Gets the associations in a cell.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @return the associations in the cell, industries first
+     */
+    public List<StationAssociations> getAssociationsAt(int x, int y) {
+        return associationsByCell.getOrDefault(key(x, y), List.of());
+    }
+
+    /**
+     * Checks if the index was built from the given lists, as they are now.
+     *
+     * @param industries  the industry list
+     * @param houseBlocks the house block list
+     * @return true if the index is built from the same lists with the same sizes, false otherwise
+     */
+    public boolean isBuiltFrom(List<Industry> industries, List<HouseBlock> houseBlocks) {
+        return this.industries == industries && this.houseBlocks == houseBlocks
+                && industryCount == industries.size() && houseBlockCount == houseBlocks.size();
+    }
+
+    /**
+     * Adds an association to a cell.
+     *
+     * @param x           the x coordinate of the cell
+     * @param y           the y coordinate of the cell
+     * @param association the association to add
+     */
+    private void add(int x, int y, StationAssociations association) {
+        associationsByCell.computeIfAbsent(key(x, y), cell -> new ArrayList<>()).add(association);
+    }
+
+    /**
+     * Packs the coordinates of a cell into a key.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the key of the cell
+     */
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
@@ -64,4 +64,11 @@ public interface StationAssociations extends Serializable {
      * @param updatedInventory true if the inventory is updated, false otherwise
      */
     void setUpdatedInventory(boolean updatedInventory);
+
+    /**
+     * Sets the station the association is assigned to.
+     *
+     * @param assignedStation the station to assign
+     */
+    void setAssignedStation(Station assignedStation);
 }
\ No newline at end of file
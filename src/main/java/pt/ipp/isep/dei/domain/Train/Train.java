@@ -2,7 +2,6 @@ package pt.ipp.isep.dei.domain.Train;
 
 import pt.ipp.isep.dei.domain.Simulation.TimeDate;
 import pt.ipp.isep.dei.domain._Others_.Inventory;
-import pt.ipp.isep.dei.domain.Resource.Resource;
 
 import java.io.Serializable;
 import java.util.List;
@@ -12,6 +11,13 @@ import java.util.List;
  */
 public class Train implements Serializable {
 
+    /** Maximum hours of service per day for a train. */
+    private static final int MAX_HOURS_OF_SERVICE = 14;
+    /** Speed debuff per carriage in percentage points. */
+    private static final int DEBUFF_SPEED_PER_CARRIAGE = 5;
+    /** Maximum total speed debuff allowed. */
+    private static final int MAX_SPEED_DEBUFF = 70;
+
     private Locomotive locomotive;
     private List<Carriage> carriages;
     private String name;
@@ -19,6 +25,9 @@ public class Train implements Serializable {
     private int maxInventorySpace;
     private boolean activeFlag;
     private TimeDate acquisitionDate;
+    private transient int dailyRange;
+    private transient Locomotive dailyRangeLocomotive;
+    private transient int dailyRangeCarriageCount;
 
     /**
      * Constructs a Train with the specified locomotive, carriages, and acquisition date.
@@ -61,6 +70,7 @@ public class Train implements Serializable {
     public void setLocomotive(Locomotive locomotive) {
         if (locomotive != null) {
             this.locomotive = locomotive;
+            this.dailyRangeLocomotive = null;
         } else {
             throw new IllegalArgumentException("You must have a locomotive.");
         }
@@ -86,6 +96,7 @@ public class Train implements Serializable {
             throw new IllegalArgumentException("You must have at least one carriage.");
         }
         this.carriages = carriages;
+        this.dailyRangeLocomotive = null;
     }
 
     /**
@@ -157,14 +168,65 @@ public class Train implements Serializable {
      * @return the occupied inventory space
      */
     public int getInventorySpaceOcupied() {
-        int occupiedSpace = 0;
-        if (inventory == null || inventory.getAllResources().isEmpty()) {
+        if (inventory == null) {
             return 0;
         }
-        for (Resource resource : inventory.getAllResources()) {
-            occupiedSpace += resource.getQuantity();
+        return inventory.getTotalQuantity();
+    }
+
+    /**
+     * Gets the distance the train travels in a day, with the speed debuff of its carriages.
+     * The distance is computed once for the locomotive and number of carriages of the train.
+     *
+     * @return the max distance per day
+     */
+    public int getDailyRange() {
+        if (dailyRangeLocomotive != locomotive || dailyRangeCarriageCount != carriages.size()) {
+            dailyRange = debuffSpeedByCarriage(findMaxDistanceTravelledByDay());
+            dailyRangeLocomotive = locomotive;
+            dailyRangeCarriageCount = carriages.size();
         }
-        return occupiedSpace;
+        return dailyRange;
+    }
+
+    /**
+     * Finds the maximum distance the locomotive can travel in a day, without carriages.
+     *
+     * @return the max distance per day
+     */
+    public int findMaxDistanceTravelledByDay() {
+        double acceleration = locomotive.getAcceleration();
+        double topSpeed = locomotive.getTopSpeed();
+
+        if (acceleration <= 0 || topSpeed <= 0) return 0;
+
+        double timeToTopSpeed = topSpeed / acceleration;
+
+        if (timeToTopSpeed >= MAX_HOURS_OF_SERVICE) {
+            return (int) Math.floor(0.5 * acceleration * MAX_HOURS_OF_SERVICE);
+        }
+
+        double distanceAccelerating = 0.5 * acceleration * timeToTopSpeed * timeToTopSpeed;
+        double distanceAtTopSpeed = topSpeed * (MAX_HOURS_OF_SERVICE - timeToTopSpeed);
+
+        return (int) Math.floor(distanceAccelerating + distanceAtTopSpeed);
+    }
+
+    /**
+     * Applies speed debuff based on the number of carriages.
+     *
+     * @param maxDistanceTravelledByDay the max distance per day without debuff
+     * @return the debuffed max distance per day
+     */
+    private int debuffSpeedByCarriage(int maxDistanceTravelledByDay) {
+        int debuffPercentage = carriages.size() * DEBUFF_SPEED_PER_CARRIAGE;
+
+        if (debuffPercentage > MAX_SPEED_DEBUFF) {
+            debuffPercentage = MAX_SPEED_DEBUFF;
+        }
+
+        double debuffedDistance = maxDistanceTravelledByDay * (1 - debuffPercentage / 100.0);
+        return (int) debuffedDistance;
     }
 
     /**
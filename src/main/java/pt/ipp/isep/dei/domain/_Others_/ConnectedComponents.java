@@ -0,0 +1,121 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+/**
+ * Connected components of an undirected graph, labelled once so connectivity queries do not search the graph.
+ * Components are numbered from 0 in the order of their first vertex.
+ * Connectivity follows the transitive closure of the graph: a vertex reaches the vertices of its component,
+ * itself included, only when it has at least one edge.
+ */
+public class ConnectedComponents {
+
+    /** Label of the component of each vertex. */
+    private final int[] labels;
+
+    /** Whether each vertex has at least one edge. */
+    private final boolean[] hasEdge;
+
+    /** Number of components, isolated vertices included. */
+    private final int componentCount;
+
+    /**
+     * Finds the connected components of a graph.
+     *
+     * @param vertexCount the number of vertices
+     * @param edgeEnds    the vertices of each edge, edge i joining edgeEnds[2 * i] and edgeEnds[2 * i + 1]
+     * @throws IllegalArgumentException if the vertex count is negative or the edge ends do not come in pairs
+     */
+    public ConnectedComponents(int vertexCount, int[] edgeEnds) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count cannot be negative");
+        }
+        if (edgeEnds.length % 2 != 0) {
+            throw new IllegalArgumentException("Edge ends must come in pairs");
+        }
+        DisjointSets sets = new DisjointSets(vertexCount);
+        hasEdge = new boolean[vertexCount];
+        for (int i = 0; i < edgeEnds.length; i += 2) {
+            sets.union(edgeEnds[i], edgeEnds[i + 1]);
+            hasEdge[edgeEnds[i]] = true;
+            hasEdge[edgeEnds[i + 1]] = true;
+        }
+
+        labels = new int[vertexCount];
+        int[] rootLabels = new int[vertexCount];
+        int count = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int root = sets.find(vertex);
+            if (rootLabels[root] == 0) {
+                rootLabels[root] = ++count;
+            }
+            labels[vertex] = rootLabels[root] - 1;
+        }
+        componentCount = count;
+    }
+
+    /**
+     * Gets the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVertexCount() {
+        return labels.length;
+    }
+
+    /**
+     * Gets the number of components of the graph, isolated vertices included.
+     *
+     * @return the number of components
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Gets the label of the component of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the component label
+     */
+    public int getLabel(int vertex) {
+        return labels[vertex];
+    }
+
+    /**
+     * Checks if a vertex has at least one edge.
+     *
+     * @param vertex the vertex
+     * @return true if an edge starts or ends at the vertex, false otherwise
+     */
+    public boolean hasEdge(int vertex) {
+        return hasEdge[vertex];
+    }
+
+    /**
+     * Checks if a vertex reaches another one through one or more edges.
+     *
+     * @param origin      the origin vertex
+     * @param destination the destination vertex
+     * @return true if the origin has an edge and both vertices are in the same component, false otherwise
+     */
+    public boolean isConnected(int origin, int destination) {
+        return hasEdge[origin] && labels[origin] == labels[destination];
+    }
+
+    /**
+     * Checks if every vertex not excluded reaches every vertex not excluded, itself included.
+     *
+     * @param excluded whether each vertex is excluded
+     * @return true if the vertices not excluded all have edges and share a component, false otherwise
+     */
+    public boolean isFullyConnected(boolean[] excluded) {
+        int label = -1;
+        for (int vertex = 0; vertex < labels.length; vertex++) {
+            if (excluded[vertex]) continue;
+            if (!hasEdge[vertex] || (label != -1 && labels[vertex] != label)) {
+                return false;
+            }
+            label = labels[vertex];
+        }
+        return true;
+    }
+}
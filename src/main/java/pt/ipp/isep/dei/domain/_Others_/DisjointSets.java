@@ -0,0 +1,107 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import java.util.Arrays;
+
+/**
+ * Union-find over the integers from 0, growing as larger elements are used.
+ * Sets are merged by size and paths are halved on lookup, so finding the set of an element takes near-constant time.
+ * Elements never merged form a set of their own.
+ */
+public class DisjointSets {
+
+    /** Parent of each element, an element being its own parent when it represents its set. */
+    private int[] parents;
+
+    /** Size of the set of each representative element. */
+    private int[] sizes;
+
+    /** Number of elements with an entry, the elements from 0 to count - 1. */
+    private int count;
+
+    /**
+     * Constructs disjoint sets with no elements merged.
+     *
+     * @param initialCapacity the number of elements held before growing
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public DisjointSets(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.parents = new int[Math.max(1, initialCapacity)];
+        this.sizes = new int[parents.length];
+    }
+
+    /**
+     * Finds the element representing the set of an element.
+     *
+     * @param element the element, not negative
+     * @return the representative element of its set
+     */
+    public int find(int element) {
+        if (element >= count) {
+            return element;
+        }
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merges the sets of two elements.
+     *
+     * @param element1 the first element, not negative
+     * @param element2 the second element, not negative
+     * @return true if the elements were in different sets, false otherwise
+     */
+    public boolean union(int element1, int element2) {
+        ensureContains(Math.max(element1, element2));
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (sizes[root1] < sizes[root2]) {
+            int swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        parents[root2] = root1;
+        sizes[root1] += sizes[root2];
+        return true;
+    }
+
+    /**
+     * Checks if two elements are in the same set.
+     *
+     * @param element1 the first element, not negative
+     * @param element2 the second element, not negative
+     * @return true if the elements are in the same set, false otherwise
+     */
+    public boolean isSameSet(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Gives entries to every element up to the given one, each in a set of its own.
+     *
+     * @param element the largest element to hold
+     */
+    private void ensureContains(int element) {
+        if (element < count) {
+            return;
+        }
+        if (element >= parents.length) {
+            int capacity = Math.max(element + 1, parents.length * 2);
+            parents = Arrays.copyOf(parents, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        for (int i = count; i <= element; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+        count = element + 1;
+    }
+}
@@ -0,0 +1,128 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import java.util.stream.IntStream;
+
+/**
+ * Shortest distances and next hops between every pair of vertices of a weighted graph, found with one Dijkstra
+ * search from each vertex. Each row is kept as primitive arrays, so a lookup takes constant time and a path
+ * takes time proportional to its length. The searches of large graphs run in parallel.
+ * The graph is undirected, so the search from vertex t gives, for every vertex, its distance to t and the next
+ * vertex on its way to t, and a path to t follows the next hops of row t alone.
+ */
+public class DistanceTable {
+
+    /** Number of vertices from which the rows are found in parallel. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    /** Number of vertices of the graph. */
+    private final int size;
+
+    /** Distance between each vertex and each vertex, or -1 when it is not reachable. */
+    private final int[][] distances;
+
+    /** Next vertex from each vertex towards the vertex of the row, or -1 for the vertex itself and vertices not reachable. */
+    private final int[][] nextHops;
+
+    /**
+     * Finds the shortest paths between every pair of vertices of a graph.
+     *
+     * @param graph the graph
+     */
+    public DistanceTable(SparseGraph graph) {
+        this.size = graph.getVertexCount();
+        this.distances = new int[size][];
+        this.nextHops = new int[size][];
+        if (size >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, size).parallel().forEach(vertex -> fillRow(graph, vertex));
+        } else {
+            for (int vertex = 0; vertex < size; vertex++) {
+                fillRow(graph, vertex);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the distance between two vertices.
+     *
+     * @param origin      the origin vertex
+     * @param destination the destination vertex
+     * @return the length of the shortest path, or -1 if the destination is not reachable
+     */
+    public int getDistance(int origin, int destination) {
+        return distances[destination][origin];
+    }
+
+    /**
+     * Checks if a vertex is reachable from another one.
+     *
+     * @param origin      the origin vertex
+     * @param destination the destination vertex
+     * @return true if a path leads from origin to destination, the origin itself included, false otherwise
+     */
+    public boolean isReachable(int origin, int destination) {
+        return distances[destination][origin] != -1;
+    }
+
+    /**
+     * Gets the vertex after the origin on the shortest path to a destination.
+     *
+     * @param origin      the origin vertex
+     * @param destination the destination vertex
+     * @return the next vertex, or -1 if the origin is the destination or the destination is not reachable
+     */
+    public int getNextHop(int origin, int destination) {
+        return nextHops[destination][origin];
+    }
+
+    /**
+     * Gets the shortest path between two vertices.
+     *
+     * @param origin      the origin vertex
+     * @param destination the destination vertex
+     * @return the vertices of the path, starting at the origin, or an empty array if the destination is not reachable
+     */
+    public int[] getPath(int origin, int destination) {
+        if (!isReachable(origin, destination)) {
+            return new int[0];
+        }
+        int[] row = nextHops[destination];
+        int length = 1;
+        for (int step = origin; step != destination; step = row[step]) {
+            length++;
+        }
+        int[] path = new int[length];
+        int step = origin;
+        for (int i = 0; i < length; i++) {
+            path[i] = step;
+            step = row[step];
+        }
+        return path;
+    }
+
+    /**
+     * Finds the row of a vertex with a search over the whole graph.
+     *
+     * @param graph  the graph
+     * @param vertex the vertex of the row
+     */
+    private void fillRow(SparseGraph graph, int vertex) {
+        ShortestPathTree tree = graph.findShortestPaths(vertex);
+        int[] distanceRow = new int[size];
+        int[] nextHopRow = new int[size];
+        for (int other = 0; other < size; other++) {
+            distanceRow[other] = tree.getDistance(other);
+            nextHopRow[other] = tree.getPrevious(other);
+        }
+        distances[vertex] = distanceRow;
+        nextHops[vertex] = nextHopRow;
+    }
+}
@@ -2,55 +2,88 @@ package pt.ipp.isep.dei.domain._Others_;
 
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
+import pt.ipp.isep.dei.domain.Resource.ResourcesTypeRegistry;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents an inventory that manages a collection of resources.
+ * Quantities are kept in an array indexed by the interned id of each resource type, with a running total,
+ * so adding, removing and querying a resource type does not scan the inventory.
+ * Resource types keep the order in which they were added.
  */
 public class Inventory implements Serializable {
 
-    private List<Resource> resources;
+    /** Initial length of the arrays indexed by resource type id. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Quantity of each resource type, indexed by resource type id. */
+    private transient int[] quantities;
+
+    /** Resource type stored for each id, the first one added with that name. */
+    private transient ResourcesType[] types;
+
+    /** Resource views handed out for each id, created when first requested. */
+    private transient Entry[] entries;
+
+    /** Position plus one of each id in the insertion order, or 0 if the resource type is not in the inventory. */
+    private transient int[] positions;
+
+    /** Ids of the resource types in the inventory, in the order they were added. */
+    private transient int[] order;
+
+    /** Number of resource types in the inventory. */
+    private transient int size;
+
+    /** Sum of the quantities of every resource type. */
+    private transient int totalQuantity;
 
     /**
      * Constructs an empty inventory.
      */
     public Inventory() {
-        this.resources = new ArrayList<>();
+        initialize();
     }
 
     /**
      * Adds a resource to the inventory.
      * If the resource type already exists, increases its quantity up to the maximum allowed.
+     * The inventory keeps its own quantity of the resource type, not the given resource, so later changes
+     * to the given resource do not change the inventory and the inventory does not change it.
      *
      * @param newResource the resource to add
      * @return the quantity actually added, -1 if the resource is already at max capacity
      */
     public int addResource(Resource newResource) {
-        int maxResources = newResource.getResourceType().getMaxResources();
-        int quantityProduced = newResource.getResourceType().getQuantityProduced();
-        for (Resource existing : resources) {
-            if (existing.getResourceType().getName().equals(newResource.getResourceType().getName())) {
-                int actualQuantity = existing.getQuantity();
-                if (actualQuantity == maxResources) {
-                    return -1;
-                }
-                int returnValue = quantityProduced;
-                int total = actualQuantity + quantityProduced;
-                if (total > maxResources) {
-                    total = maxResources;
-                    returnValue = maxResources - actualQuantity;
-                }
-                existing.setQuantity(total);
-                return returnValue;
+        ResourcesType type = newResource.getResourceType();
+        int maxResources = type.getMaxResources();
+        int quantityProduced = type.getQuantityProduced();
+        int id = type.getId();
+        if (contains(id)) {
+            int actualQuantity = quantities[id];
+            if (actualQuantity == maxResources) {
+                return -1;
             }
+            int returnValue = quantityProduced;
+            int total = actualQuantity + quantityProduced;
+            if (total > maxResources) {
+                total = maxResources;
+                returnValue = maxResources - actualQuantity;
+            }
+            setQuantity(id, total);
+            return returnValue;
         }
         if (maxResources < newResource.getQuantity()) {
             newResource.setQuantity(maxResources);
         }
-        resources.add(newResource);
+        append(type, newResource.getQuantity());
         return quantityProduced;
     }
 
@@ -61,16 +94,7 @@ public class Inventory implements Serializable {
      * @return the quantity added
      */
     public int addResourceWithoutLimit(Resource newResource) {
-        for (Resource existing : resources) {
-            if (existing.getResourceType().getName().equals(newResource.getResourceType().getName())) {
-                int actualQuantity = existing.getQuantity();
-                int quantityProduced = newResource.getResourceType().getQuantityProduced();
-                existing.setQuantity(actualQuantity + quantityProduced);
-                return quantityProduced;
-            }
-        }
-        resources.add(newResource);
-        return newResource.getResourceType().getQuantityProduced();
+        return addWithoutLimit(newResource.getResourceType(), newResource.getQuantity());
     }
 
     /**
@@ -80,22 +104,21 @@ public class Inventory implements Serializable {
      * @return the quantity removed, -1 if not enough quantity, -2 if resource not found
      */
     public int removeResource(Resource resource) {
-        for (Resource existing : resources) {
-            if (existing.getResourceType().getName().equals(resource.getResourceType().getName())) {
-                int actualQuantity = existing.getQuantity();
-                int newQuantity = actualQuantity - resource.getQuantity();
-                if (newQuantity < 0) {
-                    return -1;
-                }
-                if (newQuantity == 0) {
-                    resources.remove(existing);
-                } else {
-                    existing.setQuantity(newQuantity);
-                }
-                return resource.getQuantity();
-            }
+        int id = resource.getResourceType().getId();
+        if (!contains(id)) {
+            return -2;
+        }
+        int quantityToRemove = resource.getQuantity();
+        int newQuantity = quantities[id] - quantityToRemove;
+        if (newQuantity < 0) {
+            return -1;
+        }
+        if (newQuantity == 0) {
+            removeType(id);
+        } else {
+            setQuantity(id, newQuantity);
         }
-        return -2;
+        return quantityToRemove;
     }
 
     /**
@@ -105,17 +128,23 @@ public class Inventory implements Serializable {
      */
     public void addAll(List<Resource> list) {
         for (Resource resource : list) {
-            addResourceWithoutLimit(new Resource(resource.getResourceType(), resource.getQuantity()));
+            addWithoutLimit(resource.getResourceType(), resource.getQuantity());
         }
     }
 
     /**
-     * Returns all resources in the inventory.
+     * Returns all resources in the inventory, in the order their types were added.
+     * The resources are views of the inventory: changing their quantity changes the inventory,
+     * until their type is removed from the inventory.
      *
-     * @return the list of resources
+     * @return the unmodifiable list of resources
      */
     public List<Resource> getAllResources() {
-        return resources;
+        Resource[] resources = new Resource[size];
+        for (int i = 0; i < size; i++) {
+            resources[i] = entry(order[i]);
+        }
+        return List.of(resources);
     }
 
     /**
@@ -124,9 +153,9 @@ public class Inventory implements Serializable {
      * @return the list of resource types
      */
     public List<ResourcesType> getAllResourcesType() {
-        List<ResourcesType> resourcesTypes = new ArrayList<>();
-        for (Resource resource : resources) {
-            resourcesTypes.add(resource.getResourceType());
+        List<ResourcesType> resourcesTypes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            resourcesTypes.add(types[order[i]]);
         }
         return resourcesTypes;
     }
@@ -138,12 +167,8 @@ public class Inventory implements Serializable {
      * @return the resource, or null if not found
      */
     public Resource getResourceByType(ResourcesType resourceType) {
-        for (Resource resource : getAllResources()) {
-            if (resource.getResourceType().getName().equals(resourceType.getName())) {
-                return resource;
-            }
-        }
-        return null;
+        int id = resourceType.getId();
+        return contains(id) ? entry(id) : null;
     }
 
     /**
@@ -152,11 +177,12 @@ public class Inventory implements Serializable {
      * @return true if all resources are at max capacity, false otherwise
      */
     public boolean inventoryIsFull() {
-        if (resources.isEmpty()) {
+        if (size == 0) {
             return false;
         }
-        for (Resource resource : resources) {
-            if (resource.getQuantity() < resource.getResourceType().getMaxResources()) {
+        for (int i = 0; i < size; i++) {
+            int id = order[i];
+            if (quantities[id] < types[id].getMaxResources()) {
                 return false;
             }
         }
@@ -170,12 +196,7 @@ public class Inventory implements Serializable {
      * @return true if exists, false otherwise
      */
     public boolean existsResourceInInventory(ResourcesType resource) {
-        for (Resource res : getAllResources()) {
-            if (res.getResourceType().getName().equals(resource.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return contains(resource.getId());
     }
 
     /**
@@ -185,12 +206,8 @@ public class Inventory implements Serializable {
      * @return the resource, or null if not found
      */
     public Resource getResourceTypeByName(String resourceName) {
-        for (Resource resource : resources) {
-            if (resource.getResourceType().getName().equals(resourceName)) {
-                return resource;
-            }
-        }
-        return null;
+        int id = ResourcesTypeRegistry.findId(resourceName);
+        return contains(id) ? entry(id) : null;
     }
 
     /**
@@ -200,12 +217,7 @@ public class Inventory implements Serializable {
      * @return true if exists, false otherwise
      */
     public boolean existsResourceInInventoryByName(String resource) {
-        for (Resource res : getAllResources()) {
-            if (res.getResourceType().getName().equals(resource)) {
-                return true;
-            }
-        }
-        return false;
+        return contains(ResourcesTypeRegistry.findId(resource));
     }
 
     /**
@@ -214,11 +226,9 @@ public class Inventory implements Serializable {
      * @param resource the resource type to remove
      */
     public void remove(ResourcesType resource) {
-        for (Resource res : getAllResources()) {
-            if (res.getResourceType().getName().equals(resource.getName())) {
-                resources.remove(res);
-                break;
-            }
+        int id = resource.getId();
+        if (contains(id)) {
+            removeType(id);
         }
     }
 
@@ -229,30 +239,40 @@ public class Inventory implements Serializable {
      * @return the quantity, or 0 if not found
      */
     public int getResourceQuantity(String resourceName) {
-        for (Resource resource : resources) {
-            if (resource.getResourceType().getName().equals(resourceName)) {
-                return resource.getQuantity();
-            }
-        }
-        return 0;
+        int id = ResourcesTypeRegistry.findId(resourceName);
+        return contains(id) ? quantities[id] : 0;
+    }
+
+    /**
+     * Gets the quantity of a resource by its type.
+     *
+     * @param resourceType the type of the resource
+     * @return the quantity, or 0 if not found
+     */
+    public int getResourceQuantity(ResourcesType resourceType) {
+        int id = resourceType.getId();
+        return contains(id) ? quantities[id] : 0;
     }
 
     /**
      * Gets the list of resources.
      *
-     * @return the list of resources
+     * @return the unmodifiable list of resources
      */
     public List<Resource> getResources() {
-        return resources;
+        return getAllResources();
     }
 
     /**
-     * Sets the list of resources.
+     * Sets the resources of the inventory, replacing the current ones.
      *
      * @param resources the list of resources to set
      */
     public void setResources(List<Resource> resources) {
-        this.resources = resources;
+        clear();
+        for (Resource resource : resources) {
+            addResourceDirecly(resource);
+        }
     }
 
     /**
@@ -262,19 +282,271 @@ public class Inventory implements Serializable {
      * @return the empty space available
      */
     public int getEmptySpace(int maxSpace) {
-        int resourceQuantity = 0;
-        for (Resource resource : resources) {
-            resourceQuantity += resource.getQuantity();
-        }
-        return maxSpace - resourceQuantity;
+        return maxSpace - totalQuantity;
+    }
+
+    /**
+     * Gets the sum of the quantities of every resource in the inventory.
+     *
+     * @return the total quantity
+     */
+    public int getTotalQuantity() {
+        return totalQuantity;
     }
 
     /**
      * Adds a resource directly to the inventory without any checks.
+     * The quantity is added to the resource type if it is already in the inventory.
      *
      * @param resource the resource to add
      */
     public void addResourceDirecly(Resource resource) {
-        resources.add(resource);
+        ResourcesType type = resource.getResourceType();
+        int id = type.getId();
+        if (contains(id)) {
+            setQuantity(id, quantities[id] + resource.getQuantity());
+        } else {
+            append(type, resource.getQuantity());
+        }
+    }
+
+    /**
+     * Removes every resource from the inventory.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            detach(order[i]);
+            positions[order[i]] = 0;
+            quantities[order[i]] = 0;
+        }
+        size = 0;
+        totalQuantity = 0;
+    }
+
+    /**
+     * Adds a resource type and quantity without considering the maximum limit.
+     * An existing resource type grows by the quantity produced of its type.
+     *
+     * @param type     the resource type
+     * @param quantity the quantity of a new resource type
+     * @return the quantity produced of the resource type
+     */
+    private int addWithoutLimit(ResourcesType type, int quantity) {
+        int id = type.getId();
+        int quantityProduced = type.getQuantityProduced();
+        if (contains(id)) {
+            setQuantity(id, quantities[id] + quantityProduced);
+        } else {
+            append(type, quantity);
+        }
+        return quantityProduced;
+    }
+
+    /**
+     * Checks if a resource type id is in the inventory.
+     *
+     * @param id the resource type id
+     * @return true if the resource type is in the inventory, false otherwise
+     */
+    private boolean contains(int id) {
+        return id >= 0 && id < positions.length && positions[id] != 0;
+    }
+
+    /**
+     * Sets the quantity of a resource type in the inventory, updating the running total.
+     *
+     * @param id       the resource type id
+     * @param quantity the new quantity
+     */
+    private void setQuantity(int id, int quantity) {
+        totalQuantity += quantity - quantities[id];
+        quantities[id] = quantity;
+    }
+
+    /**
+     * Adds a new resource type at the end of the inventory.
+     *
+     * @param type     the resource type
+     * @param quantity the quantity of the resource type
+     */
+    private void append(ResourcesType type, int quantity) {
+        int id = type.getId();
+        ensureCapacity(id);
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+        order[size++] = id;
+        positions[id] = size;
+        types[id] = type;
+        quantities[id] = quantity;
+        totalQuantity += quantity;
+    }
+
+    /**
+     * Removes a resource type from the inventory, keeping the order of the remaining ones.
+     *
+     * @param id the resource type id
+     */
+    private void removeType(int id) {
+        detach(id);
+        int position = positions[id] - 1;
+        System.arraycopy(order, position + 1, order, position, size - position - 1);
+        size--;
+        for (int i = position; i < size; i++) {
+            positions[order[i]] = i + 1;
+        }
+        positions[id] = 0;
+        totalQuantity -= quantities[id];
+        quantities[id] = 0;
+        types[id] = null;
+    }
+
+    /**
+     * Gets the resource view of a resource type in the inventory, creating it if needed.
+     *
+     * @param id the resource type id
+     * @return the resource view
+     */
+    private Entry entry(int id) {
+        Entry entry = entries[id];
+        if (entry == null) {
+            entry = new Entry(types[id], id);
+            entries[id] = entry;
+        }
+        return entry;
+    }
+
+    /**
+     * Detaches the resource view of a resource type leaving the inventory, so it keeps its last quantity.
+     *
+     * @param id the resource type id
+     */
+    private void detach(int id) {
+        Entry entry = entries[id];
+        if (entry != null) {
+            entry.detach(quantities[id]);
+            entries[id] = null;
+        }
+    }
+
+    /**
+     * Grows the arrays indexed by resource type id to hold the given id.
+     *
+     * @param id the resource type id
+     */
+    private void ensureCapacity(int id) {
+        if (id >= quantities.length) {
+            int length = Math.max(id + 1, quantities.length * 2);
+            quantities = Arrays.copyOf(quantities, length);
+            types = Arrays.copyOf(types, length);
+            entries = Arrays.copyOf(entries, length);
+            positions = Arrays.copyOf(positions, length);
+        }
+    }
+
+    /**
+     * Creates the empty arrays of the inventory.
+     */
+    private void initialize() {
+        int length = Math.max(INITIAL_CAPACITY, ResourcesTypeRegistry.size());
+        quantities = new int[length];
+        types = new ResourcesType[length];
+        entries = new Entry[length];
+        positions = new int[length];
+        order = new int[INITIAL_CAPACITY];
+        size = 0;
+        totalQuantity = 0;
+    }
+
+    /**
+     * Saves the inventory as its list of resources, since resource type ids are not kept between runs.
+     *
+     * @param out the output stream
+     * @throws IOException if the inventory cannot be written
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        List<Resource> resources = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            resources.add(new Resource(types[order[i]], quantities[order[i]]));
+        }
+        out.writeObject(resources);
+    }
+
+    /**
+     * Restores the inventory from its list of resources.
+     *
+     * @param in the input stream
+     * @throws IOException            if the inventory cannot be read
+     * @throws ClassNotFoundException if a class of the inventory cannot be found
+     */
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initialize();
+        for (Resource resource : (List<Resource>) in.readObject()) {
+            addResourceDirecly(resource);
+        }
+    }
+
+    /**
+     * Resource view of a resource type in the inventory.
+     * While the type is in the inventory, the quantity is read from and written to the inventory.
+     * Once the type leaves the inventory, the view keeps its last quantity as a plain resource.
+     */
+    private final class Entry extends Resource {
+
+        /** The resource type id. */
+        private final int id;
+
+        /** Whether the view still reads and writes the inventory. */
+        private boolean attached = true;
+
+        /**
+         * Constructs a view of a resource type in the inventory.
+         *
+         * @param type the resource type
+         * @param id   the resource type id
+         */
+        private Entry(ResourcesType type, int id) {
+            super(type, 0);
+            this.id = id;
+        }
+
+        @Override
+        public int getQuantity() {
+            return attached ? quantities[id] : super.getQuantity();
+        }
+
+        @Override
+        public void setQuantity(int quantity) {
+            if (attached) {
+                Inventory.this.setQuantity(id, quantity);
+            } else {
+                super.setQuantity(quantity);
+            }
+        }
+
+        /**
+         * Detaches the view from the inventory.
+         *
+         * @param lastQuantity the quantity the view keeps
+         */
+        private void detach(int lastQuantity) {
+            super.setQuantity(lastQuantity);
+            attached = false;
+        }
+
+        /**
+         * Replaces the view by a plain resource when serialized.
+         *
+         * @return a resource with the type and quantity of the view
+         */
+        @Serial
+        private Object writeReplace() {
+            return new Resource(getResourceType(), getQuantity());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of long keys, kept in a primitive array so pushing and popping do not allocate.
+ * Searches pack a priority in the high bits of a key and a tie-breaker in the low bits.
+ */
+public class LongHeap {
+
+    /** Keys of the heap, the smallest one first. */
+    private long[] keys;
+
+    /** Number of keys in the heap. */
+    private int size;
+
+    /**
+     * Constructs an empty heap.
+     *
+     * @param initialCapacity the number of keys the heap holds before growing
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public LongHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        this.keys = new long[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Builds a key ordered by a priority and then by a tie-breaker.
+     *
+     * @param priority   the priority, not negative
+     * @param tieBreaker the tie-breaker, not negative
+     * @return the key
+     */
+    public static long key(int priority, int tieBreaker) {
+        return ((long) priority << 32) | tieBreaker;
+    }
+
+    /**
+     * Gets the tie-breaker of a key built with {@link #key(int, int)}.
+     *
+     * @param key the key
+     * @return the tie-breaker
+     */
+    public static int tieBreaker(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Adds a key to the heap.
+     *
+     * @param key the key to add
+     */
+    public void push(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            keys[index] = keys[parent];
+            index = parent;
+        }
+        keys[index] = key;
+    }
+
+    /**
+     * Removes the smallest key of the heap.
+     *
+     * @return the smallest key
+     * @throws IllegalStateException if the heap is empty
+     */
+    public long pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        long smallest = keys[0];
+        long key = keys[--size];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) break;
+            if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+            if (key <= keys[child]) break;
+            keys[index] = keys[child];
+            index = child;
+        }
+        keys[index] = key;
+        return smallest;
+    }
+
+    /**
+     * Checks if the heap has no keys.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of keys in the heap.
+     *
+     * @return the number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every key from the heap.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,96 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+/**
+ * Shortest paths found from a source vertex of a weighted graph, kept as distance and predecessor arrays.
+ * Only the vertices settled by the search are reachable, so a search stopped at a target
+ * reports the target and the vertices closer than it.
+ */
+public class ShortestPathTree {
+
+    /** Vertex the paths start at. */
+    private final int source;
+
+    /** Distance from the source to each vertex. */
+    private final int[] distances;
+
+    /** Vertex before each vertex on its shortest path, or -1 for the source and unreached vertices. */
+    private final int[] previous;
+
+    /** Whether the shortest path to each vertex was found. */
+    private final boolean[] settled;
+
+    /**
+     * Constructs the shortest paths of a search.
+     *
+     * @param source    the vertex the paths start at
+     * @param distances the distance to each vertex
+     * @param previous  the vertex before each vertex on its shortest path
+     * @param settled   whether the shortest path to each vertex was found
+     */
+    ShortestPathTree(int source, int[] distances, int[] previous, boolean[] settled) {
+        this.source = source;
+        this.distances = distances;
+        this.previous = previous;
+        this.settled = settled;
+    }
+
+    /**
+     * Gets the vertex the paths start at.
+     *
+     * @return the source vertex
+     */
+    public int getSource() {
+        return source;
+    }
+
+    /**
+     * Checks if the shortest path to a vertex was found.
+     *
+     * @param vertex the vertex
+     * @return true if the vertex is reachable from the source, false otherwise
+     */
+    public boolean isReachable(int vertex) {
+        return settled[vertex];
+    }
+
+    /**
+     * Gets the distance from the source to a vertex.
+     *
+     * @param vertex the vertex
+     * @return the length of the shortest path to the vertex, or -1 if it is not reachable
+     */
+    public int getDistance(int vertex) {
+        return settled[vertex] ? distances[vertex] : -1;
+    }
+
+    /**
+     * Gets the vertex before a vertex on its shortest path.
+     *
+     * @param vertex the vertex
+     * @return the previous vertex, or -1 for the source and vertices not reachable
+     */
+    public int getPrevious(int vertex) {
+        return settled[vertex] ? previous[vertex] : -1;
+    }
+
+    /**
+     * Gets the shortest path from the source to a vertex.
+     *
+     * @param vertex the vertex
+     * @return the vertices of the path, starting at the source, or an empty array if the vertex is not reachable
+     */
+    public int[] getPath(int vertex) {
+        if (!settled[vertex]) {
+            return new int[0];
+        }
+        int length = 0;
+        for (int step = vertex; step != -1; step = previous[step]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int step = vertex; step != -1; step = previous[step]) {
+            path[--length] = step;
+        }
+        return path;
+    }
+}
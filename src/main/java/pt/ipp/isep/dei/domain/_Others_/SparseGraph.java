@@ -0,0 +1,277 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import java.util.Arrays;
+
+/**
+ * Undirected graph over the integers from 0, stored as compressed adjacency arrays, with an optional weight on each edge.
+ * Like an adjacency matrix, the graph records whether two vertices are adjacent, so repeated edges are kept once
+ * and an edge from a vertex to itself makes the vertex its own neighbour. When several edges join the same vertices,
+ * the lightest one is kept, the only one a shortest path can take; edges of a graph without weights weigh 1.
+ * The neighbours of vertex i are sorted and found at the indices from getFirstNeighbor(i) to getFirstNeighbor(i + 1), exclusive.
+ */
+public class SparseGraph {
+
+    /** First neighbour index of each vertex, with one extra entry holding the number of neighbour entries. */
+    private final int[] firstNeighbors;
+
+    /** Neighbours of every vertex, grouped by vertex. */
+    private final int[] neighbors;
+
+    /** Weight of the edge to each neighbour entry, or null if the graph has no weights. */
+    private final int[] weights;
+
+    /**
+     * Constructs the graph with the given edges, without weights.
+     *
+     * @param vertexCount the number of vertices
+     * @param edgeEnds    the vertices of each edge, edge i joining edgeEnds[2 * i] and edgeEnds[2 * i + 1]
+     * @throws IllegalArgumentException if the vertex count is negative, the edge ends do not come in pairs
+     *                                  or an edge end is not a vertex of the graph
+     */
+    public SparseGraph(int vertexCount, int[] edgeEnds) {
+        this(vertexCount, edgeEnds, null);
+    }
+
+    /**
+     * Constructs the graph with the given edges and weights.
+     *
+     * @param vertexCount the number of vertices
+     * @param edgeEnds    the vertices of each edge, edge i joining edgeEnds[2 * i] and edgeEnds[2 * i + 1]
+     * @param edgeWeights the weight of each edge, not negative, or null for a graph without weights
+     * @throws IllegalArgumentException if the vertex count is negative, the edge ends do not come in pairs,
+     *                                  there is not one weight for each pair of edge ends,
+     *                                  an edge end is not a vertex of the graph or a weight is negative
+     */
+    public SparseGraph(int vertexCount, int[] edgeEnds, int[] edgeWeights) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count cannot be negative");
+        }
+        if (edgeEnds.length % 2 != 0) {
+            throw new IllegalArgumentException("Edge ends must come in pairs");
+        }
+        if (edgeWeights != null && edgeEnds.length != edgeWeights.length * 2) {
+            throw new IllegalArgumentException("Each edge must have two ends and one weight");
+        }
+        int edgeCount = edgeEnds.length / 2;
+        int[] counts = new int[vertexCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int end1 = edgeEnds[2 * edge];
+            int end2 = edgeEnds[2 * edge + 1];
+            if (end1 < 0 || end1 >= vertexCount || end2 < 0 || end2 >= vertexCount) {
+                throw new IllegalArgumentException("Edge ends must be vertices of the graph");
+            }
+            if (edgeWeights != null && edgeWeights[edge] < 0) {
+                throw new IllegalArgumentException("Edge weights cannot be negative");
+            }
+            counts[end1 + 1]++;
+            if (end1 != end2) {
+                counts[end2 + 1]++;
+            }
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            counts[vertex + 1] += counts[vertex];
+        }
+
+        // Each entry holds the neighbour in its high bits and the edge in its low bits,
+        // so sorting a row groups the edges to each neighbour.
+        long[] entries = new long[counts[vertexCount]];
+        int[] next = Arrays.copyOf(counts, vertexCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int end1 = edgeEnds[2 * edge];
+            int end2 = edgeEnds[2 * edge + 1];
+            entries[next[end1]++] = ((long) end2 << 32) | edge;
+            if (end1 != end2) {
+                entries[next[end2]++] = ((long) end1 << 32) | edge;
+            }
+        }
+
+        firstNeighbors = new int[vertexCount + 1];
+        int[] neighborEntries = new int[entries.length];
+        int[] weightEntries = edgeWeights == null ? null : new int[entries.length];
+        int size = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            Arrays.sort(entries, counts[vertex], counts[vertex + 1]);
+            for (int entry = counts[vertex]; entry < counts[vertex + 1]; entry++) {
+                int neighbor = (int) (entries[entry] >>> 32);
+                boolean repeated = size > firstNeighbors[vertex] && neighborEntries[size - 1] == neighbor;
+                if (weightEntries != null) {
+                    int weight = edgeWeights[(int) entries[entry]];
+                    if (!repeated) {
+                        weightEntries[size] = weight;
+                    } else if (weight < weightEntries[size - 1]) {
+                        weightEntries[size - 1] = weight;
+                    }
+                }
+                if (!repeated) {
+                    neighborEntries[size++] = neighbor;
+                }
+            }
+            firstNeighbors[vertex + 1] = size;
+        }
+        neighbors = Arrays.copyOf(neighborEntries, size);
+        weights = weightEntries == null ? null : Arrays.copyOf(weightEntries, size);
+    }
+
+    /**
+     * Gets the number of vertices of the graph.
+     *
+     * @return the number of vertices
+     */
+    public int getVertexCount() {
+        return firstNeighbors.length - 1;
+    }
+
+    /**
+     * Gets the number of neighbours of a vertex, the sum of its row in the adjacency matrix.
+     *
+     * @param vertex the vertex
+     * @return the number of distinct vertices adjacent to the vertex
+     */
+    public int getDegree(int vertex) {
+        return firstNeighbors[vertex + 1] - firstNeighbors[vertex];
+    }
+
+    /**
+     * Gets the index of the first neighbour of a vertex.
+     *
+     * @param vertex the vertex, up to the number of vertices
+     * @return the index of the first neighbour entry of the vertex
+     */
+    public int getFirstNeighbor(int vertex) {
+        return firstNeighbors[vertex];
+    }
+
+    /**
+     * Gets a neighbour entry.
+     *
+     * @param index the index of the entry
+     * @return the neighbouring vertex
+     */
+    public int getNeighbor(int index) {
+        return neighbors[index];
+    }
+
+    /**
+     * Gets the weight of the edge of a neighbour entry.
+     *
+     * @param index the index of the entry
+     * @return the weight of the edge, 1 if the graph has no weights
+     */
+    public int getNeighborWeight(int index) {
+        return weights == null ? 1 : weights[index];
+    }
+
+    /**
+     * Gets the weight of the lightest edge joining two vertices.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the weight of the edge, 1 if the graph has no weights, or -1 if the vertices are not adjacent
+     */
+    public int getWeight(int vertex1, int vertex2) {
+        int index = Arrays.binarySearch(neighbors, firstNeighbors[vertex1], firstNeighbors[vertex1 + 1], vertex2);
+        return index < 0 ? -1 : getNeighborWeight(index);
+    }
+
+    /**
+     * Checks if two vertices are adjacent.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if an edge joins the vertices, false otherwise
+     */
+    public boolean isAdjacent(int vertex1, int vertex2) {
+        return Arrays.binarySearch(neighbors, firstNeighbors[vertex1], firstNeighbors[vertex1 + 1], vertex2) >= 0;
+    }
+
+    /**
+     * Gets the graph as an adjacency matrix, only needed where the matrix itself is shown.
+     *
+     * @return a new matrix with 1 where the vertices are adjacent and 0 elsewhere
+     */
+    public int[][] toAdjacencyMatrix() {
+        int vertexCount = getVertexCount();
+        int[][] matrix = new int[vertexCount][vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int index = firstNeighbors[vertex]; index < firstNeighbors[vertex + 1]; index++) {
+                matrix[vertex][neighbors[index]] = 1;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Finds the vertices reachable from a vertex with a breadth-first search.
+     *
+     * @param source the vertex the search starts at
+     * @return whether each vertex is reachable from the source, the source included
+     */
+    public boolean[] findReachable(int source) {
+        boolean[] reached = new boolean[getVertexCount()];
+        int[] queue = new int[reached.length];
+        int head = 0;
+        int tail = 0;
+        reached[source] = true;
+        queue[tail++] = source;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int index = firstNeighbors[current]; index < firstNeighbors[current + 1]; index++) {
+                int neighbor = neighbors[index];
+                if (!reached[neighbor]) {
+                    reached[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Finds the shortest paths from a vertex to every vertex of the graph.
+     *
+     * @param source the vertex the paths start at
+     * @return the shortest paths from the source
+     */
+    public ShortestPathTree findShortestPaths(int source) {
+        return findShortestPaths(source, -1);
+    }
+
+    /**
+     * Finds the shortest paths from a vertex with Dijkstra, stopping once the shortest path to the target is found.
+     * Vertices at the same distance are settled in the order of their indices.
+     *
+     * @param source the vertex the paths start at
+     * @param target the vertex to stop at, or -1 to find the paths to every vertex
+     * @return the shortest paths from the source
+     */
+    public ShortestPathTree findShortestPaths(int source, int target) {
+        int vertexCount = getVertexCount();
+        int[] distances = new int[vertexCount];
+        int[] previous = new int[vertexCount];
+        boolean[] settled = new boolean[vertexCount];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+
+        LongHeap heap = new LongHeap(vertexCount);
+        distances[source] = 0;
+        heap.push(LongHeap.key(0, source));
+        while (!heap.isEmpty()) {
+            int current = LongHeap.tieBreaker(heap.pop());
+            if (settled[current]) continue;
+            settled[current] = true;
+            if (current == target) break;
+
+            for (int index = firstNeighbors[current]; index < firstNeighbors[current + 1]; index++) {
+                int neighbor = neighbors[index];
+                if (settled[neighbor]) continue;
+                int newDistance = distances[current] + getNeighborWeight(index);
+                if (newDistance < distances[neighbor]) {
+                    distances[neighbor] = newDistance;
+                    previous[neighbor] = current;
+                    heap.push(LongHeap.key(newDistance, neighbor));
+                }
+            }
+        }
+        return new ShortestPathTree(source, distances, previous, settled);
+    }
+}
@@ -102,7 +102,9 @@ public class FindShortestRouteUI implements Runnable {
                     if (readStationFromCSV()) {
                         continue;
                     }
-                    break;
+                    findShortestRoute();
+                    readNextStationsFromCSV();
+                    return;
                 }
                 case 2: {
                     if (chooseTypeTrain()) {
@@ -138,11 +140,32 @@ public class FindShortestRouteUI implements Runnable {
         }
         controller.createWeightMatrix();
         printWeightMatrix(controller.getWeightMatrix(), controller.getStationsList());
+        controller.createDistanceTable();
         controller.setCsvPath(pathCSVStations);
         controller.setAutomaticStations();
         return false;
     }
 
+    /**
+     * Reads further station CSV files and finds the shortest route of each one over the same network,
+     * reading its legs from the distance table.
+     */
+    private void readNextStationsFromCSV() {
+        while (true) {
+            String pathCSVStations = Utils.readLineFromConsole("Next stations file path (0 to finish): ");
+            if (pathCSVStations.equals("0")) {
+                return;
+            }
+            if (!Utils.isValidCSVFile(pathCSVStations)) {
+                Utils.printMessage("< File doesn't exist or isn't a CSV >");
+                continue;
+            }
+            controller.setCsvPath(pathCSVStations);
+            controller.setAutomaticStations();
+            findShortestRoute();
+        }
+    }
+
     /**
      * Reads stations manually from user input.
      *
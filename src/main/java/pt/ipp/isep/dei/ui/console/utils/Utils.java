@@ -160,27 +160,8 @@ public class Utils {
         if (totalDays < 0) {
             throw new IllegalArgumentException("Total days cannot be negative");
         }
-        int[] DAYS_PER_MONTH = {0, 31, -1, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
-        int day = 1;
-        int month = 1;
-        int year = 1;
-        for (int i = 0; i < totalDays; i++) {
-            if (isLeapYear(year)) {
-                DAYS_PER_MONTH[2] = 29; // Leap year
-            } else {
-                DAYS_PER_MONTH[2] = 28; // Non-leap year
-            }
-            day++;
-            if (day > DAYS_PER_MONTH[month]) {
-                day = 1;
-                month++;
-                if (month > 12) {
-                    month = 1;
-                    year++;
-                }
-            }
-        }
-        return new TimeDate(year, month, day);
+        // Day 0 of the simulation clock is the 1st of January of year 1, which is day 1 of TimeDate
+        return TimeDate.fromTotalDays(totalDays + 1);
     }
 
     /**
@@ -189,7 +170,7 @@ public class Utils {
      * @return true if leap year, false otherwise
      */
     static public boolean isLeapYear(int year) {
-        return (year % 400 == 0) || ((year % 4 == 0) && (year % 100 != 0));
+        return TimeDate.isLeapYear(year);
     }
 
     /**
@@ -11,10 +11,13 @@ import org.graphstream.graph.Node;
 import org.graphstream.graph.implementations.SingleGraph;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.SparseGraph;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static guru.nidi.graphviz.model.Factory.*;
 import static guru.nidi.graphviz.model.Factory.mutNode;
@@ -27,23 +30,41 @@ public class Utils_MDISC {
     /**
      * Builds the adjacency matrix representing connections between stations.
      * Each cell (i, j) is 1 if there is a direct connection between station i and station j, 0 otherwise.
+     * The matrix takes memory quadratic in the number of stations, so it is only meant for displaying;
+     * use {@link #buildStationGraph(List, List)} for computations.
      *
      * @param stationList    List of all stations.
      * @param availableLines List of available railway lines connecting stations.
      * @return Adjacency matrix as a 2D int array.
      */
     public static int[][] buildAdjacencyMatrix(List<Station> stationList, List<RailwayLine> availableLines) {
-        int stationCount = stationList.size();
-        int[][] adjacencyMatrix = new int[stationCount][stationCount];
-        int[] positions;
-
-        for (RailwayLine line : availableLines) {
-            positions = getStationPositionsInList(stationList, line);
-            adjacencyMatrix[positions[0]][positions[1]] = 1;
-            adjacencyMatrix[positions[1]][positions[0]] = 1;
-        }
+        return buildStationGraph(stationList, availableLines).toAdjacencyMatrix();
+    }
 
-        return adjacencyMatrix;
+    /**
+     * Builds the sparse graph of the connections between stations, vertex i being station i of the list.
+     * Two vertices are adjacent exactly when the adjacency matrix has a 1 in their cell.
+     *
+     * @param stationList    List of all stations.
+     * @param availableLines List of available railway lines connecting stations.
+     * @return Graph of the stations.
+     */
+    public static SparseGraph buildStationGraph(List<Station> stationList, List<RailwayLine> availableLines) {
+        return new SparseGraph(stationList.size(), getStationPositionsInList(stationList, availableLines));
+    }
+
+    /**
+     * Indexes the stations of a list by name, keeping the first position of each name.
+     *
+     * @param stationList List of all stations.
+     * @return Map from each station name to its position in the list.
+     */
+    public static Map<String, Integer> indexStationsByName(List<Station> stationList) {
+        Map<String, Integer> positions = new HashMap<>(stationList.size() * 2);
+        for (int i = 0; i < stationList.size(); i++) {
+            positions.putIfAbsent(stationList.get(i).getName(), i);
+        }
+        return positions;
     }
 
     /**
@@ -70,6 +91,25 @@ public class Utils_MDISC {
         return positions;
     }
 
+    /**
+     * Gets the positions (indices) of the stations connected by each railway line in the station list,
+     * looking the names up in an index built once. A station missing from the list is given position 0.
+     *
+     * @param stationList List of all stations.
+     * @param lines       Railway lines connecting stations.
+     * @return Array with the positions of the stations of line i at indices 2 * i and 2 * i + 1.
+     */
+    public static int[] getStationPositionsInList(List<Station> stationList, List<RailwayLine> lines) {
+        Map<String, Integer> index = indexStationsByName(stationList);
+        int[] positions = new int[lines.size() * 2];
+        for (int i = 0; i < lines.size(); i++) {
+            List<Station> lineStations = lines.get(i).getStations();
+            positions[2 * i] = index.getOrDefault(lineStations.get(0).getName(), 0);
+            positions[2 * i + 1] = index.getOrDefault(lineStations.get(1).getName(), 0);
+        }
+        return positions;
+    }
+
     /**
      * Visualizes the railway network using GraphStream, displaying different types of stations and lines.
      *
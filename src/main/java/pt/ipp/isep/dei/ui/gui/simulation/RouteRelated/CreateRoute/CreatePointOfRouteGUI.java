@@ -63,6 +63,9 @@ public class CreatePointOfRouteGUI implements Initializable {
     @FXML
     private TableColumn<Station, String> stationNameColumn;
 
+    @FXML
+    private TableColumn<Station, String> stationDistanceColumn;
+
     @FXML
     private TableColumn<ResourcesType, String> resourceNameColumn;
 
@@ -106,6 +109,7 @@ public class CreatePointOfRouteGUI implements Initializable {
         cargoModeComboBox.setItems(controller.getCargoModeTypes());
 
         stationNameColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().getName()));
+        stationDistanceColumn.setCellValueFactory(cellData -> new SimpleStringProperty(formatDistance(cellData.getValue())));
         resourceNameColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().getName()));
 
         Platform.runLater(() -> {
@@ -294,6 +298,17 @@ public class CreatePointOfRouteGUI implements Initializable {
         return star;
     }
 
+    /**
+     * Formats the distance from the last point of the route to a station, found for every station in a single search.
+     *
+     * @param station The station.
+     * @return The length of the shortest path to the station, or "-" if it cannot be reached.
+     */
+    private String formatDistance(Station station) {
+        int distance = controller.findDistanceFromLastPoint(station);
+        return distance == -1 ? "-" : String.valueOf(distance);
+    }
+
     /**
      * Updates the graph to display the path to the selected station, including temporary and permanent route elements.
      *
@@ -635,6 +650,24 @@ public class CreatePointOfRouteGUI implements Initializable {
         this.stationNameColumn = stationNameColumn;
     }
 
+    /**
+     * Gets the station distance column.
+     *
+     * @return The station distance column.
+     */
+    public TableColumn<Station, String> getStationDistanceColumn() {
+        return stationDistanceColumn;
+    }
+
+    /**
+     * Sets the station distance column.
+     *
+     * @param stationDistanceColumn The station distance column.
+     */
+    public void setStationDistanceColumn(TableColumn<Station, String> stationDistanceColumn) {
+        this.stationDistanceColumn = stationDistanceColumn;
+    }
+
     /**
      * Gets the resource name column.
      *
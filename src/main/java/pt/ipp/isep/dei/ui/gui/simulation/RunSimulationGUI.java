@@ -20,6 +20,8 @@ import javafx.scene.text.TextFlow;
 import javafx.stage.Stage;
 import pt.ipp.isep.dei.controller.simulation.InSimulation.RunSimulationController;
 import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
+import pt.ipp.isep.dei.domain.Log.LogRecord;
+import pt.ipp.isep.dei.domain.Log.SimulationLog;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 
 import java.io.IOException;
@@ -38,6 +40,7 @@ public class RunSimulationGUI implements Initializable {
     private static final String EARNING_BAR_COLOR = "#00ff0f";
     private static final String EXPENSE_BAR_COLOR = "#ff0000";
     private boolean paused = false;
+    private long shownLogSequence = 0;
 
     @FXML
     private Label budgetLabel;
@@ -203,30 +206,15 @@ public class RunSimulationGUI implements Initializable {
      * Runs the simulation loop, updating logs, charts, and handling simulation events.
      */
     private void runSimulation() {
-        controller.initializeMapModifications();
-        controller.refreshEvents();
+        controller.startSimulation();
 
         while (controller.getCurrentTime() < controller.getMaxTime()) {
             if (paused) continue;
 
-            if (controller.getActualDate().getDay() == 1 && controller.getActualDate().getMonth() == 1) {
-                createNewYearFinancialResult();
-                controller.updateDemand();
+            if (controller.simulateDay()) {
                 Platform.runLater(this::updateCharts);
             }
 
-            if (!controller.getSimulation().getTrainList().isEmpty()) {
-                controller.trainMaintenanceCost();
-            }
-
-            if (!controller.getSimulation().getRailwayLines().isEmpty()) {
-                controller.railwayLineMaintenanceCost();
-            }
-
-            controller.checkEvents();
-            controller.refreshEvents();
-            controller.setAllUpdateInventoryFalse();
-
             Platform.runLater(() -> {
                 updateSimulationLogs();
                 updateCharts();
@@ -246,28 +234,42 @@ public class RunSimulationGUI implements Initializable {
 
     /**
      * Updates the simulation logs in the UI.
+     * Only the records added since the last update are rendered; each line keeps the sequence number of its record,
+     * so the lines of records that left the simulation log are removed from the top.
      */
     private void updateSimulationLogs() {
-        simulationLogs.getChildren().clear();
-        for (String log : controller.getLogs()) {
+        SimulationLog simulationLog = controller.getSimulationLog();
+        long nextSequence = simulationLog.getNextSequence();
+        List<LogRecord> records = simulationLog.getRecords(shownLogSequence, nextSequence);
+        long sequence = nextSequence - records.size();
+        for (LogRecord record : records) {
+            String log = record.render();
+            long recordSequence = sequence++;
+            if (log == null || log.isEmpty()) {
+                continue;
+            }
+            Color color;
             if (log.contains("Simulation Day")) {
-                addLogLine(log, Color.DARKORANGE);
+                color = Color.DARKORANGE;
             } else if (log.contains("Year Financial Report")) {
-                addLogLine(log, Color.FORESTGREEN);
+                color = Color.FORESTGREEN;
             } else if (log.contains("Export")) {
-                addLogLine(log, Color.CRIMSON);
+                color = Color.CRIMSON;
             } else if (log.contains("Production")) {
-                addLogLine(log, Color.DODGERBLUE);
+                color = Color.DODGERBLUE;
             } else if (log.contains("Manufacturing")) {
-                addLogLine(log, Color.DARKVIOLET);
+                color = Color.DARKVIOLET;
             } else if (log.endsWith("Route Event Triggered")) {
-                addLogLine(log, Color.LIGHTGREEN);
+                color = Color.LIGHTGREEN;
             } else if (log.endsWith("!")) {
-                addLogLine(log, Color.FIREBRICK);
+                color = Color.FIREBRICK;
             } else {
-                addLogLine(log, Color.BLACK);
+                color = Color.BLACK;
             }
+            addLogLine(log, color).setUserData(recordSequence);
         }
+        shownLogSequence = nextSequence;
+        removeDroppedLogLines(simulationLog.getFirstSequence());
         budgetLabel.setText("💰 Budget: " + controller.getActualBudget() + "€");
         dateLabel.setText("📅 Date: " + controller.getActualDate().toSimpleString());
     }
@@ -277,11 +279,36 @@ public class RunSimulationGUI implements Initializable {
      *
      * @param text  the log text
      * @param color the color to use
+     * @return the added line
      */
-    private void addLogLine(String text, Color color) {
+    private Text addLogLine(String text, Color color) {
         Text line = new Text(text + "\n");
         line.setFill(color);
         simulationLogs.getChildren().add(line);
+        return line;
+    }
+
+    /**
+     * Removes the lines of the records that are no longer in the simulation log from the top of the logs,
+     * together with the status lines shown before them.
+     *
+     * @param firstSequence the sequence number of the oldest record kept in the simulation log
+     */
+    private void removeDroppedLogLines(long firstSequence) {
+        List<Node> lines = simulationLogs.getChildren();
+        int droppedLines = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            Object sequence = lines.get(i).getUserData();
+            if (sequence instanceof Long recordSequence) {
+                if (recordSequence >= firstSequence) {
+                    break;
+                }
+                droppedLines = i + 1;
+            }
+        }
+        if (droppedLines > 0) {
+            simulationLogs.getChildren().remove(0, droppedLines);
+        }
     }
 
     /**
@@ -404,26 +431,7 @@ public class RunSimulationGUI implements Initializable {
      * Creates a new year financial result and logs the previous year's report.
      */
     public void createNewYearFinancialResult() {
-        controller.getSimulation().getFinancialResults().add(new YearFinancialResult(controller.getActualDate().getYear()));
-
-        if (controller.getSimulation().getFinancialResults().size() > 1) {
-            List<YearFinancialResult> yearFinancialResultList = controller.getSimulation().getFinancialResults();
-            YearFinancialResult oldYear = yearFinancialResultList.get(yearFinancialResultList.size() - 2);
-
-            controller.addLogs("========================================");
-            controller.addLogs("        📊 Year Financial Report        ");
-            controller.addLogs("========================================");
-            controller.addLogs(" Year:               " + oldYear.getYear());
-            controller.addLogs("----------------------------------------");
-            controller.addLogs(" Year Earnings:      💰 " + oldYear.getEarning());
-            controller.addLogs(" Track Maintenance:  💰 " + oldYear.getTrackMaintenance());
-            controller.addLogs(" Train Maintenance:  💰 " + oldYear.getTrainMaintenance());
-            controller.addLogs(" Fuel Cost:          💰 " + oldYear.getFuelCost());
-            controller.addLogs("----------------------------------------");
-            controller.addLogs(" Total Expenses:     💰 " + oldYear.getTotalExpenses());
-            controller.addLogs(" Revenue Result:     💰 " + oldYear.getRevenue());
-            controller.addLogs("========================================\n");
-        }
+        controller.createNewYearFinancialResult();
     }
 
     /**
@@ -0,0 +1,76 @@
+package pt.ipp.isep.dei.controller.simulation.InSimulationTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.controller.simulation.InSimulation.HeadlessSimulationController;
+import pt.ipp.isep.dei.domain.Map.Map;
+import pt.ipp.isep.dei.domain.Scenario.Scenario;
+import pt.ipp.isep.dei.domain.Simulation.Simulation;
+import pt.ipp.isep.dei.domain.Simulation.TimeDate;
+import pt.ipp.isep.dei.domain._Others_.Size;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessSimulationControllerTest {
+    private HeadlessSimulationController controller;
+    private Simulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        Map map = new Map("TestMap", new Size(20, 20));
+        TimeDate begin = new TimeDate(2025, 1, 1);
+        TimeDate end = new TimeDate(2027, 1, 1);
+        Scenario scenario = new Scenario(map, "TestScenario", 1000, begin, end);
+        simulation = new Simulation("Sim1", scenario);
+        controller = new HeadlessSimulationController(simulation);
+    }
+
+    /**
+     * Tests that the constructor rejects a null simulation.
+     */
+    @Test
+    void testNullSimulation() {
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessSimulationController(null));
+    }
+
+    /**
+     * Tests that running the simulation reaches its end and counts the simulated days.
+     */
+    @Test
+    void testRunUntilEnd() {
+        int firstDay = simulation.getCurrentTime();
+        controller.run();
+        assertEquals(simulation.getMaxTime(), simulation.getCurrentTime());
+        assertEquals(simulation.getMaxTime() - firstDay, controller.getSimulatedDays());
+        assertTrue(controller.getSimulatedDaysPerSecond() > 0);
+    }
+
+    /**
+     * Tests that a financial result line is produced for every year of the simulation.
+     */
+    @Test
+    void testFinancialResultLines() {
+        controller.run();
+        List<String> lines = controller.getFinancialResultLines();
+        assertEquals(simulation.getFinancialResults().size() + 1, lines.size());
+        assertTrue(lines.get(0).startsWith("year,"));
+        assertTrue(lines.get(1).startsWith(simulation.getFinancialResults().get(0).getYear() + ","));
+    }
+
+    /**
+     * Tests that the financial results and the final state are written to the output directory.
+     */
+    @Test
+    void testWriteResults() throws IOException {
+        controller.run();
+        Path directory = Files.createTempDirectory("headless");
+        controller.writeResults(directory.toString());
+        assertTrue(Files.exists(directory.resolve("Sim1-TestScenario-financial-results.csv")));
+        assertTrue(Files.exists(directory.resolve("Sim1-TestScenario.ser")));
+    }
+}
@@ -3,8 +3,12 @@ package pt.ipp.isep.dei.controller.simulation.InSimulationTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pt.ipp.isep.dei.controller.simulation.InSimulation.RunSimulationController;
+import pt.ipp.isep.dei.controller.simulation.StationRelated.EditStation.EditStationTypeController;
 import pt.ipp.isep.dei.domain.Event.Event;
 import pt.ipp.isep.dei.domain.Event.GenerationEvent;
+import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
+import pt.ipp.isep.dei.domain.Log.LogRecord;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Map.Map;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
@@ -17,6 +21,8 @@ import pt.ipp.isep.dei.domain.Station.StationType;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
 import pt.ipp.isep.dei.domain.Industry.Industry;
 import pt.ipp.isep.dei.domain.Industry.IndustryType;
+import pt.ipp.isep.dei.domain.Industry.PrimaryIndustry;
+import pt.ipp.isep.dei.domain.Resource.PrimaryResource;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 
@@ -129,6 +135,25 @@ public class RunSimulationControllerTest {
         assertTrue(controller.getLogs().isEmpty());
     }
 
+    /**
+     * Tests the yearly financial report keeps the values of the previous year in its records.
+     */
+    @Test
+    void testYearReportRecordsValues() {
+        YearFinancialResult oldYear = new YearFinancialResult(2024);
+        oldYear.setEarning(500);
+        simulation.getFinancialResults().add(oldYear);
+
+        controller.createNewYearFinancialResult();
+
+        List<LogRecord> records = controller.getSimulationLog().getRecordsFrom(0);
+        assertEquals(LogTemplate.YEAR_REPORT_TITLE, records.get(1).getTemplate());
+        assertEquals(LogTemplate.YEAR_REPORT_YEAR, records.get(3).getTemplate());
+        assertEquals(2024, records.get(3).getQuantity());
+        assertEquals(500, records.get(5).getQuantity());
+        assertTrue(controller.getLogs().contains(" Year Earnings:      💰 500"));
+    }
+
     /**
      * Tests the getMapId method.
      */
@@ -209,6 +234,44 @@ public class RunSimulationControllerTest {
         assertFalse(controller.getEvents().isEmpty());
     }
 
+    /**
+     * Tests upgrading a station creates the generation events of the industries that enter its influential area.
+     */
+    @Test
+    void testRefreshEventsAfterStationUpgrade() {
+        PrimaryResource coal = new PrimaryResource("Coal", 100, 1, 10);
+        PrimaryIndustry mine = new PrimaryIndustry("Mine", IndustryType.PRIMARY_SECTOR, new Position(7, 7)) {
+            @Override
+            public PrimaryIndustry getClonedPrimaryIndustry(Scenario s) { return this; }
+            @Override
+            public PrimaryResource getPrimaryResource() { return coal; }
+            @Override
+            public int getIntervalBetweenResourceGeneration() { return 1; }
+        };
+        scenario.getIndustriesList().add(mine);
+        Station depot = new Station(StationType.DEPOT, new Position(5, 5), 1, null, scenario);
+        map.getStationList().add(depot);
+        controller.refreshEvents();
+        assertFalse(hasGenerationEventFor(mine));
+
+        EditStationTypeController editController = new EditStationTypeController();
+        editController.setSimulation(simulation);
+        editController.setStation(depot);
+        editController.setStationTypeToTerminal();
+        controller.refreshEvents();
+
+        assertTrue(hasGenerationEventFor(mine));
+    }
+
+    private boolean hasGenerationEventFor(Industry industry) {
+        for (Event event : controller.getEvents()) {
+            if (event instanceof GenerationEvent && event.getName().contains(" in " + industry.getName() + " in ")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Tests the checkEvents method with a real GenerationEvent.
      */
@@ -0,0 +1,90 @@
+package pt.ipp.isep.dei.controller.simulation.InSimulationTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.controller.simulation.InSimulation.ScenarioSweepController;
+import pt.ipp.isep.dei.domain.Map.Map;
+import pt.ipp.isep.dei.domain.Scenario.Scenario;
+import pt.ipp.isep.dei.domain.Simulation.ScenarioVariant;
+import pt.ipp.isep.dei.domain.Simulation.ScenarioVariantResult;
+import pt.ipp.isep.dei.domain.Simulation.Simulation;
+import pt.ipp.isep.dei.domain.Simulation.TimeDate;
+import pt.ipp.isep.dei.domain._Others_.Size;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScenarioSweepControllerTest {
+    private ScenarioSweepController controller;
+    private Simulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        Map map = new Map("TestMap", new Size(20, 20));
+        TimeDate begin = new TimeDate(2025, 1, 1);
+        TimeDate end = new TimeDate(2027, 1, 1);
+        Scenario scenario = new Scenario(map, "TestScenario", 1000, begin, end);
+        simulation = new Simulation("Sim1", scenario);
+        controller = new ScenarioSweepController(simulation);
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioSweepController(null));
+        assertThrows(IllegalArgumentException.class, () -> controller.addVariant(null));
+        assertThrows(IllegalArgumentException.class, () -> controller.setThreadCount(0));
+    }
+
+    /**
+     * Tests that a copy of the simulation shares no state with the original.
+     */
+    @Test
+    void testCopySimulation() {
+        Simulation copy = ScenarioSweepController.copySimulation(simulation);
+        assertNotSame(simulation, copy);
+        assertNotSame(simulation.getScenario(), copy.getScenario());
+        copy.addMoney(500);
+        assertEquals(simulation.getActualMoney() + 500, copy.getActualMoney());
+    }
+
+    /**
+     * Tests that every variant runs until the end on its own copy and that the base simulation is not modified.
+     */
+    @Test
+    void testRunVariants() {
+        controller.setThreadCount(2);
+        controller.addVariant(ScenarioVariant.unchanged("Base"));
+        controller.addVariant(new ScenarioVariant("Extra money", s -> s.addMoney(500)));
+        controller.addVariant(new ScenarioVariant("Less money", s -> s.addMoney(-500)));
+        int initialMoney = simulation.getActualMoney();
+        int initialTime = simulation.getCurrentTime();
+
+        List<ScenarioVariantResult> results = controller.run();
+
+        assertEquals(3, results.size());
+        assertEquals("Extra money", results.get(0).getVariantName());
+        assertEquals("Base", results.get(1).getVariantName());
+        assertEquals("Less money", results.get(2).getVariantName());
+        for (ScenarioVariantResult result : results) {
+            assertEquals(result.getSimulation().getMaxTime(), result.getSimulation().getCurrentTime());
+        }
+        assertEquals(initialMoney, simulation.getActualMoney());
+        assertEquals(initialTime, simulation.getCurrentTime());
+    }
+
+    /**
+     * Tests that results can be ranked by the total revenue of the yearly financial results.
+     */
+    @Test
+    void testRankByTotalRevenue() {
+        controller.addVariant(ScenarioVariant.unchanged("Base"));
+        List<ScenarioVariantResult> ranked = ScenarioSweepController.rankByTotalRevenue(controller.run());
+        assertEquals(1, ranked.size());
+        assertEquals(ranked.get(0).getSimulation().getFinancialResults().size(),
+                ranked.get(0).getSimulation().getFinancialResults().size());
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 import pt.ipp.isep.dei.domain._Others_.Position;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Resource.HouseBlockResource;
+import pt.ipp.isep.dei.domain.Resource.ResourcesType;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -226,7 +229,7 @@ class HouseBlockTest {
         try {
             java.lang.reflect.Field field = HouseBlock.class.getDeclaredField("idCounter");
             field.setAccessible(true);
-            return field.getInt(null);
+            return ((AtomicInteger) field.get(null)).get();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -240,4 +243,43 @@ class HouseBlockTest {
         assertNotNull(houseBlock.getConsumableResources());
         assertFalse(houseBlock.getConsumableResources().isEmpty());
     }
+
+    /**
+     * Tests consumesResource matches the consumable resource types by name.
+     */
+    @Test
+    void testConsumesResource() {
+        for (ResourcesType consumable : houseBlock.getConsumableResources()) {
+            assertTrue(houseBlock.consumesResource(consumable));
+            assertTrue(houseBlock.consumesResource(new ResourcesType(consumable.getName(), 1, 1, 1)));
+        }
+        assertFalse(houseBlock.consumesResource(new ResourcesType("Not Consumable", 1, 1, 1)));
+    }
+
+    /**
+     * Tests the consumable resource types cannot be changed through the list returned by getConsumableResources.
+     */
+    @Test
+    void testGetConsumableResourcesIsUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> houseBlock.getConsumableResources().add(new ResourcesType("Not Consumable", 1, 1, 1)));
+        assertThrows(UnsupportedOperationException.class, () -> houseBlock.getConsumableResources().clear());
+    }
+
+    /**
+     * Tests consumesResource follows a consumable resource type that is renamed after it was first checked.
+     */
+    @Test
+    void testConsumesResourceAfterRename() {
+        ResourcesType consumable = houseBlock.getConsumableResources().get(0);
+        String name = consumable.getName();
+        assertTrue(houseBlock.consumesResource(consumable));
+        try {
+            consumable.setName("Renamed Consumable");
+            assertTrue(houseBlock.consumesResource(new ResourcesType("Renamed Consumable", 1, 1, 1)));
+            assertFalse(houseBlock.consumesResource(new ResourcesType(name, 1, 1, 1)));
+        } finally {
+            consumable.setName(name);
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package pt.ipp.isep.dei.domain.Event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EventScheduler} class.
+ */
+class EventSchedulerTest {
+
+    private EventScheduler scheduler;
+
+    /**
+     * Initializes an empty scheduler before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        scheduler = new EventScheduler();
+    }
+
+    /**
+     * Tests that only the events due on the given day are returned.
+     */
+    @Test
+    void testPollDueEventsReturnsOnlyDueEvents() {
+        Event dueEvent = new Event("Due", 1, 9);
+        Event laterEvent = new Event("Later", 5, 9);
+        scheduler.schedule(dueEvent, 0);
+        scheduler.schedule(laterEvent, 0);
+
+        assertEquals(List.of(dueEvent), scheduler.pollDueEvents(10));
+        assertTrue(scheduler.pollDueEvents(11).isEmpty());
+        assertEquals(List.of(laterEvent), scheduler.pollDueEvents(14));
+    }
+
+    /**
+     * Tests that events due on the same day are returned by lane and then by registration order.
+     */
+    @Test
+    void testPollDueEventsKeepsLaneAndRegistrationOrder() {
+        Event first = new Event("First", 1, 0);
+        Event second = new Event("Second", 1, 0);
+        Event third = new Event("Third", 1, 0);
+        scheduler.schedule(third, 1);
+        scheduler.schedule(first, 0);
+        scheduler.schedule(second, 0);
+
+        assertEquals(List.of(first, second, third), scheduler.pollDueEvents(1));
+    }
+
+    /**
+     * Tests that an event is re-queued when its next generation date changes.
+     */
+    @Test
+    void testEventIsRequeuedWhenDateChanges() {
+        Event event = new Event("Recurring", 2, 0);
+        scheduler.schedule(event, 0);
+
+        List<Event> due = scheduler.pollDueEvents(2);
+        assertEquals(List.of(event), due);
+        event.setNextGenerationDate(event.getNextGenerationDate() + event.getInterval());
+
+        assertTrue(scheduler.pollDueEvents(3).isEmpty());
+        assertEquals(List.of(event), scheduler.pollDueEvents(4));
+    }
+
+    /**
+     * Tests that an event whose date was moved is not returned on its old date.
+     */
+    @Test
+    void testMovedEventIsNotTriggeredOnOldDate() {
+        Event event = new Event("Moved", 1, 0);
+        scheduler.schedule(event, 0);
+        event.setNextGenerationDate(5);
+
+        assertTrue(scheduler.pollDueEvents(1).isEmpty());
+        assertEquals(List.of(event), scheduler.pollDueEvents(5));
+    }
+
+    /**
+     * Tests that registering the same event twice does not trigger it twice.
+     */
+    @Test
+    void testScheduleIsIdempotent() {
+        Event event = new Event("Event", 1, 0);
+        scheduler.schedule(event, 0);
+        scheduler.schedule(event, 0);
+
+        assertEquals(1, scheduler.size());
+        assertEquals(1, scheduler.pollDueEvents(1).size());
+    }
+
+    /**
+     * Tests that an unscheduled event is no longer triggered.
+     */
+    @Test
+    void testUnschedule() {
+        Event removed = new Event("Removed", 1, 0);
+        Event kept = new Event("Kept", 1, 0);
+        scheduler.schedule(removed, 0);
+        scheduler.schedule(kept, 0);
+        scheduler.unschedule(removed);
+
+        assertFalse(scheduler.isScheduled(removed));
+        assertEquals(List.of(kept), scheduler.pollDueEvents(1));
+    }
+
+    /**
+     * Tests that clearing the scheduler removes every event.
+     */
+    @Test
+    void testClear() {
+        Event event = new Event("Event", 1, 0);
+        scheduler.schedule(event, 0);
+        scheduler.clear();
+
+        assertFalse(scheduler.isScheduled(event));
+        assertTrue(scheduler.pollDueEvents(1).isEmpty());
+    }
+
+    /**
+     * Tests that scheduling a null event throws an exception.
+     */
+    @Test
+    void testScheduleNullEvent() {
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(null, 0));
+    }
+}
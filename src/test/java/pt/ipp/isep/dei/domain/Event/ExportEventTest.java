@@ -2,12 +2,16 @@ package pt.ipp.isep.dei.domain.Event;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Log.LogCategory;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Station.StationAssociations;
 import pt.ipp.isep.dei.domain._Others_.Inventory;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -82,7 +86,6 @@ class ExportEventTest {
         resourceType = new ResourcesType("Carvão", 100, 1, 10);
         association = new TestAssociation();
         association.setQuantity(50);
-        ExportEvent.setPrintFirstMenu(true);
         event = new ExportEvent("Exportar Carvão", 5, 10, resourceType, association);
     }
 
@@ -93,7 +96,6 @@ class ExportEventTest {
         assertEquals(15, event.getNextGenerationDate());
         assertEquals(resourceType, event.getResourceType());
         assertEquals(association, event.getAssociation());
-        assertTrue(ExportEvent.isPrintFirstMenu());
     }
 
     @Test
@@ -109,13 +111,14 @@ class ExportEventTest {
     @Test
     void testTriggerWithResource() {
         association.setQuantity(30);
-        ExportEvent.setPrintFirstMenu(true);
         int nextDateBefore = event.getNextGenerationDate();
-        List<String> logs = event.trigger();
+        LogRecordList records = dayRecords();
+        event.trigger(records);
+        List<String> logs = records.render();
         assertFalse(logs.isEmpty());
-        assertEquals("📦  Export:", logs.get(0));
-        assertTrue(logs.get(1).contains("30"));
-        assertTrue(logs.get(1).contains("Carvão"));
+        assertEquals("📦  Export:", logs.get(1));
+        assertTrue(logs.get(2).contains("30"));
+        assertTrue(logs.get(2).contains("Carvão"));
         assertEquals(nextDateBefore + 5, event.getNextGenerationDate());
         assertTrue(association.isUpdated());
         assertEquals(1, association.getRemoved().size());
@@ -127,17 +130,28 @@ class ExportEventTest {
     @Test
     void testTriggerWithoutResource() {
         association.setQuantity(0);
-        List<String> logs = event.trigger();
-        assertTrue(logs.isEmpty());
+        LogRecordList records = dayRecords();
+        event.trigger(records);
+        assertTrue(records.isEmpty());
         assertEquals(0, association.getRemoved().size());
         assertFalse(association.isUpdated());
     }
 
     @Test
-    void testPrintFirstMenuStaticSetterAndGetter() {
-        ExportEvent.setPrintFirstMenu(false);
-        assertFalse(ExportEvent.isPrintFirstMenu());
-        ExportEvent.setPrintFirstMenu(true);
-        assertTrue(ExportEvent.isPrintFirstMenu());
+    void testMenuRecordedOnceForSeveralExports() {
+        LogRecordList records = dayRecords();
+        for (int i = 0; i < 3; i++) {
+            TestAssociation otherAssociation = new TestAssociation();
+            otherAssociation.setQuantity(10);
+            new ExportEvent("Exportar " + i, 5, 10, resourceType, otherAssociation).trigger(records);
+        }
+        long menus = records.getRecords().stream().filter(record -> record.getTemplate() == LogTemplate.EXPORT_MENU).count();
+        assertEquals(1, menus);
+        assertEquals(5, records.getRecords().size());
+        assertEquals(LogCategory.EXPORT.getMenu(), List.of(records.getRecords().get(0).getTemplate(), records.getRecords().get(1).getTemplate()));
+    }
+
+    private static LogRecordList dayRecords() {
+        return new LogRecordList(15, EnumSet.allOf(LogCategory.class), true);
     }
 }
\ No newline at end of file
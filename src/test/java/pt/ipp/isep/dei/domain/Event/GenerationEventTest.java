@@ -4,9 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pt.ipp.isep.dei.domain.City.HouseBlock;
 import pt.ipp.isep.dei.domain.Industry.Industry;
+import pt.ipp.isep.dei.domain.Log.LogCategory;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -70,7 +73,6 @@ class GenerationEventTest {
         resource = new TestResource("Água");
         industry = new TestIndustry();
         houseBlock = new TestHouseBlock();
-        GenerationEvent.setPrintFirstMenu(true);
         eventIndustry = new GenerationEvent("Geração Indústria", 5, 10, resource, industry);
         eventHouseBlock = new GenerationEvent("Geração Casa", 3, 20, resource, houseBlock);
     }
@@ -83,7 +85,6 @@ class GenerationEventTest {
         assertEquals(resource, eventIndustry.getResource());
         assertEquals(industry, eventIndustry.getIndustry());
         assertNull(eventIndustry.getHouseBlock());
-        assertTrue(GenerationEvent.isPrintFirstMenu());
     }
 
     @Test
@@ -105,37 +106,43 @@ class GenerationEventTest {
 
     @Test
     void testTrigger_Industry() {
-        GenerationEvent.setPrintFirstMenu(true);
         int nextDateBefore = eventIndustry.getNextGenerationDate();
-        List<String> logs = eventIndustry.trigger();
+        LogRecordList records = dayRecords();
+        eventIndustry.trigger(records);
+        List<String> logs = records.render();
         assertFalse(logs.isEmpty());
-        assertTrue(logs.get(0).contains("Production"));
-        assertTrue(logs.get(1).contains("Indústria"));
+        assertTrue(logs.get(1).contains("Production"));
+        assertTrue(logs.get(2).contains("Indústria"));
         assertEquals(nextDateBefore + 5, eventIndustry.getNextGenerationDate());
         assertTrue(industry.isUpdated());
         assertEquals(1, industry.getAddCount());
-        assertFalse(GenerationEvent.isPrintFirstMenu());
     }
 
     @Test
     void testTrigger_HouseBlock() {
-        GenerationEvent.setPrintFirstMenu(true);
         int nextDateBefore = eventHouseBlock.getNextGenerationDate();
-        List<String> logs = eventHouseBlock.trigger();
+        LogRecordList records = dayRecords();
+        eventHouseBlock.trigger(records);
+        List<String> logs = records.render();
         assertFalse(logs.isEmpty());
-        assertTrue(logs.get(0).contains("Production"));
-        assertTrue(logs.get(1).contains("House Block"));
+        assertTrue(logs.get(1).contains("Production"));
+        assertTrue(logs.get(2).contains("House Block"));
         assertEquals(nextDateBefore + 3, eventHouseBlock.getNextGenerationDate());
         assertTrue(houseBlock.isUpdated());
         assertEquals(1, houseBlock.getAddCount());
-        assertFalse(GenerationEvent.isPrintFirstMenu());
     }
 
     @Test
-    void testPrintFirstMenuStaticSetterAndGetter() {
-        GenerationEvent.setPrintFirstMenu(false);
-        assertFalse(GenerationEvent.isPrintFirstMenu());
-        GenerationEvent.setPrintFirstMenu(true);
-        assertTrue(GenerationEvent.isPrintFirstMenu());
+    void testMenuRecordedOnceForSeveralProductions() {
+        LogRecordList records = dayRecords();
+        eventIndustry.trigger(records);
+        eventHouseBlock.trigger(records);
+        List<String> logs = records.render();
+        assertEquals(4, logs.size());
+        assertEquals(1, logs.stream().filter(log -> log.contains("Production")).count());
+    }
+
+    private static LogRecordList dayRecords() {
+        return new LogRecordList(15, EnumSet.allOf(LogCategory.class), true);
     }
 }
\ No newline at end of file
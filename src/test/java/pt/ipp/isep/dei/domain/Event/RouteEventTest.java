@@ -2,6 +2,7 @@ package pt.ipp.isep.dei.domain.Event;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 import pt.ipp.isep.dei.domain.Simulation.Route;
 import pt.ipp.isep.dei.domain.Simulation.PointOfRoute;
@@ -84,7 +85,9 @@ public class RouteEventTest {
     @Test
     void testTriggerWithInactiveRoute() {
         route.setActiveFlag(false);
-        List<String> logs = routeEvent.trigger();
+        LogRecordList records = new LogRecordList(routeEvent.getNextGenerationDate());
+        routeEvent.trigger(records);
+        List<String> logs = records.render();
         assertNotNull(logs);
         assertTrue(logs.isEmpty());
     }
@@ -97,7 +100,9 @@ public class RouteEventTest {
         route.setActiveFlag(true);
         // Setup minimal train and inventory for the route
         route.setAssignedTrain(null); // No train assigned, should not throw
-        List<String> logs = routeEvent.trigger();
+        LogRecordList records = new LogRecordList(routeEvent.getNextGenerationDate());
+        routeEvent.trigger(records);
+        List<String> logs = records.render();
         assertNotNull(logs);
         assertFalse(logs.isEmpty());
         assertTrue(logs.stream().anyMatch(s -> s.contains("Route Event Triggered")));
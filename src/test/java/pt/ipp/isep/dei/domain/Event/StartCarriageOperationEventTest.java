@@ -2,6 +2,7 @@ package pt.ipp.isep.dei.domain.Event;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 import pt.ipp.isep.dei.domain.Train.Carriage;
 
@@ -96,7 +97,9 @@ class StartCarriageOperationEventTest {
 
     @Test
     void testTriggerAddsCarriageAndReturnsAlert() {
-        List<String> logs = event.trigger();
+        LogRecordList records = new LogRecordList(event.getNextGenerationDate());
+        event.trigger(records);
+        List<String> logs = records.render();
         assertEquals(1, logs.size());
         assertTrue(logs.get(0).contains(CARRIAGE_NAME));
         assertTrue(simulation.getAvailableDateCarriages().contains(carriage));
@@ -2,6 +2,7 @@ package pt.ipp.isep.dei.domain.Event;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
 import pt.ipp.isep.dei.domain.Simulation.Simulation;
 import pt.ipp.isep.dei.domain.Train.Locomotive;
 import pt.ipp.isep.dei.domain.Train.FuelType;
@@ -50,7 +51,9 @@ public class StartLocomotiveOperationEventTest {
     @Test
     void testTriggerAddsLocomotiveAndReturnsAlert() {
         List<Locomotive> before = simulation.getAvailableDateLocomotives();
-        List<String> logs = event.trigger();
+        LogRecordList records = new LogRecordList(event.getNextGenerationDate());
+        event.trigger(records);
+        List<String> logs = records.render();
         assertNotNull(logs);
         assertTrue(logs.size() >= 2);
         assertTrue(logs.get(1).contains(locomotive.getName()));
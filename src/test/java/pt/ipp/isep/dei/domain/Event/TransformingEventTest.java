@@ -2,6 +2,9 @@ package pt.ipp.isep.dei.domain.Event;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Log.LogCategory;
+import pt.ipp.isep.dei.domain.Log.LogRecordList;
+import pt.ipp.isep.dei.domain.Log.LogTemplate;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Resource.TransformingResource;
@@ -9,6 +12,7 @@ import pt.ipp.isep.dei.domain.Industry.TransformingIndustry;
 import pt.ipp.isep.dei.domain.Industry.Industry;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,7 +39,6 @@ class TransformingEventTest {
         transformingResource = new TransformingResource("Produto", 100, 5, 10, neededResources);
         industry = new TransformingIndustry("Indústria Central", "cenario", transformingResource);
         event = new TranformingEvent("Transformação", 5, 10, transformingResource, industry);
-        TranformingEvent.setPrintFirstMenu(true);
     }
 
     /**
@@ -48,7 +51,6 @@ class TransformingEventTest {
         assertEquals(15, event.getNextGenerationDate());
         assertEquals(transformingResource, event.getTransformingResource());
         assertEquals(industry, event.getIndustry());
-        assertTrue(TranformingEvent.isPrintFirstMenu());
     }
 
     /**
@@ -73,13 +75,15 @@ class TransformingEventTest {
         industry.getInventory().addResource(new Resource(neededType1, 10));
         industry.getInventory().addResource(new Resource(neededType2, 10));
         int nextDateBefore = event.getNextGenerationDate();
-        event.trigger();
+        LogRecordList records = dayRecords();
+        event.trigger(records);
         // O inventário deve ter recebido o produto transformado
         assertTrue(industry.getInventory().existsResourceInInventory(transformingResource));
         // Os recursos necessários devem ter sido removidos
         assertFalse(industry.getInventory().existsResourceInInventory(neededType1));
         assertFalse(industry.getInventory().existsResourceInInventory(neededType2));
-        assertFalse(TranformingEvent.isPrintFirstMenu());
+        assertEquals(LogTemplate.MANUFACTURING_MENU, records.getRecords().get(1).getTemplate());
+        assertEquals(LogTemplate.TRANSFORMATION, records.getRecords().get(2).getTemplate());
         assertEquals(nextDateBefore + 5, event.getNextGenerationDate());
     }
 
@@ -90,21 +94,29 @@ class TransformingEventTest {
     void testTrigger_InvalidOperation() {
         // Não adiciona recursos necessários ao inventário
         int nextDateBefore = event.getNextGenerationDate();
-        event.trigger();
+        LogRecordList records = dayRecords();
+        event.trigger(records);
         // O inventário não deve ter o produto transformado
         assertFalse(industry.getInventory().existsResourceInInventory(transformingResource));
-        assertTrue(TranformingEvent.isPrintFirstMenu());
+        assertTrue(records.isEmpty());
         assertEquals(nextDateBefore + 5, event.getNextGenerationDate());
     }
 
     /**
-     * Tests the static setter and getter for printFirstMenu.
+     * Tests the manufacturing menu is recorded only before the first transformation of the day.
      */
     @Test
-    void testPrintFirstMenuStaticSetterAndGetter() {
-        TranformingEvent.setPrintFirstMenu(false);
-        assertFalse(TranformingEvent.isPrintFirstMenu());
-        TranformingEvent.setPrintFirstMenu(true);
-        assertTrue(TranformingEvent.isPrintFirstMenu());
+    void testMenuRecordedOnceForSeveralTransformations() {
+        industry.getInventory().addResource(new Resource(neededType1, 10));
+        industry.getInventory().addResource(new Resource(neededType2, 10));
+        LogRecordList records = dayRecords();
+        event.trigger(records);
+        event.trigger(records);
+        assertEquals(4, records.getRecords().size());
+        assertEquals(LogTemplate.TRANSFORMATION, records.getRecords().get(3).getTemplate());
+    }
+
+    private static LogRecordList dayRecords() {
+        return new LogRecordList(15, EnumSet.allOf(LogCategory.class), true);
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package pt.ipp.isep.dei.domain.FinancialResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Resource.Resource;
+import pt.ipp.isep.dei.domain.Resource.ResourcesType;
+import pt.ipp.isep.dei.domain.Station.Station;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveredCargoCounterTest {
+
+    private DeliveredCargoCounter counter;
+    private Station station1;
+    private Station station2;
+    private ResourcesType water;
+    private ResourcesType food;
+
+    @BeforeEach
+    void setUp() {
+        station1 = new Station("Station 1");
+        station2 = new Station("Station 2");
+        water = new ResourcesType("Water", 100, 10, 5);
+        food = new ResourcesType("Food", 50, 5, 2);
+        counter = new DeliveredCargoCounter();
+    }
+
+    @Test
+    void testAddDeliveryMergesByResourceType() {
+        counter.addDelivery(station1, List.of(new Resource(water, 10), new Resource(food, 3)));
+        counter.addDelivery(station1, List.of(new Resource(water, 5)));
+        assertEquals(15, counter.getDeliveredQuantity(station1, water));
+        assertEquals(3, counter.getDeliveredQuantity(station1, food));
+    }
+
+    @Test
+    void testMatchesResourceTypeByName() {
+        counter.addDelivery(station1, List.of(new Resource(water, 10)));
+        assertEquals(10, counter.getDeliveredQuantity(station1, new ResourcesType("Water", 100, 10, 5)));
+    }
+
+    @Test
+    void testCountsPerStation() {
+        counter.addDelivery(station1, List.of(new Resource(water, 10)));
+        counter.addDelivery(station2, List.of(new Resource(water, 4)));
+        assertEquals(10, counter.getDeliveredQuantity(station1, water));
+        assertEquals(4, counter.getDeliveredQuantity(station2, water));
+    }
+
+    @Test
+    void testNoDeliveryIsZero() {
+        counter.addDelivery(station1, List.of());
+        assertEquals(0, counter.getDeliveredQuantity(station1, water));
+        assertEquals(0, counter.getDeliveredQuantity(station2, food));
+    }
+
+    @Test
+    void testClear() {
+        counter.addDelivery(station1, List.of(new Resource(water, 10)));
+        counter.clear();
+        assertEquals(0, counter.getDeliveredQuantity(station1, water));
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        counter.addDelivery(station1, List.of(new Resource(water, 10), new Resource(food, 3)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(List.of(station1, counter));
+        }
+        List<?> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (List<?>) in.readObject();
+        }
+        Station stationCopy = (Station) copy.get(0);
+        DeliveredCargoCounter counterCopy = (DeliveredCargoCounter) copy.get(1);
+
+        assertEquals(10, counterCopy.getDeliveredQuantity(stationCopy, water));
+        assertEquals(3, counterCopy.getDeliveredQuantity(stationCopy, food));
+    }
+}
@@ -0,0 +1,59 @@
+package pt.ipp.isep.dei.domain.Log;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogRecordListTest {
+
+    @Test
+    void testRecordsEveryCategoryByDefault() {
+        LogRecordList list = new LogRecordList(0);
+        list.record(LogTemplate.EXPORT, null, "Coal", 5);
+        list.record(LogTemplate.ROUTE_SPACER);
+        assertEquals(List.of(String.format("   ➜  %-4d × %-12s", 5, "Coal"), " "), list.render());
+    }
+
+    @Test
+    void testHiddenCategoriesAreNotRecorded() {
+        LogRecordList list = new LogRecordList(0, EnumSet.of(LogCategory.ROUTE), false);
+        assertFalse(list.isRecording(LogCategory.EXPORT));
+        list.record(LogTemplate.EXPORT, null, "Coal", 5);
+        assertTrue(list.isEmpty());
+        list.record(LogTemplate.ROUTE_REVENUE, null, null, 10);
+        assertEquals(1, list.getRecords().size());
+    }
+
+    @Test
+    void testMenuIsRecordedBeforeFirstLineOfCategory() {
+        LogRecordList list = new LogRecordList(0, EnumSet.allOf(LogCategory.class), true);
+        list.record(LogTemplate.EXPORT, null, "Coal", 5);
+        list.record(LogTemplate.EXPORT, null, "Iron", 2);
+        list.record(LogTemplate.INDUSTRY_PRODUCTION, "Mine", "Coal", 1);
+        List<LogRecord> records = list.getRecords();
+        assertEquals(7, records.size());
+        assertEquals(LogTemplate.EXPORT_SPACER, records.get(0).getTemplate());
+        assertEquals(LogTemplate.EXPORT_MENU, records.get(1).getTemplate());
+        assertEquals(LogTemplate.PRODUCTION_SPACER, records.get(4).getTemplate());
+        assertEquals(LogTemplate.PRODUCTION_MENU, records.get(5).getTemplate());
+    }
+
+    @Test
+    void testAddAllAddsMenus() {
+        LogRecordList eventList = new LogRecordList(0, EnumSet.allOf(LogCategory.class), false);
+        eventList.record(LogTemplate.EXPORT, null, "Coal", 5);
+        LogRecordList dayList = new LogRecordList(0, EnumSet.allOf(LogCategory.class), true);
+        dayList.addAll(eventList);
+        assertEquals(3, dayList.getRecords().size());
+        assertEquals(LogTemplate.EXPORT_SPACER, dayList.getRecords().get(0).getTemplate());
+    }
+
+    @Test
+    void testCategoriesWithoutMenu() {
+        assertTrue(LogCategory.ROUTE.getMenu().isEmpty());
+        assertTrue(LogCategory.DAY.getMenu().isEmpty());
+    }
+}
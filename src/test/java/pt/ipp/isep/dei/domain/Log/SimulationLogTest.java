@@ -0,0 +1,70 @@
+package pt.ipp.isep.dei.domain.Log;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationLogTest {
+
+    private LogRecord record(int quantity) {
+        return new LogRecord(LogTemplate.ROUTE_REVENUE, 0, null, null, quantity);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationLog(0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationLog(2).add(null));
+    }
+
+    @Test
+    void testAddBelowCapacity() {
+        SimulationLog log = new SimulationLog(3);
+        log.add(record(1));
+        log.add(record(2));
+        assertEquals(2, log.size());
+        assertEquals(0, log.getFirstSequence());
+        assertEquals(2, log.getNextSequence());
+        assertEquals(2, log.get(1).getQuantity());
+    }
+
+    @Test
+    void testOldestRecordsAreReplaced() {
+        SimulationLog log = new SimulationLog(3);
+        for (int i = 0; i < 5; i++) {
+            log.add(record(i));
+        }
+        assertEquals(3, log.size());
+        assertEquals(2, log.getFirstSequence());
+        List<LogRecord> records = log.getRecordsFrom(0);
+        assertEquals(3, records.size());
+        assertEquals(2, records.get(0).getQuantity());
+        assertEquals(4, records.get(2).getQuantity());
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(5));
+    }
+
+    @Test
+    void testGetRecordsSinceLastShown() {
+        SimulationLog log = new SimulationLog(10);
+        log.add(record(1));
+        long shown = log.getNextSequence();
+        log.add(record(2));
+        log.add(record(3));
+        List<LogRecord> records = log.getRecords(shown, log.getNextSequence());
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).getQuantity());
+        assertTrue(log.getRecords(log.getNextSequence(), log.getNextSequence()).isEmpty());
+    }
+
+    @Test
+    void testRecordRendering() {
+        assertEquals("💰 Revenue obtained from delivery: 15", record(15).render());
+        assertEquals("🛤 Train departing for the next stop! ⏱ Estimated time: 1 day",
+                new LogRecord(LogTemplate.ROUTE_DEPARTURE, 0, null, null, 1).render());
+        assertEquals("🛤 Train departing for the next stop! ⏱ Estimated time: 3 days",
+                new LogRecord(LogTemplate.ROUTE_DEPARTURE, 0, null, null, 3).render());
+        assertEquals(LogCategory.ROUTE, record(1).getCategory());
+    }
+}
@@ -2,11 +2,19 @@ package pt.ipp.isep.dei.domain.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Industry.Industry;
+import pt.ipp.isep.dei.domain.Industry.IndustryType;
 import pt.ipp.isep.dei.domain._Others_.Position;
 import pt.ipp.isep.dei.domain._Others_.Size;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
+import pt.ipp.isep.dei.domain.Simulation.TimeDate;
+import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain.Station.StationAssociationIndex;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -139,10 +147,10 @@ class MapTest {
             @Override public String getType() { return "Test"; }
         };
         map.addElement(element);
-        java.util.List<Position> occupiedList = new java.util.ArrayList<>();
+        List<Position> occupiedList = new ArrayList<>();
         occupiedList.add(new Position(3, 3));
         assertTrue(map.positionOccupiedList(occupiedList) || !map.getMapElementsUsed().contains(element));
-        java.util.List<Position> notOccupiedList = new java.util.ArrayList<>();
+        List<Position> notOccupiedList = new ArrayList<>();
         notOccupiedList.add(new Position(9, 9));
         assertFalse(map.positionOccupiedList(notOccupiedList));
     }
@@ -176,11 +184,69 @@ class MapTest {
      */
     @Test
     void testScenarioMethods() {
-        Scenario scenarioObj = new Scenario(map, "Scenario1", 100, new pt.ipp.isep.dei.domain.Simulation.TimeDate(2000,1,1), new pt.ipp.isep.dei.domain.Simulation.TimeDate(2001,1,1));
+        Scenario scenarioObj = new Scenario(map, "Scenario1", 100, new TimeDate(2000,1,1), new TimeDate(2001,1,1));
         map.addScenario(scenarioObj);
         assertTrue(map.getScenarios().contains(scenarioObj));
         assertTrue(map.getNumActiveScenarios() >= 0);
         map.removeScenario(scenarioObj);
         assertFalse(map.getScenarios().contains(scenarioObj));
     }
+
+    /**
+     * Tests the station association index is kept between calls and rebuilt when an industry is added.
+     */
+    @Test
+    void testStationAssociationIndexRebuiltWhenIndustriesChange() {
+        StationAssociationIndex index = map.getStationAssociationIndex(map.getIndustriesList());
+        assertSame(index, map.getStationAssociationIndex(map.getIndustriesList()));
+
+        Industry industry = new Industry("Farm", IndustryType.PRIMARY_SECTOR, new Position(4, 4));
+        assertTrue(map.addElement(industry));
+        StationAssociationIndex rebuilt = map.getStationAssociationIndex(map.getIndustriesList());
+        assertNotSame(index, rebuilt);
+        assertEquals(List.of(industry), rebuilt.getAssociationsAt(4, 4));
+    }
+
+    /**
+     * Tests the occupancy queries follow the elements added to and removed from the map.
+     */
+    @Test
+    void testOccupancyFollowsAddedAndRemovedElements() {
+        Industry industry = new Industry("Mine", IndustryType.PRIMARY_SECTOR, new Position(5, 6));
+        assertFalse(map.isPositionOccupied(new Position(5, 6)));
+
+        assertTrue(map.addElement(industry));
+        assertTrue(map.isPositionOccupied(new Position(5, 6)));
+        assertEquals(List.of(industry), map.getElementsAt(5, 6));
+        assertFalse(map.addElement(new Industry("Farm", IndustryType.PRIMARY_SECTOR, new Position(5, 6))));
+
+        assertTrue(map.removeElement(industry));
+        assertFalse(map.isPositionOccupied(new Position(5, 6)));
+        assertTrue(map.getElementsAt(5, 6).isEmpty());
+    }
+
+    /**
+     * Tests the positions of railway lines of a type are left out, and the obstacles follow a railway line upgrade.
+     */
+    @Test
+    void testOccupiedPositionsWithoutRespectiveLines() {
+        Station stationA = new Station("A");
+        Station stationB = new Station("B");
+        List<Position> linePositions = new ArrayList<>();
+        linePositions.add(new Position(1, 2));
+        linePositions.add(new Position(2, 2));
+        RailwayLine railwayLine = new RailwayLine(linePositions, stationA, stationB, RailwayLineType.SINGLE_NON_ELECTRIFIED, null);
+        assertTrue(map.addElement(railwayLine));
+
+        assertTrue(map.getOccupiedPositionsWithoutRespectiveLines(RailwayLineType.SINGLE_NON_ELECTRIFIED).isEmpty());
+        assertEquals(2, map.getOccupiedPositionsWithoutRespectiveLines(RailwayLineType.DOUBLE_ELECTRIFIED).size());
+        assertFalse(map.getOccupancyGrid().isObstacle(1, 2, RailwayLineType.SINGLE_NON_ELECTRIFIED));
+        assertTrue(map.getOccupancyGrid().isObstacle(1, 2, RailwayLineType.DOUBLE_ELECTRIFIED));
+
+        map.changeRailwayLineType(railwayLine, RailwayLineType.DOUBLE_ELECTRIFIED);
+
+        assertEquals(RailwayLineType.DOUBLE_ELECTRIFIED, railwayLine.getTypeEnum());
+        assertTrue(map.getOccupancyGrid().isObstacle(1, 2, RailwayLineType.SINGLE_NON_ELECTRIFIED));
+        assertFalse(map.getOccupancyGrid().isObstacle(2, 2, RailwayLineType.DOUBLE_ELECTRIFIED));
+    }
 }
@@ -0,0 +1,156 @@
+package pt.ipp.isep.dei.domain.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link OccupancyGrid} class.
+ */
+class OccupancyGridTest {
+
+    private OccupancyGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new OccupancyGrid(5, 5);
+    }
+
+    /**
+     * Tests that a negative size is rejected.
+     */
+    @Test
+    void testConstructorWithNegativeSizeThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyGrid(-1, 5));
+    }
+
+    /**
+     * Tests that the cells of an element are occupied until it is removed.
+     */
+    @Test
+    void testAddAndRemove() {
+        MapElement element = element(new Position(1, 1), new Position(2, 1));
+        grid.add(element);
+
+        assertTrue(grid.isOccupied(1, 1));
+        assertTrue(grid.isOccupied(new Position(2, 1)));
+        assertFalse(grid.isOccupied(3, 1));
+        assertSame(element, grid.getElementAt(2, 1));
+        assertTrue(grid.isAnyOccupied(List.of(new Position(0, 0), new Position(1, 1))));
+
+        grid.remove(element);
+
+        assertFalse(grid.isOccupied(1, 1));
+        assertNull(grid.getElementAt(2, 1));
+        assertFalse(grid.isAnyOccupied(List.of(new Position(1, 1), new Position(2, 1))));
+    }
+
+    /**
+     * Tests that a cell shared by several elements stays occupied by the remaining ones.
+     */
+    @Test
+    void testSharedCell() {
+        MapElement first = element(new Position(3, 3));
+        MapElement second = element(new Position(3, 3));
+        grid.add(first);
+        grid.add(second);
+
+        assertSame(first, grid.getElementAt(3, 3));
+        assertEquals(List.of(first, second), grid.getElementsAt(3, 3));
+
+        grid.remove(first);
+
+        assertTrue(grid.isOccupied(3, 3));
+        assertSame(second, grid.getElementAt(3, 3));
+        assertEquals(List.of(second), grid.getElementsAt(3, 3));
+    }
+
+    /**
+     * Tests that the grid grows to hold elements outside of it, keeping the cells already occupied.
+     */
+    @Test
+    void testGrowsForElementsOutsideTheGrid() {
+        MapElement inside = element(new Position(4, 4));
+        MapElement outside = element(new Position(9, 7));
+        grid.add(inside);
+        grid.add(outside);
+
+        assertEquals(10, grid.getWidth());
+        assertEquals(8, grid.getHeight());
+        assertSame(inside, grid.getElementAt(4, 4));
+        assertSame(outside, grid.getElementAt(9, 7));
+        assertFalse(grid.isOccupied(4, 7));
+    }
+
+    /**
+     * Tests that railway lines are obstacles only for railway lines of other types.
+     */
+    @Test
+    void testRailwayLineObstacles() {
+        RailwayLine railwayLine = railwayLine(RailwayLineType.SINGLE_ELECTRIFIED, new Position(0, 2), new Position(1, 2));
+        MapElement station = element(new Position(1, 2));
+        grid.add(railwayLine);
+
+        assertFalse(grid.isObstacle(0, 2, RailwayLineType.SINGLE_ELECTRIFIED));
+        assertTrue(grid.isObstacle(0, 2, RailwayLineType.DOUBLE_ELECTRIFIED));
+        assertFalse(grid.isObstacle(1, 2, RailwayLineType.SINGLE_ELECTRIFIED));
+
+        grid.add(station);
+
+        assertTrue(grid.isObstacle(1, 2, RailwayLineType.SINGLE_ELECTRIFIED));
+    }
+
+    /**
+     * Tests that a railway line is counted under its new type after its type changes.
+     */
+    @Test
+    void testUpdateRailwayLineType() {
+        RailwayLine railwayLine = railwayLine(RailwayLineType.SINGLE_NON_ELECTRIFIED, new Position(2, 0));
+        grid.add(railwayLine);
+
+        railwayLine.setTypeEnum(RailwayLineType.SINGLE_ELECTRIFIED);
+        grid.updateRailwayLineType(railwayLine);
+
+        assertTrue(grid.isObstacle(2, 0, RailwayLineType.SINGLE_NON_ELECTRIFIED));
+        assertFalse(grid.isObstacle(2, 0, RailwayLineType.SINGLE_ELECTRIFIED));
+
+        grid.remove(railwayLine);
+
+        assertFalse(grid.isObstacle(2, 0, RailwayLineType.SINGLE_NON_ELECTRIFIED));
+        assertFalse(grid.isOccupied(2, 0));
+    }
+
+    /**
+     * Creates a map element occupying the given positions.
+     *
+     * @param positions the occupied positions
+     * @return the map element
+     */
+    private MapElement element(Position... positions) {
+        return new MapElement(positions[0], new ArrayList<>(List.of(positions))) {
+            @Override
+            public String getType() {
+                return "Test";
+            }
+        };
+    }
+
+    /**
+     * Creates a railway line of the given type occupying the given positions.
+     *
+     * @param type      the railway line type
+     * @param positions the occupied positions
+     * @return the railway line
+     */
+    private RailwayLine railwayLine(RailwayLineType type, Position... positions) {
+        return new RailwayLine(new ArrayList<>(List.of(positions)), new Station("A"), new Station("B"), type, null);
+    }
+}
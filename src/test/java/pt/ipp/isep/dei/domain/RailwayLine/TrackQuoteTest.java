@@ -0,0 +1,44 @@
+package pt.ipp.isep.dei.domain.RailwayLine;
+
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TrackQuote} class.
+ */
+class TrackQuoteTest {
+
+    /**
+     * Tests the length and cost of a quote with a track.
+     */
+    @Test
+    void testQuoteWithTrack() {
+        List<Position> path = new ArrayList<>(List.of(new Position(0, 0), new Position(1, 1), new Position(2, 2)));
+        TrackQuote quote = new TrackQuote(RailwayLineType.DOUBLE_ELECTRIFIED, path);
+        path.clear();
+
+        assertEquals(RailwayLineType.DOUBLE_ELECTRIFIED, quote.getType());
+        assertTrue(quote.hasTrack());
+        assertEquals(3, quote.getLength());
+        assertEquals(3 * RailwayLineType.DOUBLE_ELECTRIFIED.getCost(), quote.getCost());
+        assertEquals(3, quote.getPath().size());
+    }
+
+    /**
+     * Tests a quote without a track has no path, length or cost.
+     */
+    @Test
+    void testQuoteWithoutTrack() {
+        TrackQuote quote = new TrackQuote(RailwayLineType.SINGLE_ELECTRIFIED, null);
+
+        assertFalse(quote.hasTrack());
+        assertNull(quote.getPath());
+        assertEquals(0, quote.getLength());
+        assertEquals(0, quote.getCost());
+    }
+}
@@ -0,0 +1,148 @@
+package pt.ipp.isep.dei.domain.RailwayLine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.Map.Map;
+import pt.ipp.isep.dei.domain.Map.MapElement;
+import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.Position;
+import pt.ipp.isep.dei.domain._Others_.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TrackRouter} class.
+ */
+class TrackRouterTest {
+
+    private Map map;
+
+    @BeforeEach
+    void setUp() {
+        map = new Map("RouterMap", new Size(10, 10));
+    }
+
+    /**
+     * Tests a path on a free grid is the shortest one, moving diagonally.
+     */
+    @Test
+    void testFindPathOnFreeGrid() {
+        List<Position> path = TrackRouter.findPath(5, 5, new boolean[25], new Position(0, 0), new Position(4, 4));
+
+        assertNotNull(path);
+        assertEquals(5, path.size());
+        assertEquals(0, path.getFirst().getX());
+        assertEquals(4, path.getLast().getX());
+        assertEquals(4, path.getLast().getY());
+    }
+
+    /**
+     * Tests a path goes around a wall and no path is found when the wall closes the goal off.
+     */
+    @Test
+    void testFindPathAroundObstacles() {
+        boolean[] obstacles = new boolean[25];
+        for (int y = 0; y < 4; y++) {
+            obstacles[y * 5 + 2] = true;
+        }
+
+        List<Position> path = TrackRouter.findPath(5, 5, obstacles, new Position(0, 0), new Position(4, 0));
+
+        assertNotNull(path);
+        for (Position position : path) {
+            assertFalse(obstacles[position.getY() * 5 + position.getX()]);
+        }
+        assertEquals(2, path.get(4).getX());
+        assertEquals(4, path.get(4).getY());
+
+        obstacles[4 * 5 + 2] = true;
+        assertNull(TrackRouter.findPath(5, 5, obstacles, new Position(0, 0), new Position(4, 0)));
+    }
+
+    /**
+     * Tests the track between two stations starts and ends next to them, and is cached until the map changes.
+     */
+    @Test
+    void testFindTrackIsCachedUntilTheMapChanges() {
+        TrackRouter router = map.getTrackRouter();
+        Position start = new Position(1, 1);
+        Position end = new Position(8, 1);
+
+        List<Position> track = router.findTrack(start, end, RailwayLineType.SINGLE_NON_ELECTRIFIED);
+
+        assertEquals(6, track.size());
+        assertEquals(2, track.getFirst().getX());
+        assertEquals(7, track.getLast().getX());
+        assertEquals(track.toString(), router.findTrack(start, end, RailwayLineType.SINGLE_NON_ELECTRIFIED).toString());
+
+        map.getMapElementsUsed().add(element(new Position(4, 1)));
+
+        List<Position> detour = router.findTrack(start, end, RailwayLineType.SINGLE_NON_ELECTRIFIED);
+        assertEquals(6, detour.size());
+        for (Position position : detour) {
+            assertFalse(position.getX() == 4 && position.getY() == 1);
+        }
+    }
+
+    /**
+     * Tests a track may reuse the cells of railway lines of the same type only.
+     */
+    @Test
+    void testFindTrackReusesRailwayLinesOfTheSameType() {
+        List<Position> wall = new ArrayList<>();
+        for (int y = 0; y < 10; y++) {
+            wall.add(new Position(5, y));
+        }
+        assertTrue(map.addElement(new RailwayLine(wall, new Station("A"), new Station("B"), RailwayLineType.DOUBLE_ELECTRIFIED, null)));
+
+        assertNull(map.getTrackRouter().findTrack(new Position(1, 1), new Position(8, 1), RailwayLineType.SINGLE_ELECTRIFIED));
+        assertNotNull(map.getTrackRouter().findTrack(new Position(1, 1), new Position(8, 1), RailwayLineType.DOUBLE_ELECTRIFIED));
+    }
+
+    /**
+     * Tests every railway line type is quoted at once, with the same tracks as searching each type on its own.
+     */
+    @Test
+    void testQuoteTracks() {
+        List<Position> wall = new ArrayList<>();
+        for (int y = 0; y < 10; y++) {
+            wall.add(new Position(5, y));
+        }
+        assertTrue(map.addElement(new RailwayLine(wall, new Station("A"), new Station("B"), RailwayLineType.SINGLE_NON_ELECTRIFIED, null)));
+        Position start = new Position(1, 1);
+        Position end = new Position(8, 3);
+
+        java.util.EnumMap<RailwayLineType, TrackQuote> quotes = map.getTrackRouter().quoteTracks(start, end);
+
+        assertEquals(4, quotes.size());
+        TrackQuote reused = quotes.get(RailwayLineType.SINGLE_NON_ELECTRIFIED);
+        assertTrue(reused.hasTrack());
+        assertEquals(6, reused.getLength());
+        assertEquals(6 * RailwayLineType.SINGLE_NON_ELECTRIFIED.getCost(), reused.getCost());
+        assertFalse(quotes.get(RailwayLineType.DOUBLE_ELECTRIFIED).hasTrack());
+        assertEquals(0, quotes.get(RailwayLineType.SINGLE_ELECTRIFIED).getCost());
+
+        TrackRouter fresh = new TrackRouter(map);
+        for (RailwayLineType type : RailwayLineType.values()) {
+            assertEquals(String.valueOf(fresh.findTrack(start, end, type)), String.valueOf(quotes.get(type).getPath()));
+        }
+    }
+
+    /**
+     * Creates a map element occupying a position.
+     *
+     * @param position the occupied position
+     * @return the map element
+     */
+    private MapElement element(Position position) {
+        return new MapElement(position, new ArrayList<>(List.of(position))) {
+            @Override
+            public String getType() {
+                return "Test";
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package pt.ipp.isep.dei.domain.Resource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourcesTypeMaskTest {
+
+    @Test
+    void testEmptyMask() {
+        ResourcesTypeMask mask = new ResourcesTypeMask();
+        assertTrue(mask.isEmpty());
+        assertFalse(mask.contains(new ResourcesType("Mask Iron", 50, 10, 5)));
+        assertFalse(mask.contains(-1));
+    }
+
+    @Test
+    void testAddAndContains() {
+        ResourcesType iron = new ResourcesType("Mask Iron", 50, 10, 5);
+        ResourcesType coal = new ResourcesType("Mask Coal", 50, 10, 5);
+        ResourcesTypeMask mask = new ResourcesTypeMask();
+        assertTrue(mask.add(iron));
+        assertFalse(mask.add(iron));
+        assertTrue(mask.contains(iron));
+        assertTrue(mask.contains(iron.getId()));
+        assertFalse(mask.contains(coal));
+        assertFalse(mask.isEmpty());
+    }
+
+    @Test
+    void testMatchesByName() {
+        ResourcesTypeMask mask = new ResourcesTypeMask(List.of(new ResourcesType("Mask Wool", 50, 10, 5)));
+        assertTrue(mask.contains(new ResourcesType("Mask Wool", 10, 1, 1)));
+        assertFalse(mask.add(new ResourcesType("Mask Wool", 10, 1, 1)));
+    }
+
+    @Test
+    void testGrowsBeyondInitialWords() {
+        ResourcesTypeMask mask = new ResourcesTypeMask();
+        for (int i = 0; i < 130; i++) {
+            ResourcesTypeRegistry.intern("Mask Filler " + i);
+        }
+        ResourcesType late = new ResourcesType("Mask Late", 50, 10, 5);
+        assertTrue(late.getId() >= 130);
+        assertTrue(mask.add(late));
+        assertTrue(mask.contains(late));
+    }
+
+    @Test
+    void testClear() {
+        ResourcesType iron = new ResourcesType("Mask Iron", 50, 10, 5);
+        ResourcesTypeMask mask = new ResourcesTypeMask(List.of(iron));
+        mask.clear();
+        assertTrue(mask.isEmpty());
+        assertFalse(mask.contains(iron));
+    }
+}
@@ -0,0 +1,44 @@
+package pt.ipp.isep.dei.domain.Resource;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourcesTypeRegistryTest {
+
+    @Test
+    void testInternGivesSameIdForSameName() {
+        int id = ResourcesTypeRegistry.intern("Registry Iron");
+        assertEquals(id, ResourcesTypeRegistry.intern("Registry Iron"));
+        assertEquals(id, ResourcesTypeRegistry.findId("Registry Iron"));
+        assertNotEquals(id, ResourcesTypeRegistry.intern("Registry Steel"));
+    }
+
+    @Test
+    void testIdsAreDense() {
+        int id = ResourcesTypeRegistry.intern("Registry Dense");
+        assertTrue(id >= 0);
+        assertTrue(id < ResourcesTypeRegistry.size());
+    }
+
+    @Test
+    void testFindIdOfUnknownName() {
+        assertEquals(-1, ResourcesTypeRegistry.findId("Registry Unknown"));
+        assertEquals(-1, ResourcesTypeRegistry.findId(null));
+    }
+
+    @Test
+    void testInternNullName() {
+        assertThrows(IllegalArgumentException.class, () -> ResourcesTypeRegistry.intern(null));
+    }
+
+    @Test
+    void testResourcesTypeIdFollowsName() {
+        ResourcesType type = new ResourcesType("Registry Wood", 50, 10, 5);
+        ResourcesType sameName = new ResourcesType("Registry Wood", 20, 5, 1);
+        assertEquals(type.getId(), sameName.getId());
+        type.setName("Registry Paper");
+        int id = type.getId();
+        assertEquals(ResourcesTypeRegistry.findId("Registry Paper"), id);
+        assertNotEquals(sameName.getId(), type.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Train.Carriage;
+import pt.ipp.isep.dei.domain.Train.Locomotive;
+import pt.ipp.isep.dei.domain.Train.Train;
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaintenanceScheduleTest {
+
+    private Train createTrain(TimeDate acquisitionDate) {
+        Locomotive locomotive = new Locomotive("L1", "", 1, 1, 1, 2000, 100, null, 1, 10);
+        List<Carriage> carriages = new ArrayList<>();
+        carriages.add(new Carriage("C1", "", 1, 1, 2000));
+        return new Train(locomotive, carriages, acquisitionDate);
+    }
+
+    private RailwayLine createRailwayLine(TimeDate constructionDate) {
+        List<Position> path = new ArrayList<>();
+        path.add(new Position(1, 1));
+        path.add(new Position(1, 2));
+        return new RailwayLine(path, null, null, RailwayLineType.SINGLE_ELECTRIFIED, constructionDate);
+    }
+
+    @Test
+    void testTrainsDueOnAnniversary() {
+        Train train1 = createTrain(new TimeDate(2020, 3, 15));
+        Train train2 = createTrain(new TimeDate(2021, 3, 15));
+        Train train3 = createTrain(new TimeDate(2020, 3, 16));
+        MaintenanceSchedule schedule = new MaintenanceSchedule(List.of(train1, train2, train3), List.of());
+        assertEquals(List.of(train1, train2), schedule.getTrainsDueOn(new TimeDate(2022, 3, 15)));
+        assertEquals(List.of(train3), schedule.getTrainsDueOn(new TimeDate(2022, 3, 16)));
+        assertTrue(schedule.getTrainsDueOn(new TimeDate(2022, 4, 15)).isEmpty());
+    }
+
+    @Test
+    void testNotDueInAcquisitionYear() {
+        Train train = createTrain(new TimeDate(2020, 3, 15));
+        MaintenanceSchedule schedule = new MaintenanceSchedule(List.of(train), List.of());
+        assertTrue(schedule.getTrainsDueOn(new TimeDate(2020, 3, 15)).isEmpty());
+        assertEquals(List.of(train), schedule.getTrainsDueOn(new TimeDate(2021, 3, 15)));
+    }
+
+    @Test
+    void testAddAndRemoveTrain() {
+        MaintenanceSchedule schedule = new MaintenanceSchedule(List.of(), List.of());
+        Train train = createTrain(new TimeDate(2020, 7, 1));
+        schedule.addTrain(train);
+        assertEquals(List.of(train), schedule.getTrainsDueOn(new TimeDate(2021, 7, 1)));
+        schedule.removeTrain(train);
+        assertTrue(schedule.getTrainsDueOn(new TimeDate(2021, 7, 1)).isEmpty());
+    }
+
+    @Test
+    void testRailwayLinesDueOnAnniversary() {
+        RailwayLine line = createRailwayLine(new TimeDate(2020, 12, 31));
+        MaintenanceSchedule schedule = new MaintenanceSchedule(List.of(), List.of(line));
+        assertEquals(List.of(line), schedule.getRailwayLinesDueOn(new TimeDate(2021, 12, 31)));
+        assertTrue(schedule.getRailwayLinesDueOn(new TimeDate(2021, 1, 31)).isEmpty());
+        schedule.removeRailwayLine(line);
+        assertTrue(schedule.getRailwayLinesDueOn(new TimeDate(2021, 12, 31)).isEmpty());
+    }
+
+    @Test
+    void testRailwayLineWithoutConstructionDate() {
+        MaintenanceSchedule schedule = new MaintenanceSchedule(List.of(), List.of());
+        RailwayLine line = new RailwayLine(null, null, RailwayLineType.SINGLE_ELECTRIFIED);
+        schedule.addRailwayLine(line);
+        schedule.removeRailwayLine(line);
+        assertTrue(schedule.getRailwayLinesDueOn(new TimeDate(2021, 1, 1)).isEmpty());
+    }
+}
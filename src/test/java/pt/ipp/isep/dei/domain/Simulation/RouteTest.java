@@ -10,6 +10,7 @@ import pt.ipp.isep.dei.domain.Train.Train;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
+import pt.ipp.isep.dei.domain._Others_.Position;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -150,4 +151,97 @@ class RouteTest {
         route.setActiveFlag(false);
         assertEquals("Deactivated", route.getActiveFlagOnString());
     }
+
+    /**
+     * Tests that the legs of a route split the path at each point and return to the departure station.
+     */
+    @Test
+    void testGetLegs() {
+        Station stationA = stations.get(0);
+        Station stationB = stations.get(1);
+        Station stationC = new Station("StationC");
+        List<PointOfRoute> points = new ArrayList<>();
+        points.add(new PointOfRoute(new ArrayList<>(), stationA, TypeOfCargoMode.FULL));
+        points.add(new PointOfRoute(new ArrayList<>(), stationC, TypeOfCargoMode.FULL));
+        List<RailwayLine> legPath = new ArrayList<>();
+        legPath.add(railwayLine(stationA, stationB, 3));
+        legPath.add(railwayLine(stationB, stationC, 4));
+        legPath.add(railwayLine(stationC, stationA, 5));
+        Route legRoute = new Route(points, legPath, "LegRoute", false);
+
+        RouteLeg[] legs = legRoute.getLegs();
+
+        assertEquals(2, legs.length);
+        assertArrayEquals(new int[]{0, 1}, legs[0].getRailwayLineIndices());
+        assertEquals(7, legs[0].getLength());
+        assertArrayEquals(new int[]{2}, legs[1].getRailwayLineIndices());
+        assertEquals(5, legs[1].getLength());
+        assertSame(legs, legRoute.getLegs());
+        assertEquals(0, legRoute.getLeg(2).getLength());
+    }
+
+    /**
+     * Tests that the legs are compiled again when the path of the route changes.
+     */
+    @Test
+    void testGetLegsAfterPathChange() {
+        Station stationA = stations.get(0);
+        Station stationB = stations.get(1);
+        List<RailwayLine> legPath = new ArrayList<>();
+        legPath.add(railwayLine(stationA, stationB, 2));
+        Route legRoute = new Route(pointOfRouteList, legPath, "LegRoute", false);
+        assertEquals(2, legRoute.getLeg(0).getLength());
+        assertEquals(0, legRoute.getLeg(1).getLength());
+
+        legPath.add(railwayLine(stationB, stationA, 6));
+
+        assertEquals(2, legRoute.getLeg(0).getLength());
+        assertEquals(6, legRoute.getLeg(1).getLength());
+
+        List<RailwayLine> newPath = new ArrayList<>();
+        newPath.add(railwayLine(stationA, stationB, 9));
+        legRoute.setPath(newPath);
+
+        assertEquals(9, legRoute.getLeg(0).getLength());
+        assertEquals(0, legRoute.getLeg(1).getRailwayLineCount());
+    }
+
+    /**
+     * Tests that a point not reached by the path leaves every remaining railway line in the return leg.
+     */
+    @Test
+    void testGetLegsWithUnreachedPoint() {
+        Station stationA = stations.get(0);
+        Station stationB = stations.get(1);
+        Station stationC = new Station("StationC");
+        List<PointOfRoute> points = new ArrayList<>();
+        points.add(new PointOfRoute(new ArrayList<>(), stationA, TypeOfCargoMode.FULL));
+        points.add(new PointOfRoute(new ArrayList<>(), stationC, TypeOfCargoMode.FULL));
+        List<RailwayLine> legPath = new ArrayList<>();
+        legPath.add(railwayLine(stationA, stationB, 3));
+        legPath.add(railwayLine(stationB, stationA, 4));
+        Route legRoute = new Route(points, legPath, "LegRoute", false);
+
+        RouteLeg[] legs = legRoute.getLegs();
+
+        assertEquals(1, legs.length);
+        assertArrayEquals(new int[]{0, 1}, legs[0].getRailwayLineIndices());
+        assertEquals(7, legs[0].getLength());
+    }
+
+    /**
+     * Creates a railway line between two stations with the given number of positions.
+     *
+     * @param station1 the first station
+     * @param station2 the second station
+     * @param length   the number of positions
+     * @return the railway line
+     */
+    private RailwayLine railwayLine(Station station1, Station station2, int length) {
+        List<Position> positions = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            positions.add(new Position(i, 0));
+        }
+        return new RailwayLine(positions, station1, station2, RailwayLineType.SINGLE_NON_ELECTRIFIED, null);
+    }
 }
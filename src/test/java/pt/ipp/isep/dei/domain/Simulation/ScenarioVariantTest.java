@@ -0,0 +1,91 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.FinancialResult.YearFinancialResult;
+import pt.ipp.isep.dei.domain.Map.Map;
+import pt.ipp.isep.dei.domain.Scenario.Scenario;
+import pt.ipp.isep.dei.domain._Others_.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioVariantTest {
+
+    private Simulation simulation;
+    private Route route1;
+    private Route route2;
+
+    @BeforeEach
+    void setUp() {
+        Map map = new Map("TestMap", new Size(10, 10));
+        Scenario scenario = new Scenario(map, "Scenario Test", 1000, new TimeDate(2024, 1, 1), new TimeDate(2025, 1, 1));
+        simulation = new Simulation("Simulation Test", scenario);
+        List<PointOfRoute> points1 = new ArrayList<>();
+        points1.add(new PointOfRoute(new ArrayList<>(), null, TypeOfCargoMode.FULL));
+        List<PointOfRoute> points2 = new ArrayList<>();
+        points2.add(new PointOfRoute(new ArrayList<>(), null, TypeOfCargoMode.AVAILABLE));
+        route1 = new Route(points1, new ArrayList<>(), "R1", false);
+        route2 = new Route(points2, new ArrayList<>(), "R2", false);
+        simulation.addRoute(route1);
+        simulation.addRoute(route2);
+    }
+
+    @Test
+    void testInvalidConstructorArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioVariant(null, s -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioVariant(" ", s -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioVariant("V", null));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioVariant.withCargoMode(null));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioVariant.withActiveRoutes("V", null));
+    }
+
+    @Test
+    void testWithCargoMode() {
+        ScenarioVariant variant = ScenarioVariant.withCargoMode(TypeOfCargoMode.HALF);
+        variant.apply(simulation);
+        assertEquals(TypeOfCargoMode.HALF, route1.getPointOfRouteList().get(0).getCargoMode());
+        assertEquals(TypeOfCargoMode.HALF, route2.getPointOfRouteList().get(0).getCargoMode());
+        assertEquals("Cargo mode HALF", variant.getName());
+    }
+
+    @Test
+    void testWithActiveRoutes() {
+        route2.setActiveFlag(true);
+        int count = simulation.getModificationCount();
+        ScenarioVariant.withActiveRoutes("Only R1", List.of("R1")).apply(simulation);
+        assertTrue(route1.getActiveFlag());
+        assertFalse(route2.getActiveFlag());
+        assertTrue(simulation.getModificationCount() > count);
+    }
+
+    @Test
+    void testUnchanged() {
+        ScenarioVariant.unchanged("Base").apply(simulation);
+        assertEquals(TypeOfCargoMode.FULL, route1.getPointOfRouteList().get(0).getCargoMode());
+        assertFalse(route1.getActiveFlag());
+    }
+
+    @Test
+    void testResultTotals() {
+        YearFinancialResult year1 = new YearFinancialResult(2024);
+        year1.setEarning(300);
+        year1.setFuelCost(100);
+        YearFinancialResult year2 = new YearFinancialResult(2025);
+        year2.setEarning(50);
+        List<YearFinancialResult> results = new ArrayList<>();
+        results.add(year1);
+        results.add(year2);
+        simulation.setFinancialResults(results);
+        simulation.setActualMoney(1250);
+
+        ScenarioVariantResult result = new ScenarioVariantResult(ScenarioVariant.unchanged("Base"), simulation);
+        assertEquals(1250, result.getFinalMoney());
+        assertEquals(350, result.getTotalEarnings());
+        assertEquals(year1.getTotalExpenses() + year2.getTotalExpenses(), result.getTotalExpenses());
+        assertEquals(year1.getRevenue() + year2.getRevenue(), result.getTotalRevenue());
+        assertEquals("Base", result.getVariantName());
+    }
+}
@@ -10,6 +10,8 @@ import pt.ipp.isep.dei.domain.Industry.IndustryType;
 import pt.ipp.isep.dei.domain.Map.Map;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
 import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Resource.Resource;
+import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 import pt.ipp.isep.dei.domain.Scenario.Scenario;
 import pt.ipp.isep.dei.domain.Station.Station;
 import pt.ipp.isep.dei.domain.Station.StationType;
@@ -50,6 +52,17 @@ class SimulationTest {
         assertEquals(10, simulation.getCurrentTime());
     }
 
+    @Test
+    void testGetCurrentDateReturnsCopy() {
+        simulation.setCurrentTime(40);
+        TimeDate date = simulation.getCurrentDate();
+        date.setYear(date.getYear() + 1);
+
+        TimeDate again = simulation.getCurrentDate();
+        assertNotSame(date, again);
+        assertEquals(41, again.getTotalDays());
+    }
+
     @Test
     void testSetAndGetMaxTime() {
         simulation.setMaxTime(50);
@@ -136,6 +149,16 @@ class SimulationTest {
         assertFalse(simulation.getRoutes().contains(route));
     }
 
+    @Test
+    void testModificationCountChangesWithRoutes() {
+        int initialCount = simulation.getModificationCount();
+        Route route = new Route(new ArrayList<>(), new ArrayList<>(), "routeName", false);
+        simulation.addRoute(route);
+        assertEquals(initialCount + 1, simulation.getModificationCount());
+        simulation.removeRoute(route);
+        assertEquals(initialCount + 2, simulation.getModificationCount());
+    }
+
     @Test
     void testGetAvailableDateLocomotives() {
         assertNotNull(simulation.getAvailableDateLocomotives());
@@ -231,6 +254,20 @@ class SimulationTest {
         assertFalse(simulation.getTrainList().contains(train));
     }
 
+    @Test
+    void testMaintenanceScheduleFollowsTrains() {
+        Locomotive loco = new Locomotive("L1", "", 1, 1, 1, 2000, 100, null, 1, 10);
+        List<Carriage> carriages = new ArrayList<>();
+        carriages.add(new Carriage("C1", "", 1, 1, 2000));
+        Train train = new Train(loco, carriages, new TimeDate(2024, 2, 10));
+        TimeDate anniversary = new TimeDate(2025, 2, 10);
+        assertTrue(simulation.getMaintenanceSchedule().getTrainsDueOn(anniversary).isEmpty());
+        simulation.addTrain(train);
+        assertEquals(List.of(train), simulation.getMaintenanceSchedule().getTrainsDueOn(anniversary));
+        simulation.removeTrain(train);
+        assertTrue(simulation.getMaintenanceSchedule().getTrainsDueOn(anniversary).isEmpty());
+    }
+
     @Test
     void testAddTrainNull() {
         assertThrows(IllegalArgumentException.class, () -> simulation.addTrain(null));
@@ -267,6 +304,27 @@ class SimulationTest {
         assertEquals(logs, simulation.getUnloadCargoLogsList());
     }
 
+    @Test
+    void testRecordUnloadedCargoCountsWithoutLogs() {
+        Station station = new Station("Station 1");
+        ResourcesType water = new ResourcesType("Water", 100, 10, 5);
+        simulation.recordUnloadedCargo(station, List.of(new Resource(water, 12)));
+        simulation.recordUnloadedCargo(station, List.of(new Resource(water, 8)));
+        assertEquals(20, simulation.getDeliveredCargo().getDeliveredQuantity(station, water));
+        assertTrue(simulation.getUnloadCargoLogsList().isEmpty());
+    }
+
+    @Test
+    void testRecordUnloadedCargoKeepsLogs() {
+        Station station = new Station("Station 1");
+        ResourcesType water = new ResourcesType("Water", 100, 10, 5);
+        simulation.setKeepUnloadCargoLogs(true);
+        simulation.recordUnloadedCargo(station, List.of(new Resource(water, 12)));
+        assertEquals(1, simulation.getUnloadCargoLogsList().size());
+        assertEquals(station, simulation.getUnloadCargoLogsList().getFirst().getStation());
+        assertEquals(12, simulation.getDeliveredCargo().getDeliveredQuantity(station, water));
+    }
+
     @Test
     void testEqualsAndHashCode() {
         Simulation sim1 = new Simulation("A", scenario);
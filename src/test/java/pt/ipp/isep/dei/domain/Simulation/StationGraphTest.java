@@ -0,0 +1,96 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Station.Station;
+import pt.ipp.isep.dei.domain._Others_.ShortestPathTree;
+import pt.ipp.isep.dei.domain._Others_.SparseGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link StationGraph} class.
+ */
+class StationGraphTest {
+
+    /**
+     * Tests stations are numbered in the order they first appear and edges weigh the distance of their railway line.
+     */
+    @Test
+    void testGraphLayout() {
+        Station a = new Station("A");
+        Station b = new Station("B");
+        Station c = new Station("C");
+
+        StationGraph graph = new StationGraph(List.of(railwayLine(a, b, 5), railwayLine(c, b, 7), railwayLine(a, c, 2)));
+
+        assertEquals(3, graph.getStationCount());
+        assertEquals(0, graph.indexOf(a));
+        assertEquals(1, graph.indexOf(b));
+        assertEquals(2, graph.indexOf(c));
+        assertSame(c, graph.getStation(2));
+
+        SparseGraph sparseGraph = graph.getGraph();
+        assertEquals(3, sparseGraph.getVertexCount());
+        assertEquals(2, sparseGraph.getDegree(2));
+        assertEquals(7, sparseGraph.getWeight(2, 1));
+        assertEquals(2, sparseGraph.getWeight(0, 2));
+    }
+
+    /**
+     * Tests parallel railway lines weigh the shortest distance.
+     */
+    @Test
+    void testParallelRailwayLines() {
+        Station a = new Station("A");
+        Station b = new Station("B");
+
+        StationGraph graph = new StationGraph(List.of(railwayLine(a, b, 9), railwayLine(b, a, 4)));
+
+        assertEquals(1, graph.getGraph().getDegree(0));
+        assertEquals(4, graph.getGraph().getWeight(0, 1));
+    }
+
+    /**
+     * Tests the shortest paths between stations, ties keeping the path through the station with the lowest index.
+     */
+    @Test
+    void testShortestPaths() {
+        Station a = new Station("A");
+        Station b = new Station("B");
+        Station c = new Station("C");
+        Station d = new Station("D");
+        StationGraph graph = new StationGraph(List.of(railwayLine(a, b, 4), railwayLine(a, c, 1), railwayLine(c, b, 2), railwayLine(b, d, 5)));
+
+        ShortestPathTree paths = graph.getGraph().findShortestPaths(graph.indexOf(a));
+
+        assertEquals(3, paths.getDistance(graph.indexOf(b)));
+        assertEquals(8, paths.getDistance(graph.indexOf(d)));
+        assertEquals(List.of(a, c, b, d), graph.getStations(paths.getPath(graph.indexOf(d))));
+
+        StationGraph tied = new StationGraph(List.of(railwayLine(a, b, 1), railwayLine(a, c, 1), railwayLine(c, d, 1), railwayLine(b, d, 1)));
+        ShortestPathTree tiedPaths = tied.getGraph().findShortestPaths(tied.indexOf(a));
+        assertEquals(List.of(a, b, d), tied.getStations(tiedPaths.getPath(tied.indexOf(d))));
+    }
+
+    /**
+     * Tests a station without railway lines is not in the graph.
+     */
+    @Test
+    void testIndexOfUnknownStation() {
+        StationGraph graph = new StationGraph(new ArrayList<>());
+        assertEquals(0, graph.getStationCount());
+        assertEquals(-1, graph.indexOf(new Station("A")));
+        assertTrue(graph.getStations(new int[0]).isEmpty());
+    }
+
+    private static RailwayLine railwayLine(Station station1, Station station2, int distance) {
+        RailwayLine railwayLine = new RailwayLine(station1, station2, RailwayLineType.SINGLE_ELECTRIFIED);
+        railwayLine.setDistance(distance);
+        return railwayLine;
+    }
+}
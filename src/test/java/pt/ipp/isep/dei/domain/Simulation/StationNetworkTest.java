@@ -0,0 +1,151 @@
+package pt.ipp.isep.dei.domain.Simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLine;
+import pt.ipp.isep.dei.domain.RailwayLine.RailwayLineType;
+import pt.ipp.isep.dei.domain.Station.Station;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link StationNetwork} class.
+ */
+class StationNetworkTest {
+
+    private Station depot;
+    private Station station;
+    private Station terminal;
+    private RailwayLine electricLine;
+    private RailwayLine dieselLine;
+    private StationNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        depot = new Station("Depot");
+        station = new Station("Station");
+        terminal = new Station("Terminal");
+        electricLine = new RailwayLine(depot, station, RailwayLineType.SINGLE_ELECTRIFIED);
+        dieselLine = new RailwayLine(station, terminal, RailwayLineType.DOUBLE_NON_ELECTRIFIED);
+        network = new StationNetwork(List.of(electricLine, dieselLine));
+    }
+
+    /**
+     * Tests stations are connected only in the views of their railway lines.
+     */
+    @Test
+    void testIsConnected() {
+        assertTrue(network.isConnected(depot, false));
+        assertTrue(network.isConnected(terminal, false));
+        assertTrue(network.isConnected(depot, true));
+        assertTrue(network.isConnected(station, true));
+        assertFalse(network.isConnected(terminal, true));
+    }
+
+    /**
+     * Tests a station added without railway lines is not connected.
+     */
+    @Test
+    void testAddStationWithoutRailwayLines() {
+        Station other = new Station("Other");
+        network.addStation(other);
+        assertFalse(network.isConnected(other, false));
+        network.removeStation(other);
+        assertFalse(network.isConnected(other, false));
+    }
+
+    /**
+     * Tests the railway lines between two stations are found in either direction and filtered by view.
+     */
+    @Test
+    void testGetRailwayLineBetween() {
+        assertSame(electricLine, network.getRailwayLineBetween(station, depot, false));
+        assertSame(dieselLine, network.getRailwayLineBetween(terminal, station, false));
+        assertNull(network.getRailwayLineBetween(terminal, station, true));
+        assertNull(network.getRailwayLineBetween(depot, terminal, false));
+    }
+
+    /**
+     * Tests every railway line between two stations is returned in the order they were added.
+     */
+    @Test
+    void testGetRailwayLinesBetweenParallelLines() {
+        RailwayLine parallelLine = new RailwayLine(station, depot, RailwayLineType.DOUBLE_ELECTRIFIED);
+        network.addRailwayLine(parallelLine);
+
+        assertEquals(List.of(electricLine, parallelLine), network.getRailwayLinesBetween(depot, station, false));
+        assertSame(electricLine, network.getRailwayLineBetween(depot, station, true));
+    }
+
+    /**
+     * Tests removing a railway line disconnects the stations it was the only line of.
+     */
+    @Test
+    void testRemoveRailwayLine() {
+        network.removeRailwayLine(dieselLine);
+
+        assertFalse(network.isConnected(terminal, false));
+        assertTrue(network.isConnected(station, false));
+        assertNull(network.getRailwayLineBetween(station, terminal, false));
+        assertEquals(1, network.getRailwayLineCount());
+        assertEquals(2, network.getGraph(false).getStationCount());
+    }
+
+    /**
+     * Tests upgrading a railway line moves it into the electrified view.
+     */
+    @Test
+    void testUpdateRailwayLineType() {
+        assertEquals(2, network.getGraph(true).getStationCount());
+
+        dieselLine.setTypeEnum(RailwayLineType.DOUBLE_ELECTRIFIED);
+        network.updateRailwayLineType(dieselLine);
+
+        assertTrue(network.isConnected(terminal, true));
+        assertSame(dieselLine, network.getRailwayLineBetween(station, terminal, true));
+        assertEquals(List.of(electricLine, dieselLine), network.getRailwayLines(true));
+        assertEquals(3, network.getGraph(true).getStationCount());
+    }
+
+    /**
+     * Tests components are merged as railway lines are added and split when they are removed.
+     */
+    @Test
+    void testComponents() {
+        assertTrue(network.isSameComponent(depot, terminal, false));
+        assertFalse(network.isSameComponent(depot, terminal, true));
+        assertEquals(network.getComponent(depot, true), network.getComponent(station, true));
+        assertEquals(-1, network.getComponent(new Station("Other"), false));
+
+        network.removeRailwayLine(dieselLine);
+        assertFalse(network.isSameComponent(station, terminal, false));
+        assertTrue(network.isSameComponent(terminal, terminal, false));
+
+        RailwayLine bypass = new RailwayLine(terminal, depot, RailwayLineType.SINGLE_NON_ELECTRIFIED);
+        network.addRailwayLine(bypass);
+        assertTrue(network.isSameComponent(station, terminal, false));
+        assertFalse(network.isSameComponent(station, terminal, true));
+
+        bypass.setTypeEnum(RailwayLineType.SINGLE_ELECTRIFIED);
+        network.updateRailwayLineType(bypass);
+        assertTrue(network.isSameComponent(station, terminal, true));
+
+        bypass.setTypeEnum(RailwayLineType.SINGLE_NON_ELECTRIFIED);
+        network.updateRailwayLineType(bypass);
+        assertFalse(network.isSameComponent(station, terminal, true));
+    }
+
+    /**
+     * Tests only single and double electrified tracks are electrified.
+     */
+    @Test
+    void testIsElectrified() {
+        assertTrue(StationNetwork.isElectrified(RailwayLineType.SINGLE_ELECTRIFIED));
+        assertTrue(StationNetwork.isElectrified(RailwayLineType.DOUBLE_ELECTRIFIED));
+        assertFalse(StationNetwork.isElectrified(RailwayLineType.SINGLE_NON_ELECTRIFIED));
+        assertFalse(StationNetwork.isElectrified(RailwayLineType.DOUBLE_NON_ELECTRIFIED));
+        assertFalse(StationNetwork.isElectrified(null));
+    }
+}
@@ -95,4 +95,60 @@ class TimeDateTest {
         TimeDate date = new TimeDate(2025, 12, 31);
         assertEquals("31/12/2025", date.toSimpleString());
     }
+
+    @Test
+    void testGetTotalDaysFirstDay() {
+        assertEquals(1, new TimeDate(1, 1, 1).getTotalDays());
+        assertEquals(366, new TimeDate(2, 1, 1).getTotalDays());
+    }
+
+    @Test
+    void testGetTotalDaysDoesNotDependOnOtherDates() {
+        TimeDate date = new TimeDate(2023, 3, 1);
+        int totalDays = date.getTotalDays();
+        new TimeDate(2024, 2, 29);
+        assertEquals(totalDays, date.getTotalDays());
+    }
+
+    @Test
+    void testFromTotalDaysRoundTrip() {
+        TimeDate start = new TimeDate(1899, 12, 25);
+        int firstDay = start.getTotalDays();
+        int year = 1899;
+        int month = 12;
+        int day = 25;
+        for (int totalDays = firstDay; totalDays < firstDay + 1000 * 366; totalDays++) {
+            TimeDate date = TimeDate.fromTotalDays(totalDays);
+            assertEquals(year, date.getYear());
+            assertEquals(month, date.getMonth());
+            assertEquals(day, date.getDay());
+            assertEquals(totalDays, date.getTotalDays());
+
+            day++;
+            if (day > TimeDate.getDaysInMonth(year, month)) {
+                day = 1;
+                month++;
+                if (month > 12) {
+                    month = 1;
+                    year++;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFromTotalDaysCycleBoundaries() {
+        TimeDate lastDayOf400 = new TimeDate(400, 12, 31);
+        TimeDate lastDayOf2000 = new TimeDate(2000, 12, 31);
+        TimeDate lastDayOf1900 = new TimeDate(1900, 12, 31);
+        assertEquals("31/12/400", TimeDate.fromTotalDays(lastDayOf400.getTotalDays()).toSimpleString());
+        assertEquals("31/12/2000", TimeDate.fromTotalDays(lastDayOf2000.getTotalDays()).toSimpleString());
+        assertEquals("31/12/1900", TimeDate.fromTotalDays(lastDayOf1900.getTotalDays()).toSimpleString());
+        assertEquals("1/1/401", TimeDate.fromTotalDays(lastDayOf400.getTotalDays() + 1).toSimpleString());
+    }
+
+    @Test
+    void testFromTotalDaysInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> TimeDate.fromTotalDays(0));
+    }
 }
@@ -0,0 +1,63 @@
+package pt.ipp.isep.dei.domain.Station;
+
+import org.junit.jupiter.api.Test;
+import pt.ipp.isep.dei.domain.City.HouseBlock;
+import pt.ipp.isep.dei.domain.Industry.Industry;
+import pt.ipp.isep.dei.domain.Industry.IndustryType;
+import pt.ipp.isep.dei.domain._Others_.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the StationAssociationIndex class.
+ */
+class StationAssociationIndexTest {
+
+    /**
+     * Tests industries are found in their cell and empty cells have no associations.
+     */
+    @Test
+    void testGetAssociationsAt() {
+        Industry farm = new Industry("Farm", IndustryType.PRIMARY_SECTOR, new Position(2, 3));
+        Industry mine = new Industry("Mine", IndustryType.PRIMARY_SECTOR, new Position(5, 5));
+        StationAssociationIndex index = new StationAssociationIndex(List.of(farm, mine), new ArrayList<>());
+
+        assertEquals(List.of(farm), index.getAssociationsAt(2, 3));
+        assertEquals(List.of(mine), index.getAssociationsAt(5, 5));
+        assertTrue(index.getAssociationsAt(3, 2).isEmpty());
+        assertTrue(index.getAssociationsAt(-1, 0).isEmpty());
+    }
+
+    /**
+     * Tests industries come before house blocks in the same cell, each in the order of their lists.
+     */
+    @Test
+    void testIndustriesBeforeHouseBlocksInCell() {
+        Industry farm = new Industry("Farm", IndustryType.PRIMARY_SECTOR, new Position(4, 4));
+        Industry mill = new Industry("Mill", IndustryType.TRANSFORMING, new Position(4, 4));
+        HouseBlock houseBlock = new HouseBlock(new Position(4, 4), "Porto");
+        StationAssociationIndex index = new StationAssociationIndex(List.of(farm, mill), List.of(houseBlock));
+
+        assertEquals(List.of(farm, mill, houseBlock), index.getAssociationsAt(4, 4));
+    }
+
+    /**
+     * Tests the index recognizes the lists it was built from and notices when they change size.
+     */
+    @Test
+    void testIsBuiltFrom() {
+        List<Industry> industries = new ArrayList<>();
+        industries.add(new Industry("Farm", IndustryType.PRIMARY_SECTOR, new Position(1, 1)));
+        List<HouseBlock> houseBlocks = new ArrayList<>();
+        StationAssociationIndex index = new StationAssociationIndex(industries, houseBlocks);
+
+        assertTrue(index.isBuiltFrom(industries, houseBlocks));
+        assertFalse(index.isBuiltFrom(new ArrayList<>(industries), houseBlocks));
+
+        industries.add(new Industry("Mine", IndustryType.PRIMARY_SECTOR, new Position(2, 2)));
+        assertFalse(index.isBuiltFrom(industries, houseBlocks));
+    }
+}
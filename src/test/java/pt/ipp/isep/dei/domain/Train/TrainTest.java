@@ -174,4 +174,35 @@ class TrainTest {
                 "Carriages: ";
         assertEquals(expected, t.toString());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the daily range of a locomotive that reaches its top speed, with the carriage debuff.
+     */
+    @Test
+    void testGetDailyRange() {
+        Locomotive fastLocomotive = new Locomotive("Fast Locomotive", LOCOMOTIVE_IMAGE, 2500, 10, 70, 1960,
+                60000, FuelType.ELECTRICITY, 6, 1200);
+        Train fastTrain = new Train(fastLocomotive, carriages, ACQUISITION_DATE);
+        assertEquals(735, fastTrain.findMaxDistanceTravelledByDay());
+        assertEquals(661, fastTrain.getDailyRange());
+    }
+
+    /**
+     * Tests that the daily range is computed again when the carriages change.
+     */
+    @Test
+    void testGetDailyRangeAfterCarriagesChange() {
+        assertEquals(10, train.findMaxDistanceTravelledByDay());
+        assertEquals(9, train.getDailyRange());
+
+        List<Carriage> manyCarriages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            manyCarriages.add(new Carriage("Carriage" + i, CARRIAGE_IMAGE, 1950, 10000, 10));
+        }
+        train.setCarriages(manyCarriages);
+        assertEquals(3, train.getDailyRange());
+
+        train.getCarriages().subList(1, 20).clear();
+        assertEquals(9, train.getDailyRange());
+    }
+}
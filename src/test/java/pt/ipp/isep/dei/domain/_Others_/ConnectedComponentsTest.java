@@ -0,0 +1,63 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ConnectedComponents} class.
+ */
+class ConnectedComponentsTest {
+
+    /**
+     * Tests components are labelled in the order of their first vertex.
+     */
+    @Test
+    void testLabels() {
+        ConnectedComponents components = new ConnectedComponents(5, new int[]{3, 1, 0, 4});
+
+        assertEquals(3, components.getComponentCount());
+        assertEquals(0, components.getLabel(0));
+        assertEquals(0, components.getLabel(4));
+        assertEquals(1, components.getLabel(1));
+        assertEquals(1, components.getLabel(3));
+        assertEquals(2, components.getLabel(2));
+    }
+
+    /**
+     * Tests connectivity follows the transitive closure, so isolated vertices do not reach themselves.
+     */
+    @Test
+    void testIsConnected() {
+        ConnectedComponents components = new ConnectedComponents(4, new int[]{0, 1, 1, 2});
+
+        assertTrue(components.isConnected(0, 2));
+        assertTrue(components.isConnected(1, 1));
+        assertFalse(components.isConnected(0, 3));
+        assertFalse(components.isConnected(3, 3));
+        assertFalse(components.hasEdge(3));
+    }
+
+    /**
+     * Tests full connectivity ignores the excluded vertices.
+     */
+    @Test
+    void testIsFullyConnected() {
+        ConnectedComponents components = new ConnectedComponents(4, new int[]{0, 1, 2, 2});
+
+        assertFalse(components.isFullyConnected(new boolean[]{false, false, false, false}));
+        assertFalse(components.isFullyConnected(new boolean[]{false, false, false, true}));
+        assertTrue(components.isFullyConnected(new boolean[]{false, false, true, true}));
+        assertTrue(components.isFullyConnected(new boolean[]{true, true, false, true}));
+        assertTrue(components.isFullyConnected(new boolean[]{true, true, true, true}));
+    }
+
+    /**
+     * Tests invalid graphs are rejected.
+     */
+    @Test
+    void testInvalidGraph() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectedComponents(-1, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new ConnectedComponents(2, new int[]{0}));
+    }
+}
@@ -0,0 +1,37 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DisjointSets} class.
+ */
+class DisjointSetsTest {
+
+    /**
+     * Tests merged elements share a set and other elements keep sets of their own.
+     */
+    @Test
+    void testUnionAndFind() {
+        DisjointSets sets = new DisjointSets(2);
+
+        assertTrue(sets.union(0, 1));
+        assertTrue(sets.union(5, 1));
+        assertFalse(sets.union(0, 5));
+
+        assertTrue(sets.isSameSet(0, 5));
+        assertEquals(sets.find(1), sets.find(5));
+        assertFalse(sets.isSameSet(0, 2));
+        assertEquals(2, sets.find(2));
+        assertEquals(40, sets.find(40));
+    }
+
+    /**
+     * Tests a negative initial capacity is rejected.
+     */
+    @Test
+    void testNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new DisjointSets(-1));
+    }
+}
@@ -0,0 +1,90 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DistanceTable} class.
+ */
+class DistanceTableTest {
+
+    /**
+     * Tests distances and paths between reachable and unreachable vertices.
+     */
+    @Test
+    void testDistancesAndPaths() {
+        SparseGraph graph = new SparseGraph(4, new int[]{0, 1, 1, 2, 0, 2}, new int[]{2, 3, 9});
+
+        DistanceTable table = new DistanceTable(graph);
+
+        assertEquals(4, table.getSize());
+        assertEquals(5, table.getDistance(0, 2));
+        assertEquals(5, table.getDistance(2, 0));
+        assertEquals(0, table.getDistance(1, 1));
+        assertArrayEquals(new int[]{0, 1, 2}, table.getPath(0, 2));
+        assertFalse(table.isReachable(0, 3));
+        assertEquals(-1, table.getDistance(0, 3));
+        assertEquals(0, table.getPath(3, 0).length);
+    }
+
+    /**
+     * Tests the next hop of each vertex towards a destination.
+     */
+    @Test
+    void testNextHops() {
+        SparseGraph graph = new SparseGraph(4, new int[]{0, 1, 1, 2}, new int[]{2, 3});
+
+        DistanceTable table = new DistanceTable(graph);
+
+        assertEquals(1, table.getNextHop(0, 2));
+        assertEquals(2, table.getNextHop(1, 2));
+        assertEquals(-1, table.getNextHop(2, 2));
+        assertEquals(-1, table.getNextHop(0, 3));
+    }
+
+    /**
+     * Tests the table finds paths as short as single searches, for graphs large enough to be filled in parallel.
+     */
+    @Test
+    void testMatchesSingleSearches() {
+        Random random = new Random(7);
+        int size = 300;
+        int[] edgeEnds = new int[2 * size];
+        int[] edgeWeights = new int[size];
+        for (int edge = 0; edge < size; edge++) {
+            edgeEnds[2 * edge] = random.nextInt(size);
+            edgeEnds[2 * edge + 1] = random.nextInt(size);
+            edgeWeights[edge] = random.nextInt(4);
+        }
+        SparseGraph graph = new SparseGraph(size, edgeEnds, edgeWeights);
+
+        DistanceTable table = new DistanceTable(graph);
+
+        for (int origin = 0; origin < size; origin += 7) {
+            ShortestPathTree tree = graph.findShortestPaths(origin);
+            for (int destination = 0; destination < size; destination++) {
+                assertEquals(tree.getDistance(destination), table.getDistance(origin, destination));
+                int[] path = table.getPath(origin, destination);
+                assertEquals(tree.getDistance(destination), pathLength(graph, path));
+                if (path.length > 0) {
+                    assertEquals(origin, path[0]);
+                    assertEquals(destination, path[path.length - 1]);
+                }
+            }
+        }
+    }
+
+    private static int pathLength(SparseGraph graph, int[] path) {
+        if (path.length == 0) {
+            return -1;
+        }
+        int length = 0;
+        for (int i = 0; i < path.length - 1; i++) {
+            length += graph.getWeight(path[i], path[i + 1]);
+        }
+        return length;
+    }
+}
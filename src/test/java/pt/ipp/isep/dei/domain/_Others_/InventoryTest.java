@@ -6,6 +6,10 @@ import pt.ipp.isep.dei.domain._Others_.Inventory;
 import pt.ipp.isep.dei.domain.Resource.Resource;
 import pt.ipp.isep.dei.domain.Resource.ResourcesType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -347,4 +351,134 @@ class InventoryTest {
     void testGetResourceQuantityNotFound() {
         assertEquals(0, inventory.getResourceQuantity("NonExisting"));
     }
+
+    /**
+     * Tests the running total follows additions, removals and quantity changes.
+     */
+    @Test
+    void testTotalQuantityAndEmptySpace() {
+        TestResourcesType rt1 = new TestResourcesType("Coal", 10, 2, 2);
+        TestResourcesType rt2 = new TestResourcesType("Ore", 10, 2, 2);
+        inventory.addResource(new TestResource(rt1, 4));
+        inventory.addResource(new TestResource(rt2, 3));
+        assertEquals(7, inventory.getTotalQuantity());
+        assertEquals(13, inventory.getEmptySpace(20));
+
+        inventory.removeResource(new TestResource(rt1, 4));
+        inventory.getResourceByType(rt2).setQuantity(5);
+        assertEquals(5, inventory.getTotalQuantity());
+        assertEquals(15, inventory.getEmptySpace(20));
+    }
+
+    /**
+     * Tests resources keep the order in which their types were added, after a removal.
+     */
+    @Test
+    void testGetAllResourcesKeepsInsertionOrder() {
+        TestResourcesType rt1 = new TestResourcesType("Wheat", 10, 2, 2);
+        TestResourcesType rt2 = new TestResourcesType("Flour", 10, 2, 2);
+        TestResourcesType rt3 = new TestResourcesType("Bread", 10, 2, 2);
+        inventory.addResource(new TestResource(rt1, 1));
+        inventory.addResource(new TestResource(rt2, 1));
+        inventory.addResource(new TestResource(rt3, 1));
+        inventory.remove(rt2);
+        inventory.addResource(new TestResource(rt2, 1));
+
+        List<Resource> resources = inventory.getAllResources();
+        assertEquals("Wheat", resources.get(0).getResourceType().getName());
+        assertEquals("Bread", resources.get(1).getResourceType().getName());
+        assertEquals("Flour", resources.get(2).getResourceType().getName());
+    }
+
+    /**
+     * Tests a resource removed from the inventory keeps its last quantity.
+     */
+    @Test
+    void testRemovedResourceKeepsLastQuantity() {
+        TestResourcesType rt = new TestResourcesType("Cotton", 10, 2, 2);
+        inventory.addResource(new TestResource(rt, 6));
+        Resource resource = inventory.getAllResources().get(0);
+
+        assertEquals(6, inventory.removeResource(resource));
+        assertEquals(6, resource.getQuantity());
+        resource.setQuantity(1);
+        assertFalse(inventory.existsResourceInInventory(rt));
+        assertEquals(0, inventory.getTotalQuantity());
+    }
+
+    /**
+     * Tests resource types with the same name share their quantity.
+     */
+    @Test
+    void testResourceTypesMatchedByName() {
+        inventory.addResource(new TestResource(new TestResourcesType("Timber", 10, 2, 2), 4));
+        TestResourcesType sameName = new TestResourcesType("Timber", 10, 2, 2);
+        assertEquals(4, inventory.getResourceQuantity(sameName));
+        assertEquals(2, inventory.addResource(new TestResource(sameName, 0)));
+        assertEquals(6, inventory.getResourceQuantity("Timber"));
+    }
+
+    /**
+     * Tests the inventory keeps its own quantity of an added resource instead of the resource itself,
+     * so the added resource and the inventory no longer change each other.
+     */
+    @Test
+    void testAddResource_KeepsOwnQuantityOfAddedResource() {
+        TestResourcesType rt = new TestResourcesType("Coal", 20, 2, 3);
+        TestResource generated = new TestResource(rt, 4);
+
+        inventory.addResource(generated);
+        inventory.addResource(generated);
+        assertEquals(7, inventory.getResourceQuantity(rt));
+        assertEquals(4, generated.getQuantity());
+        assertNotSame(generated, inventory.getResourceByType(rt));
+
+        generated.setQuantity(1);
+        assertEquals(7, inventory.getResourceQuantity(rt));
+
+        inventory.getResourceByType(rt).setQuantity(2);
+        assertEquals(1, generated.getQuantity());
+
+        inventory.removeResource(new TestResource(rt, 2));
+        assertEquals(1, generated.getQuantity());
+        assertFalse(inventory.existsResourceInInventory(rt));
+    }
+
+    /**
+     * Tests clear removes every resource.
+     */
+    @Test
+    void testClear() {
+        TestResourcesType rt = new TestResourcesType("Rubber", 10, 2, 2);
+        inventory.addResource(new TestResource(rt, 4));
+        inventory.clear();
+        assertTrue(inventory.getAllResources().isEmpty());
+        assertFalse(inventory.existsResourceInInventory(rt));
+        assertEquals(0, inventory.getTotalQuantity());
+    }
+
+    /**
+     * Tests an inventory keeps its resources after being serialized.
+     */
+    @Test
+    void testSerialization() throws Exception {
+        ResourcesType rt1 = new ResourcesType("Glass", 10, 2, 2);
+        ResourcesType rt2 = new ResourcesType("Sand", 10, 2, 2);
+        inventory.addResource(new Resource(rt1, 3));
+        inventory.addResource(new Resource(rt2, 5));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(inventory);
+        }
+        Inventory copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Inventory) in.readObject();
+        }
+
+        assertEquals(3, copy.getResourceQuantity("Glass"));
+        assertEquals(5, copy.getResourceQuantity("Sand"));
+        assertEquals(8, copy.getTotalQuantity());
+        assertEquals("Glass", copy.getAllResources().get(0).getResourceType().getName());
+    }
 }
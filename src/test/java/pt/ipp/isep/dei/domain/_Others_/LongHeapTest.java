@@ -0,0 +1,61 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LongHeap} class.
+ */
+class LongHeapTest {
+
+    /**
+     * Tests keys are popped from the smallest to the largest, growing past the initial capacity.
+     */
+    @Test
+    void testPopsInOrder() {
+        LongHeap heap = new LongHeap(2);
+        long[] keys = new Random(3).longs(200, 0, 1000).toArray();
+        for (long key : keys) {
+            heap.push(key);
+        }
+        assertEquals(200, heap.size());
+
+        long last = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long key = heap.pop();
+            assertTrue(key >= last);
+            last = key;
+        }
+    }
+
+    /**
+     * Tests keys are ordered by priority and then by tie-breaker.
+     */
+    @Test
+    void testKeyOrdering() {
+        LongHeap heap = new LongHeap(4);
+        heap.push(LongHeap.key(5, 1));
+        heap.push(LongHeap.key(3, 9));
+        heap.push(LongHeap.key(3, 2));
+
+        assertEquals(2, LongHeap.tieBreaker(heap.pop()));
+        assertEquals(9, LongHeap.tieBreaker(heap.pop()));
+        assertEquals(1, LongHeap.tieBreaker(heap.pop()));
+    }
+
+    /**
+     * Tests clearing the heap and popping an empty heap.
+     */
+    @Test
+    void testClearAndPopEmpty() {
+        LongHeap heap = new LongHeap(0);
+        heap.push(1);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertThrows(IllegalStateException.class, heap::pop);
+        assertThrows(IllegalArgumentException.class, () -> new LongHeap(-1));
+    }
+}
@@ -0,0 +1,56 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ShortestPathTree} class.
+ */
+class ShortestPathTreeTest {
+
+    /**
+     * Tests paths, distances and predecessors of reachable vertices.
+     */
+    @Test
+    void testReachable() {
+        SparseGraph graph = new SparseGraph(4, new int[]{0, 1, 1, 2}, new int[]{4, 6});
+
+        ShortestPathTree tree = graph.findShortestPaths(0);
+
+        assertEquals(0, tree.getSource());
+        assertTrue(tree.isReachable(2));
+        assertEquals(10, tree.getDistance(2));
+        assertEquals(1, tree.getPrevious(2));
+        assertEquals(-1, tree.getPrevious(0));
+        assertArrayEquals(new int[]{0}, tree.getPath(0));
+        assertArrayEquals(new int[]{0, 1, 2}, tree.getPath(2));
+    }
+
+    /**
+     * Tests vertices not reached have no distance and no path.
+     */
+    @Test
+    void testNotReachable() {
+        SparseGraph graph = new SparseGraph(4, new int[]{0, 1, 1, 2}, new int[]{4, 6});
+
+        ShortestPathTree tree = graph.findShortestPaths(0);
+
+        assertFalse(tree.isReachable(3));
+        assertEquals(-1, tree.getDistance(3));
+        assertEquals(0, tree.getPath(3).length);
+    }
+
+    /**
+     * Tests a search stopped at a target does not report the vertices farther than it.
+     */
+    @Test
+    void testStoppedAtTarget() {
+        SparseGraph graph = new SparseGraph(3, new int[]{0, 1, 1, 2}, new int[]{1, 1});
+
+        ShortestPathTree tree = graph.findShortestPaths(0, 1);
+
+        assertTrue(tree.isReachable(1));
+        assertFalse(tree.isReachable(2));
+    }
+}
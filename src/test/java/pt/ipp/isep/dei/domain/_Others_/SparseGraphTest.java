@@ -0,0 +1,110 @@
+package pt.ipp.isep.dei.domain._Others_;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SparseGraph} class.
+ */
+class SparseGraphTest {
+
+    /**
+     * Tests neighbours are sorted and degrees count each neighbour once.
+     */
+    @Test
+    void testNeighbors() {
+        SparseGraph graph = new SparseGraph(4, new int[]{2, 0, 0, 1, 1, 0, 3, 3});
+
+        assertEquals(4, graph.getVertexCount());
+        assertEquals(2, graph.getDegree(0));
+        assertEquals(1, graph.getNeighbor(graph.getFirstNeighbor(0)));
+        assertEquals(2, graph.getNeighbor(graph.getFirstNeighbor(0) + 1));
+        assertEquals(1, graph.getDegree(1));
+        assertEquals(1, graph.getDegree(3));
+        assertTrue(graph.isAdjacent(3, 3));
+        assertTrue(graph.isAdjacent(2, 0));
+        assertFalse(graph.isAdjacent(1, 2));
+    }
+
+    /**
+     * Tests the adjacency matrix has a 1 for each pair of adjacent vertices.
+     */
+    @Test
+    void testToAdjacencyMatrix() {
+        SparseGraph graph = new SparseGraph(3, new int[]{0, 1, 1, 0, 2, 2});
+
+        assertArrayEquals(new int[][]{{0, 1, 0}, {1, 0, 0}, {0, 0, 1}}, graph.toAdjacencyMatrix());
+    }
+
+    /**
+     * Tests repeated edges keep the lightest weight and edges of a graph without weights weigh 1.
+     */
+    @Test
+    void testWeights() {
+        SparseGraph graph = new SparseGraph(3, new int[]{0, 1, 1, 2, 1, 0}, new int[]{5, 3, 7});
+
+        assertEquals(3, graph.getVertexCount());
+        assertEquals(2, graph.getDegree(1));
+        assertEquals(5, graph.getWeight(0, 1));
+        assertEquals(5, graph.getWeight(1, 0));
+        assertEquals(3, graph.getWeight(2, 1));
+        assertEquals(-1, graph.getWeight(0, 2));
+        assertEquals(0, graph.getNeighbor(graph.getFirstNeighbor(1)));
+        assertEquals(5, graph.getNeighborWeight(graph.getFirstNeighbor(1)));
+        assertEquals(1, new SparseGraph(2, new int[]{0, 1}).getWeight(1, 0));
+    }
+
+    /**
+     * Tests the reachable vertices include the source and its component only.
+     */
+    @Test
+    void testFindReachable() {
+        SparseGraph graph = new SparseGraph(5, new int[]{0, 1, 1, 2, 3, 4});
+
+        assertArrayEquals(new boolean[]{true, true, true, false, false}, graph.findReachable(2));
+        assertArrayEquals(new boolean[]{false, false, false, true, true}, graph.findReachable(3));
+    }
+
+    /**
+     * Tests the shortest path prefers the lighter route and, between equal routes, the one through the vertex settled first.
+     */
+    @Test
+    void testFindShortestPaths() {
+        SparseGraph graph = new SparseGraph(5,
+                new int[]{0, 1, 1, 4, 0, 2, 2, 4, 0, 3, 3, 4},
+                new int[]{2, 2, 1, 3, 1, 5});
+
+        ShortestPathTree tree = graph.findShortestPaths(0);
+
+        assertEquals(4, tree.getDistance(4));
+        assertArrayEquals(new int[]{0, 2, 4}, tree.getPath(4));
+        assertEquals(0, tree.getDistance(0));
+    }
+
+    /**
+     * Tests the shortest paths of a graph without weights take the fewest edges.
+     */
+    @Test
+    void testFindShortestPathsWithoutWeights() {
+        SparseGraph graph = new SparseGraph(4, new int[]{0, 1, 1, 2, 2, 3, 0, 3});
+
+        ShortestPathTree tree = graph.findShortestPaths(0);
+
+        assertEquals(1, tree.getDistance(3));
+        assertEquals(2, tree.getDistance(2));
+        assertArrayEquals(new int[]{0, 1, 2}, tree.getPath(2));
+    }
+
+    /**
+     * Tests invalid vertex counts, edges and weights are rejected.
+     */
+    @Test
+    void testInvalidGraph() {
+        assertThrows(IllegalArgumentException.class, () -> new SparseGraph(-1, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGraph(2, new int[]{0}));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGraph(2, new int[]{0, 2}));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGraph(2, new int[]{0, 1}, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> new SparseGraph(2, new int[]{0, 1}, new int[]{-1}));
+    }
+}